@@ -24,15 +24,20 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.MalformedURLException;
 import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.apache.maven.artifact.Artifact;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.artifact.resolver.filter.ArtifactFilter;
 import org.apache.maven.artifact.resolver.filter.IncludesArtifactFilter;
 import org.apache.maven.execution.MavenSession;
@@ -53,6 +58,8 @@ import org.apache.maven.tools.plugin.extractor.ExtractionException;
 import org.apache.maven.tools.plugin.generator.GeneratorException;
 import org.apache.maven.tools.plugin.generator.GeneratorUtils;
 import org.apache.maven.tools.plugin.generator.PluginDescriptorFilesGenerator;
+import org.apache.maven.tools.plugin.javadoc.ExternalJavadocSites;
+import org.apache.maven.tools.plugin.javadoc.JavadocHttpClient;
 import org.apache.maven.tools.plugin.scanner.MojoScanner;
 import org.codehaus.plexus.component.repository.ComponentDependency;
 import org.codehaus.plexus.util.ReaderFactory;
@@ -86,6 +93,8 @@ import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
     private static final String VALUE_AUTO = "auto";
 
+    private static final String BINDERS_INDEX = "mojo-binders.properties";
+
     /**
      * The directory where the generated <code>plugin.xml</code> file will be put.
      */
@@ -148,6 +157,17 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
     @Parameter
     private Set<String> extractors;
 
+    /**
+     * Whether to execute the {@link #extractors} concurrently. This is only worthwhile if several extractors find
+     * mojos, e.g. custom extractors scanning different sources. Extractors requiring sequential execution (like the
+     * deprecated scripting ones) are still executed on their own. The resulting plugin descriptor is the same
+     * in either case.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.parallelExtraction", defaultValue = "false")
+    private boolean parallelExtraction;
+
     /**
      * A set of root directories to exclude from being scanned, if the extractor scans source directories
      * to obtain metadata.
@@ -246,6 +266,8 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
      * See <a href="https://docs.oracle.com/en/java/javase/17/docs/specs/man/javadoc.html#standard-doclet-options">
      * link option of the javadoc tool</a>.
      * Using this parameter requires connectivity to the given URLs during the goal execution.
+     * The only exception are the JDK API sites at {@code docs.oracle.com} for JDK 8 to 15, 17 and 21,
+     * whose package lists are bundled with this plugin.
      * @since 3.7.0
      */
     @Parameter(property = "externalJavadocBaseUrls", alias = "links")
@@ -309,6 +331,79 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
     @Parameter(defaultValue = VALUE_AUTO)
     String requiredMavenVersion;
 
+    /**
+     * Whether to write the plugin descriptors in a compact binary format in addition to XML, i.e.
+     * {@code META-INF/maven/plugin.bin} next to {@code plugin.xml} and {@code plugin-enhanced.bin} in the build
+     * directory. The latter is preferably read by the Plugin Report, as loading it does not involve XML parsing.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.compactDescriptor", defaultValue = "false")
+    private boolean compactDescriptor;
+
+    /**
+     * Whether to pass the enhanced plugin descriptor to the Plugin Report executed later within the same build
+     * in memory, so that the report does not read {@code plugin-enhanced.xml} from disk. This serializes the
+     * descriptor once more (unless {@link #compactDescriptor} is enabled anyway) and keeps it in memory until the
+     * end of the build.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.publishEnhancedDescriptor", defaultValue = "false")
+    private boolean publishEnhancedDescriptor;
+
+    /**
+     * Whether to write the Sisu index {@code META-INF/sisu/javax.inject.Named} listing all classes annotated with
+     * {@code javax.inject.Named} or {@code jakarta.inject.Named}. This allows Maven 3 to discover the plugin's
+     * JSR-330 components without scanning the plugin's classes at runtime and replaces the {@code main-index} goal
+     * of the {@code sisu-maven-plugin}. The classes are taken from the annotation scan of the extractors.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.sisuIndex", defaultValue = "false")
+    private boolean sisuIndex;
+
+    /**
+     * Whether to generate a binder class per mojo, which assigns the mojo's parameters and components from already
+     * converted values without reflection. The binders are registered in {@code mojo-binders.properties} in the
+     * {@link #outputDirectory}, which maps each mojo class to its binder class followed by the names it binds.
+     * Parameters and components which are not accessible from the mojo's package (e.g. private fields without a
+     * public setter) are not bound and still need to be assigned by reflection.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.generateBinders", defaultValue = "false")
+    private boolean generateBinders;
+
+    /**
+     * Skips the generation in case none of its inputs changed since the last execution. The inputs comprise the
+     * content of the class files (including the previously generated ones), the source and script files,
+     * the project's dependencies (including their scope), this goal's configuration and the version of this plugin.
+     * Their fingerprint is stored in {@link #inputsFingerprintFile}.
+     * Inputs not covered by the fingerprint (e.g. the content of external javadoc sites) are not detected,
+     * therefore this is disabled by default.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.skipIfUpToDate", defaultValue = "false")
+    private boolean skipIfUpToDate;
+
+    /**
+     * The file containing the fingerprint of the inputs of the last successful execution.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(
+            defaultValue = "${project.build.directory}/maven-plugin-plugin/descriptor-inputs.sha256",
+            readonly = true)
+    private File inputsFingerprintFile;
+
+    /**
+     * The descriptor of this plugin, used to detect changes of the plugin (tools) version.
+     */
+    @Parameter(defaultValue = "${plugin}", readonly = true)
+    private PluginDescriptor plugin;
+
     private final MavenSession mavenSession;
 
     /**
@@ -318,6 +413,12 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
 
     protected final BuildContext buildContext;
 
+    /** The fingerprint of the inputs calculated before the generation, only if {@link #skipIfUpToDate} is set. */
+    private InputsFingerprint inputsFingerprint;
+
+    /** The class files and indexes written or deleted by the generation, except for those in the output directory. */
+    private final Set<Path> generatedPaths = new LinkedHashSet<>();
+
     @Inject
     public DescriptorGeneratorMojo(
             MavenProject project, MavenSession mavenSession, MojoScanner mojoScanner, BuildContext buildContext) {
@@ -343,6 +444,20 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
             return;
         }
 
+        if (skipIfUpToDate && isUpToDate()) {
+            getLog().info("Plugin descriptor is up-to-date, generation skipped");
+            return;
+        }
+
+        // the HTTP clients are kept open for the whole generation, including the background retrieval of javadoc sites
+        try (JavadocHttpClient.Scope javadocHttpClientScope = JavadocHttpClient.openScope()) {
+            generateDescriptor(javadocHttpClientScope);
+        } catch (IOException e) {
+            getLog().debug("Unable to close the HTTP clients for javadoc sites: " + e.getMessage());
+        }
+    }
+
+    private void generateDescriptor(JavadocHttpClient.Scope javadocHttpClientScope) throws MojoExecutionException {
         if (checkExpectedProvidedScope) {
             Set<Artifact> wrongScopedArtifacts = dependenciesNotInProvidedScope();
             if (!wrongScopedArtifacts.isEmpty()) {
@@ -388,6 +503,9 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
             throw new MojoExecutionException("Given parameter 'internalJavadocBaseUrl' must end with a slash but is '"
                     + internalJavadocBaseUrl + "'");
         }
+        // retrieving the external javadoc sites does not depend on the extraction, so let it happen in the background
+        ExternalJavadocSites externalJavadocSites =
+                ExternalJavadocSites.loadAsync(externalJavadocBaseUrls, mavenSession.getSettings());
         try {
             List<ComponentDependency> deps = GeneratorUtils.toComponentDependencies(project.getArtifacts());
             pluginDescriptor.setDependencies(deps);
@@ -395,12 +513,13 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
             PluginToolsRequest request = new DefaultPluginToolsRequest(project, pluginDescriptor);
             request.setEncoding(encoding);
             request.setSkipErrorNoDescriptorsFound(skipErrorNoDescriptorsFound);
+            request.setParallelExtraction(parallelExtraction);
             request.setDependencies(filterMojoDependencies());
             request.setRepoSession(mavenSession.getRepositorySession());
             request.setInternalJavadocBaseUrl(internalJavadocBaseUrl);
             request.setInternalJavadocVersion(internalJavadocVersion);
-            request.setExternalJavadocBaseUrls(externalJavadocBaseUrls);
             request.setSettings(mavenSession.getSettings());
+            request.setExternalJavadocSites(externalJavadocSites);
             request.setExcludedScanDirectories(excludedScanDirectories);
 
             mojoScanner.populatePluginDescriptor(request);
@@ -408,16 +527,31 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
 
             outputDirectory.mkdirs();
 
-            PluginDescriptorFilesGenerator pluginDescriptorGenerator = new PluginDescriptorFilesGenerator();
+            PluginDescriptorFilesGenerator pluginDescriptorGenerator =
+                    new PluginDescriptorFilesGenerator()
+                            .setCompactDescriptors(compactDescriptor)
+                            .setPublishEnhancedDescriptor(publishEnhancedDescriptor);
             pluginDescriptorGenerator.execute(outputDirectory, request);
 
             // Generate the additional factories for v4 mojos
-            generateFactories(request.getPluginDescriptor());
+            Set<String> factoryClassNames = generateFactories(request.getPluginDescriptor());
 
             // Generate index for v4 beans
-            generateIndex();
+            generateIndex(request.getDiBeanClassNames(), factoryClassNames);
+
+            if (sisuIndex) {
+                generateSisuIndex(request.getSisuComponentClassNames());
+            }
+
+            generateBinders(request.getPluginDescriptor());
 
             buildContext.refresh(outputDirectory);
+            logJavadocHttpStatistics(javadocHttpClientScope);
+
+            if (skipIfUpToDate) {
+                // the fingerprint includes the generated files, therefore update it once they are written
+                writeInputsFingerprint();
+            }
         } catch (GeneratorException e) {
             throw new MojoExecutionException("Error writing plugin descriptor", e);
         } catch (InvalidPluginDescriptorException | ExtractionException e) {
@@ -429,88 +563,354 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
                             + " Please check the plugin dependencies configured"
                             + " in the POM and ensure the versions match.",
                     e);
+        } finally {
+            // no retrieval must outlive the scope of the HTTP clients
+            externalJavadocSites.close();
         }
     }
 
-    private void generateIndex() throws GeneratorException {
+    private boolean isUpToDate() throws MojoExecutionException {
+        Path manifest = inputsFingerprintFile.toPath();
         try {
-            Set<String> diBeans = new TreeSet<>();
-            try (Stream<Path> paths = Files.walk(classesOutputDirectory.toPath())) {
-                List<Path> classes = paths.filter(
-                                p -> p.getFileName().toString().endsWith(".class"))
-                        .collect(Collectors.toList());
-                for (Path classFile : classes) {
-                    String fileString = classFile.toString();
-                    String className = fileString
-                            .substring(0, fileString.length() - ".class".length())
-                            .replace('/', '.');
-                    try (InputStream is = Files.newInputStream(classFile)) {
-                        ClassReader rdr = new ClassReader(is);
-                        rdr.accept(
-                                new ClassVisitor(Opcodes.ASM9) {
-                                    String className;
-
-                                    @Override
-                                    public void visit(
-                                            int version,
-                                            int access,
-                                            String name,
-                                            String signature,
-                                            String superName,
-                                            String[] interfaces) {
-                                        super.visit(version, access, name, signature, superName, interfaces);
-                                        className = name;
-                                    }
+            inputsFingerprint = computeInputsFingerprint();
+            Set<String> changedInputs = inputsFingerprint.getChangedInputs(manifest);
+            if (changedInputs == null) {
+                return false;
+            }
+            if (changedInputs.isEmpty()) {
+                return true;
+            }
+            if (getLog().isDebugEnabled()) {
+                getLog().debug("Inputs changed since the last plugin descriptor generation: " + changedInputs);
+            }
+            // a failed generation must not leave the fingerprint of its predecessor behind
+            Files.delete(manifest);
+            return false;
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to determine whether the plugin descriptor is up-to-date", e);
+        }
+    }
 
-                                    @Override
-                                    public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
-                                        if ("Lorg/apache/maven/api/di/Named;".equals(descriptor)) {
-                                            diBeans.add(className.replace('/', '.'));
-                                        }
-                                        return null;
-                                    }
-                                },
-                                ClassReader.SKIP_FRAMES | ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG);
-                    }
-
-                    //                    Class<?> clazz = project.getClassRealm().loadClass(className);
-                    //                    boolean hasQualifier = Stream.of(clazz.getAnnotations())
-                    //                            .flatMap(ann -> Stream.of(ann.getClass().getAnnotations()))
-                    //                            .anyMatch(ann -> "org.apache.maven.api.di.Qualifier"
-                    //                                    .equals(ann.annotationType().getName()));
-                    //                    if (hasQualifier) {
-                    //                        diBeans.add(className);
-                    //                    }
-                }
+    /**
+     * Stores the fingerprint calculated by {@link #isUpToDate()}, updated with the files the generation has written.
+     */
+    private void writeInputsFingerprint() throws MojoExecutionException {
+        try {
+            updateInputsFingerprint(outputDirectory.toPath());
+            for (Path generatedPath : generatedPaths) {
+                updateInputsFingerprint(generatedPath);
             }
-            Path path = outputDirectory.toPath().resolve("org.apache.maven.api.di.Inject");
-            if (diBeans.isEmpty()) {
-                Files.deleteIfExists(path);
+            inputsFingerprint.write(inputsFingerprintFile.toPath());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Unable to write " + inputsFingerprintFile, e);
+        }
+    }
+
+    /**
+     * Updates the given path in the fingerprint, unless it is outside of the classes output directory, in which case
+     * it is no input of subsequent executions.
+     */
+    private void updateInputsFingerprint(Path path) throws IOException {
+        Path classes = classesOutputDirectory.toPath().toAbsolutePath().normalize();
+        Path absolutePath = path.toAbsolutePath().normalize();
+        if (absolutePath.startsWith(classes)) {
+            String relativePath = classes.relativize(absolutePath).toString().replace('\\', '/');
+            inputsFingerprint.updatePath(relativePath.isEmpty() ? "classes" : "classes/" + relativePath, path);
+        }
+    }
+
+    private InputsFingerprint computeInputsFingerprint() throws IOException {
+        InputsFingerprint fingerprint = new InputsFingerprint();
+        fingerprint.addValue("plugin", plugin != null ? plugin.getId() : null);
+        if (plugin != null && plugin.getArtifacts() != null) {
+            fingerprint.addValue(
+                    "plugin.artifacts",
+                    plugin.getArtifacts().stream().map(Artifact::getId).collect(Collectors.toList()));
+        }
+        fingerprint.addValue("project", project.getId());
+        fingerprint.addValue("project.name", project.getName());
+        fingerprint.addValue("project.description", project.getDescription());
+        fingerprint.addValue(
+                "project.prerequisites",
+                project.getPrerequisites() != null ? project.getPrerequisites().getMaven() : null);
+        fingerprint.addValue("goalPrefix", goalPrefix);
+        fingerprint.addValue("outputDirectory", outputDirectory);
+        fingerprint.addValue("classesOutputDirectory", classesOutputDirectory);
+        fingerprint.addValue("project.build.directory", project.getBuild().getDirectory());
+        fingerprint.addValue("project.build.outputDirectory", project.getBuild().getOutputDirectory());
+        fingerprint.addValue("encoding", encoding);
+        fingerprint.addValue("extractors", extractors != null ? new TreeSet<>(extractors) : null);
+        fingerprint.addValue("excludedScanDirectories", new TreeSet<>(excludedScanDirectories));
+        fingerprint.addValue("skipErrorNoDescriptorsFound", skipErrorNoDescriptorsFound);
+        fingerprint.addValue("checkExpectedProvidedScope", checkExpectedProvidedScope);
+        fingerprint.addValue("expectedProvidedScopeGroupIds", expectedProvidedScopeGroupIds);
+        fingerprint.addValue("expectedProvidedScopeExclusions", expectedProvidedScopeExclusions);
+        fingerprint.addValue("mojoDependencies", mojoDependencies);
+        fingerprint.addValue("externalJavadocBaseUrls", externalJavadocBaseUrls);
+        fingerprint.addValue("internalJavadocBaseUrl", internalJavadocBaseUrl);
+        fingerprint.addValue("internalJavadocVersion", internalJavadocVersion);
+        fingerprint.addValue("requiredJavaVersion", requiredJavaVersion);
+        fingerprint.addValue("requiredMavenVersion", requiredMavenVersion);
+        fingerprint.addValue("compactDescriptor", compactDescriptor);
+        fingerprint.addValue("sisuIndex", sisuIndex);
+        fingerprint.addValue("generateBinders", generateBinders);
+
+        for (Artifact artifact : project.getArtifacts()) {
+            // the scope decides whether the artifact is listed in the descriptor's dependencies
+            String key = "dependency:" + artifact.getId() + ":" + artifact.getScope()
+                    + (artifact.isOptional() ? ":optional" : "");
+            // released artifacts are immutable, so only the content of snapshots and reactor modules is relevant
+            if (artifact.getFile() != null && (artifact.isSnapshot() || artifact.getFile().isDirectory())) {
+                fingerprint.addPath(key, artifact.getFile().toPath());
             } else {
-                String nl = System.lineSeparator();
-                try (CachingWriter w = new CachingWriter(path, StandardCharsets.UTF_8)) {
-                    String content = diBeans.stream().collect(Collectors.joining(nl, "", nl));
-                    w.write(content);
-                }
+                fingerprint.addValue(key, artifact.getFile());
             }
+        }
+        for (String sourceRoot : project.getCompileSourceRoots()) {
+            fingerprint.addPath("source:" + sourceRoot, Paths.get(sourceRoot));
+        }
+        for (String scriptSourceRoot : project.getScriptSourceRoots()) {
+            // relative script source roots are resolved against the base directory by the scripted extractors
+            fingerprint.addPath(
+                    "script:" + scriptSourceRoot, project.getBasedir().toPath().resolve(scriptSourceRoot));
+        }
+        fingerprint.addPath("classes", classesOutputDirectory.toPath());
+        return fingerprint;
+    }
+
+    private void logJavadocHttpStatistics(JavadocHttpClient.Scope javadocHttpClientScope) {
+        JavadocHttpClient.Statistics statistics = javadocHttpClientScope.getStatistics();
+        if (statistics.getRequestCount() > 0) {
+            getLog().info("Accessed external javadoc sites with " + statistics);
+        }
+    }
+
+    /**
+     * @param scannedDiBeans the DI beans found by the extractors or {@code null} if no extractor scanned the classes,
+     * in which case the classes output directory is scanned
+     * @param factoryClassNames the class names of the generated factories
+     */
+    private void generateIndex(Set<String> scannedDiBeans, Set<String> factoryClassNames) throws GeneratorException {
+        try {
+            Set<String> diBeans = new TreeSet<>(factoryClassNames);
+            if (scannedDiBeans != null) {
+                diBeans.addAll(scannedDiBeans);
+            } else {
+                diBeans.addAll(scanAnnotatedClasses(Collections.singleton("Lorg/apache/maven/api/di/Named;"), false));
+            }
+            writeIndex(outputDirectory.toPath().resolve("org.apache.maven.api.di.Inject"), diBeans);
         } catch (Exception e) {
             throw new GeneratorException("Unable to generate index for v4 beans", e);
         }
     }
 
-    private void generateFactories(PluginDescriptor pd) throws GeneratorException {
+    /**
+     * @param scannedComponents the JSR-330 components found by the extractors or {@code null} if no extractor scanned
+     * the classes, in which case the classes output directory is scanned
+     */
+    private void generateSisuIndex(Set<String> scannedComponents) throws GeneratorException {
+        try {
+            Set<String> components = scannedComponents;
+            if (components == null) {
+                // like Sisu's own index, only concrete classes are components
+                components = scanAnnotatedClasses(
+                        Arrays.asList("Ljavax/inject/Named;", "Ljakarta/inject/Named;"), true);
+            }
+            Path index = classesOutputDirectory.toPath().resolve("META-INF/sisu/javax.inject.Named");
+            writeIndex(index, components);
+            generatedPaths.add(index);
+        } catch (Exception e) {
+            throw new GeneratorException("Unable to generate Sisu index", e);
+        }
+    }
+
+    /**
+     * Writes the entries (usually class names) sorted one per line (only if they differ from the current content) or
+     * deletes the index if there are none.
+     */
+    private static void writeIndex(Path path, Set<String> entries) throws IOException {
+        if (entries.isEmpty()) {
+            Files.deleteIfExists(path);
+        } else {
+            Files.createDirectories(path.getParent());
+            String nl = System.lineSeparator();
+            try (CachingWriter w = new CachingWriter(path, StandardCharsets.UTF_8)) {
+                String content = new TreeSet<>(entries).stream().collect(Collectors.joining(nl, "", nl));
+                w.write(content);
+            }
+        }
+    }
+
+    /**
+     * @param annotationDescriptors the type descriptors of the annotations to look for
+     * @param concreteOnly {@code true} to skip abstract classes and interfaces
+     * @return the names of the classes in the classes output directory annotated with one of the given annotations
+     */
+    private Set<String> scanAnnotatedClasses(Collection<String> annotationDescriptors, boolean concreteOnly)
+            throws IOException {
+        Set<String> classNames = new TreeSet<>();
+        try (Stream<Path> paths = Files.walk(classesOutputDirectory.toPath())) {
+            List<Path> classes = paths.filter(
+                            p -> p.getFileName().toString().endsWith(".class"))
+                    .collect(Collectors.toList());
+            for (Path classFile : classes) {
+                String fileString = classFile.toString();
+                String className = fileString
+                        .substring(0, fileString.length() - ".class".length())
+                        .replace('/', '.');
+                try (InputStream is = Files.newInputStream(classFile)) {
+                    ClassReader rdr = new ClassReader(is);
+                    rdr.accept(
+                            new ClassVisitor(Opcodes.ASM9) {
+                                String className;
+
+                                boolean concrete;
+
+                                @Override
+                                public void visit(
+                                        int version,
+                                        int access,
+                                        String name,
+                                        String signature,
+                                        String superName,
+                                        String[] interfaces) {
+                                    super.visit(version, access, name, signature, superName, interfaces);
+                                    className = name;
+                                    concrete = (access & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE)) == 0;
+                                }
+
+                                @Override
+                                public AnnotationVisitor visitAnnotation(String descriptor, boolean visible) {
+                                    if (annotationDescriptors.contains(descriptor) && (concrete || !concreteOnly)) {
+                                        classNames.add(className.replace('/', '.'));
+                                    }
+                                    return null;
+                                }
+                            },
+                            ClassReader.SKIP_FRAMES | ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG);
+                }
+
+                //                    Class<?> clazz = project.getClassRealm().loadClass(className);
+                //                    boolean hasQualifier = Stream.of(clazz.getAnnotations())
+                //                            .flatMap(ann -> Stream.of(ann.getClass().getAnnotations()))
+                //                            .anyMatch(ann -> "org.apache.maven.api.di.Qualifier"
+                //                                    .equals(ann.annotationType().getName()));
+                //                    if (hasQualifier) {
+                //                        diBeans.add(className);
+                //                    }
+            }
+        }
+        return classNames;
+    }
+
+    /**
+     * @return the class names of the generated factories
+     */
+    private Set<String> generateFactories(PluginDescriptor pd) throws GeneratorException {
         try {
+            Set<String> factoryClassNames = new TreeSet<>();
             for (MojoDescriptor md : pd.getMojos()) {
                 if (md instanceof ExtendedMojoDescriptor && ((ExtendedMojoDescriptor) md).isV4Api()) {
-                    generateFactory(md);
+                    factoryClassNames.add(generateFactory(md));
                 }
             }
+            return factoryClassNames;
         } catch (IOException e) {
             throw new GeneratorException("Unable to generate factories for v4 mojos", e);
         }
     }
 
-    private void generateFactory(MojoDescriptor md) throws IOException {
+    /**
+     * Generates the binders if enabled, otherwise removes the index of a previous execution. In both cases the binder
+     * classes of a previous execution which are not generated any longer are deleted.
+     */
+    private void generateBinders(PluginDescriptor pd) throws GeneratorException {
+        Path index = outputDirectory.toPath().resolve(BINDERS_INDEX);
+        try {
+            // the binders of the last execution, those which are not generated again are deleted
+            Set<String> staleBinders = readBinderClassNames(index);
+            if (generateBinders) {
+                // the class path is used to look up setters inherited from super classes of dependencies
+                try (URLClassLoader classPath = new URLClassLoader(getCompileClassPathUrls(), null)) {
+                    staleBinders.removeAll(writeBinders(pd, index, classPath));
+                }
+            } else {
+                Files.deleteIfExists(index);
+            }
+            for (String staleBinder : staleBinders) {
+                getLog().debug("Deleting stale binder " + staleBinder);
+                Path binderFile = classesOutputDirectory.toPath().resolve(staleBinder.replace('.', '/') + ".class");
+                Files.deleteIfExists(binderFile);
+                generatedPaths.add(binderFile);
+            }
+        } catch (IOException | DependencyResolutionRequiredException e) {
+            throw new GeneratorException("Unable to generate binders for mojos", e);
+        }
+    }
+
+    private URL[] getCompileClassPathUrls() throws DependencyResolutionRequiredException, MalformedURLException {
+        List<String> classPathElements = project.getCompileClasspathElements();
+        URL[] urls = new URL[classPathElements.size()];
+        for (int i = 0; i < urls.length; i++) {
+            urls[i] = new File(classPathElements.get(i)).toURI().toURL();
+        }
+        return urls;
+    }
+
+    /**
+     * @return the class names of the binders listed in the given index, empty if it does not exist
+     */
+    private static Set<String> readBinderClassNames(Path index) throws IOException {
+        Set<String> binderClassNames = new HashSet<>();
+        if (Files.isRegularFile(index)) {
+            for (String line : Files.readAllLines(index, StandardCharsets.UTF_8)) {
+                // <mojo class>=<binder class> <bound names>
+                int start = line.indexOf('=') + 1;
+                int end = line.indexOf(' ', start);
+                if (start > 0) {
+                    binderClassNames.add(end < 0 ? line.substring(start) : line.substring(start, end));
+                }
+            }
+        }
+        return binderClassNames;
+    }
+
+    /**
+     * @return the class names of the written binders
+     */
+    private Set<String> writeBinders(PluginDescriptor pd, Path index, ClassLoader classPath) throws IOException {
+        Set<String> binderClassNames = new HashSet<>();
+        MojoBinderGenerator generator = new MojoBinderGenerator(classesOutputDirectory.toPath(), classPath);
+        Set<String> entries = new TreeSet<>();
+        for (MojoDescriptor md : pd.getMojos()) {
+            Set<String> names = new LinkedHashSet<>();
+            if (md.getParameters() != null) {
+                md.getParameters().forEach(p -> names.add(p.getName()));
+            }
+            if (md.getRequirements() != null) {
+                md.getRequirements().forEach(r -> names.add(r.getFieldName()));
+            }
+            MojoBinderGenerator.Binder binder = generator.generate(md.getImplementation(), names);
+            if (binder == null) {
+                getLog().debug("No parameter of " + md.getImplementation() + " can be bound without reflection");
+                continue;
+            }
+            getLog().debug("Generating binder for " + md.getImplementation());
+            Path binderFile =
+                    classesOutputDirectory.toPath().resolve(binder.getClassName().replace('.', '/') + ".class");
+            try (OutputStream os = new CachingOutputStream(binderFile)) {
+                os.write(binder.getBytes());
+            }
+            generatedPaths.add(binderFile);
+            binderClassNames.add(binder.getClassName());
+            entries.add(md.getImplementation() + "=" + binder.getClassName() + " "
+                    + String.join(",", binder.getBoundNames()));
+        }
+        writeIndex(index, entries);
+        return binderClassNames;
+    }
+
+    private String generateFactory(MojoDescriptor md) throws IOException {
         String mojoClassName = md.getImplementation();
         String packageName = mojoClassName.substring(0, mojoClassName.lastIndexOf('.'));
         String generatorClassName = mojoClassName.substring(mojoClassName.lastIndexOf('.') + 1) + "Factory";
@@ -520,11 +920,14 @@ public class DescriptorGeneratorMojo extends AbstractGeneratorMojo {
 
         byte[] bin = computeGeneratorClassBytes(packageName, generatorClassName, mojoName, mojoClassName);
 
-        try (OutputStream os = new CachingOutputStream(classesOutputDirectory
+        Path factoryFile = classesOutputDirectory
                 .toPath()
-                .resolve(packageName.replace('.', '/') + "/" + generatorClassName + ".class"))) {
+                .resolve(packageName.replace('.', '/') + "/" + generatorClassName + ".class");
+        try (OutputStream os = new CachingOutputStream(factoryFile)) {
             os.write(bin);
         }
+        generatedPaths.add(factoryFile);
+        return packageName + "." + generatorClassName;
     }
 
     static byte[] computeGeneratorClassBytes(
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Fingerprint of all inputs of a goal execution, i.e. the SHA-256 hashes of files and configuration values.
+ * It is stored in a manifest file (in the format of {@code sha256sum}) to decide whether a subsequent execution
+ * would produce the same outputs.
+ *
+ * @since 4.0.0
+ */
+final class InputsFingerprint {
+
+    private static final int HASH_LENGTH = 64;
+
+    private static final String SEPARATOR = "  ";
+
+    /** The hash per input key, sorted by key to get a stable manifest. */
+    private final Map<String, String> hashes = new TreeMap<>();
+
+    /**
+     * Adds a configuration value.
+     *
+     * @param key the unique key of the value
+     * @param value the value, may be {@code null}
+     */
+    void addValue(String key, Object value) {
+        MessageDigest digest = newDigest();
+        digest.update(String.valueOf(value).getBytes(UTF_8));
+        hashes.put(key, toHex(digest.digest()));
+    }
+
+    /**
+     * Adds the content of a file or of all files below a directory. Nothing is added for non-existing paths.
+     *
+     * @param key the unique key of the path, the keys of files below a directory are suffixed with their relative path
+     * @param path the file or directory
+     * @throws IOException in case the content could not be read
+     */
+    void addPath(String key, Path path) throws IOException {
+        if (Files.isDirectory(path)) {
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(path)) {
+                files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                hashes.put(key + "/" + path.relativize(file).toString().replace('\\', '/'), hash(file));
+            }
+        } else if (Files.isRegularFile(path)) {
+            hashes.put(key, hash(path));
+        }
+    }
+
+    /**
+     * Replaces the content previously added for a path (or a file below a directory added before), e.g. once it has
+     * been modified. Entries of files which do not exist any longer are removed.
+     *
+     * @param key the key of the path
+     * @param path the file or directory
+     * @throws IOException in case the content could not be read
+     */
+    void updatePath(String key, Path path) throws IOException {
+        String prefix = key + "/";
+        hashes.keySet().removeIf(k -> k.equals(key) || k.startsWith(prefix));
+        addPath(key, path);
+    }
+
+    /**
+     * Compares this fingerprint with a previously stored one.
+     *
+     * @param manifest the manifest file written by {@link #write(Path)}
+     * @return the keys of all inputs which have been added, removed or changed since then (empty if all inputs are
+     * unchanged) or {@code null} in case there is no stored fingerprint
+     * @throws IOException in case the manifest could not be read
+     */
+    Set<String> getChangedInputs(Path manifest) throws IOException {
+        if (!Files.isRegularFile(manifest)) {
+            return null;
+        }
+        Map<String, String> storedHashes = new HashMap<>();
+        for (String line : Files.readAllLines(manifest, UTF_8)) {
+            if (line.length() > HASH_LENGTH + SEPARATOR.length()) {
+                storedHashes.put(line.substring(HASH_LENGTH + SEPARATOR.length()), line.substring(0, HASH_LENGTH));
+            }
+        }
+        Set<String> changedInputs = new TreeSet<>(storedHashes.keySet());
+        changedInputs.addAll(hashes.keySet());
+        changedInputs.removeIf(key -> Objects.equals(hashes.get(key), storedHashes.get(key)));
+        return changedInputs;
+    }
+
+    /**
+     * Stores this fingerprint.
+     *
+     * @param manifest the file to write to, its parent directories are created if necessary
+     * @throws IOException in case the manifest could not be written
+     */
+    void write(Path manifest) throws IOException {
+        List<String> lines = new ArrayList<>(hashes.size());
+        hashes.forEach((key, hash) -> lines.add(hash + SEPARATOR + key));
+        Files.createDirectories(manifest.getParent());
+        Files.write(manifest, lines, UTF_8);
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[8192];
+        try (InputStream input = Files.newInputStream(file)) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+}
@@ -0,0 +1,395 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.V1_8;
+
+/**
+ * Generates a binder class per mojo, which assigns the mojo's parameters and components from a map of already
+ * converted values without reflection. The binder is put into the package of the mojo and implements
+ * {@code BiConsumer<Object, Map<String, Object>>}, i.e. {@code accept(mojo, values)} assigns all values whose key
+ * is the name of a bound parameter or the field name of a bound component. {@code null} values are not assigned to
+ * primitives.
+ * <p>
+ * Like the Plexus configurator a public setter {@code set<Name>} with one argument takes precedence over the field,
+ * therefore the setters are looked up in the whole hierarchy of the mojo, reading super classes which are not
+ * contained in the classes directory (e.g. an abstract mojo of a dependency) from the class path.
+ * Only names which are accessible from the mojo's package can be bound, i.e. non-private, non-final instance fields
+ * declared in the mojo's package or public fields. Those names, fields declared in classes which are not contained in
+ * the classes directory as well as all names of mojos whose hierarchy is not fully available are left to reflection.
+ *
+ * @since 4.0.0
+ */
+final class MojoBinderGenerator {
+
+    static final String BINDER_SUFFIX = "Binder";
+
+    private static final String MAP = "java/util/Map";
+
+    private final Path classesDirectory;
+
+    private final ClassLoader classPath;
+
+    /** The parsed classes by internal name, {@code null} for classes which could not be found. */
+    private final Map<String, ClassInfo> classInfos = new HashMap<>();
+
+    /**
+     * @param classesDirectory the directory containing the compiled mojo classes
+     * @param classPath the class loader used to read the class files of super classes not contained in the classes
+     * directory or {@code null} to only read the classes directory
+     */
+    MojoBinderGenerator(Path classesDirectory, ClassLoader classPath) {
+        this.classesDirectory = classesDirectory;
+        this.classPath = classPath;
+    }
+
+    /**
+     * @param mojoClassName the fully qualified class name of the mojo
+     * @return the fully qualified class name of the according binder
+     */
+    static String getBinderClassName(String mojoClassName) {
+        return mojoClassName + BINDER_SUFFIX;
+    }
+
+    /**
+     * @param mojoClassName the fully qualified class name of the mojo
+     * @param names the names of the parameters and the field names of the components to bind
+     * @return the binder or {@code null} if none of the names can be bound without reflection
+     * @throws IOException in case a class file could not be read
+     */
+    Binder generate(String mojoClassName, Collection<String> names) throws IOException {
+        String mojo = mojoClassName.replace('.', '/');
+        String binder = getBinderClassName(mojoClassName).replace('.', '/');
+        List<String> boundNames = new ArrayList<>();
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        cw.visit(
+                V1_8,
+                ACC_PUBLIC + ACC_SUPER + ACC_SYNTHETIC,
+                binder,
+                "Ljava/lang/Object;Ljava/util/function/BiConsumer<Ljava/lang/Object;Ljava/util/Map<Ljava/lang/String;"
+                        + "Ljava/lang/Object;>;>;",
+                "java/lang/Object",
+                new String[] {"java/util/function/BiConsumer"});
+        cw.visitSource(binder.substring(binder.lastIndexOf('/') + 1) + ".java", null);
+        cw.visitAnnotation("Lorg/apache/maven/api/annotations/Generated;", true).visitEnd();
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC + ACC_SYNTHETIC, "<init>", "()V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 0);
+        mv.visitMethodInsn(Opcodes.INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+
+        mv = cw.visitMethod(ACC_PUBLIC, "accept", "(Ljava/lang/Object;Ljava/lang/Object;)V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(Opcodes.ALOAD, 1);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, mojo);
+        mv.visitVarInsn(Opcodes.ASTORE, 3);
+        mv.visitVarInsn(Opcodes.ALOAD, 2);
+        mv.visitTypeInsn(Opcodes.CHECKCAST, MAP);
+        mv.visitVarInsn(Opcodes.ASTORE, 4);
+        for (String name : names) {
+            Member member = findMember(mojo, name);
+            if (member == null) {
+                continue;
+            }
+            boundNames.add(name);
+            Label skip = new Label();
+            mv.visitVarInsn(Opcodes.ALOAD, 4);
+            mv.visitLdcInsn(name);
+            mv.visitMethodInsn(Opcodes.INVOKEINTERFACE, MAP, "containsKey", "(Ljava/lang/Object;)Z", true);
+            mv.visitJumpInsn(Opcodes.IFEQ, skip);
+            mv.visitVarInsn(Opcodes.ALOAD, 4);
+            mv.visitLdcInsn(name);
+            mv.visitMethodInsn(
+                    Opcodes.INVOKEINTERFACE, MAP, "get", "(Ljava/lang/Object;)Ljava/lang/Object;", true);
+            mv.visitVarInsn(Opcodes.ASTORE, 5);
+            if (isPrimitive(member.type)) {
+                // like the Plexus configurator null is not assigned to primitives, instead of failing to unbox it
+                mv.visitVarInsn(Opcodes.ALOAD, 5);
+                mv.visitJumpInsn(Opcodes.IFNULL, skip);
+            }
+            mv.visitVarInsn(Opcodes.ALOAD, 3);
+            mv.visitVarInsn(Opcodes.ALOAD, 5);
+            castOrUnbox(mv, member.type);
+            if (member.setter) {
+                mv.visitMethodInsn(
+                        Opcodes.INVOKEVIRTUAL, mojo, member.name, "(" + member.type.getDescriptor() + ")V", false);
+            } else {
+                // the field is resolved from the mojo class, even if declared in a super class
+                mv.visitFieldInsn(Opcodes.PUTFIELD, mojo, member.name, member.type.getDescriptor());
+            }
+            mv.visitLabel(skip);
+        }
+        mv.visitInsn(Opcodes.RETURN);
+        mv.visitMaxs(-1, -1);
+        mv.visitEnd();
+        cw.visitEnd();
+
+        if (boundNames.isEmpty()) {
+            return null;
+        }
+        return new Binder(binder.replace('/', '.'), boundNames, cw.toByteArray());
+    }
+
+    private static boolean isPrimitive(Type type) {
+        return type.getSort() != Type.OBJECT && type.getSort() != Type.ARRAY;
+    }
+
+    private static void castOrUnbox(MethodVisitor mv, Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+                unbox(mv, "java/lang/Boolean", "booleanValue", "()Z");
+                break;
+            case Type.CHAR:
+                unbox(mv, "java/lang/Character", "charValue", "()C");
+                break;
+            case Type.BYTE:
+                unbox(mv, "java/lang/Number", "byteValue", "()B");
+                break;
+            case Type.SHORT:
+                unbox(mv, "java/lang/Number", "shortValue", "()S");
+                break;
+            case Type.INT:
+                unbox(mv, "java/lang/Number", "intValue", "()I");
+                break;
+            case Type.LONG:
+                unbox(mv, "java/lang/Number", "longValue", "()J");
+                break;
+            case Type.FLOAT:
+                unbox(mv, "java/lang/Number", "floatValue", "()F");
+                break;
+            case Type.DOUBLE:
+                unbox(mv, "java/lang/Number", "doubleValue", "()D");
+                break;
+            default:
+                if (!"java/lang/Object".equals(type.getInternalName())) {
+                    mv.visitTypeInsn(Opcodes.CHECKCAST, type.getInternalName());
+                }
+                break;
+        }
+    }
+
+    private static void unbox(MethodVisitor mv, String owner, String method, String descriptor) {
+        mv.visitTypeInsn(Opcodes.CHECKCAST, owner);
+        mv.visitMethodInsn(Opcodes.INVOKEVIRTUAL, owner, method, descriptor, false);
+    }
+
+    /**
+     * @return the setter or field to bind the given name to or {@code null} if it is not accessible from the binder
+     */
+    private Member findMember(String mojo, String name) throws IOException {
+        String packageName = getPackageName(mojo);
+        String setterName = "set" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        ClassInfo mojoInfo = getClassInfo(mojo);
+        if (mojoInfo == null || mojoInfo.external) {
+            return null;
+        }
+
+        // public setters take precedence over fields in the whole hierarchy
+        for (String className = mojo; !"java/lang/Object".equals(className); ) {
+            ClassInfo info = getClassInfo(className);
+            if (info == null) {
+                // an inherited setter might be missed, therefore leave it to reflection
+                return null;
+            }
+            className = info.superName;
+            List<Member> setters = info.setters.getOrDefault(setterName, Collections.emptyList());
+            if (setters.size() > 1) {
+                // overloaded setters are chosen by the type of the value, which is left to reflection
+                return null;
+            }
+            if (!setters.isEmpty()) {
+                return setters.get(0);
+            }
+        }
+        for (ClassInfo info = mojoInfo; info != null && !info.external; info = getClassInfo(info.superName)) {
+            Member field = info.fields.get(name);
+            if (field != null) {
+                boolean accessible = (field.access & (ACC_PRIVATE | ACC_FINAL | ACC_STATIC)) == 0
+                        && ((field.access & ACC_PUBLIC) != 0 || packageName.equals(getPackageName(info.name)));
+                return accessible ? field : null;
+            }
+        }
+        return null;
+    }
+
+    private static String getPackageName(String internalName) {
+        int index = internalName.lastIndexOf('/');
+        return index < 0 ? "" : internalName.substring(0, index);
+    }
+
+    /**
+     * @return the parsed class or {@code null} if it is neither contained in the classes directory nor in the class
+     * path
+     */
+    private ClassInfo getClassInfo(String internalName) throws IOException {
+        if (internalName == null) {
+            return null;
+        }
+        if (classInfos.containsKey(internalName)) {
+            return classInfos.get(internalName);
+        }
+        ClassInfo info = null;
+        Path classFile = classesDirectory.resolve(internalName + ".class");
+        if (Files.isRegularFile(classFile)) {
+            try (InputStream is = Files.newInputStream(classFile)) {
+                info = readClassInfo(is, false);
+            }
+        } else if (classPath != null) {
+            try (InputStream is = classPath.getResourceAsStream(internalName + ".class")) {
+                if (is != null) {
+                    info = readClassInfo(is, true);
+                }
+            }
+        }
+        classInfos.put(internalName, info);
+        return info;
+    }
+
+    private static ClassInfo readClassInfo(InputStream is, boolean external) throws IOException {
+        ClassInfo info = new ClassInfo(external);
+        new ClassReader(is).accept(info, ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+        return info;
+    }
+
+    /**
+     * A generated binder.
+     */
+    static final class Binder {
+        private final String className;
+
+        private final List<String> boundNames;
+
+        private final byte[] bytes;
+
+        Binder(String className, List<String> boundNames, byte[] bytes) {
+            this.className = className;
+            this.boundNames = boundNames;
+            this.bytes = bytes;
+        }
+
+        String getClassName() {
+            return className;
+        }
+
+        /**
+         * @return the names assigned by the binder, all other names need to be assigned by reflection
+         */
+        List<String> getBoundNames() {
+            return boundNames;
+        }
+
+        byte[] getBytes() {
+            return bytes;
+        }
+    }
+
+    private static final class Member {
+        private final String name;
+
+        private final int access;
+
+        private final Type type;
+
+        private final boolean setter;
+
+        Member(String name, int access, Type type, boolean setter) {
+            this.name = name;
+            this.access = access;
+            this.type = type;
+            this.setter = setter;
+        }
+    }
+
+    private static final class ClassInfo extends ClassVisitor {
+        /** Whether the class is not contained in the classes directory. */
+        private final boolean external;
+
+        private String name;
+
+        private String superName;
+
+        private final Map<String, Member> fields = new HashMap<>();
+
+        /** The public instance methods with one argument and without return value by name. */
+        private final Map<String, List<Member>> setters = new HashMap<>();
+
+        ClassInfo(boolean external) {
+            super(Opcodes.ASM9);
+            this.external = external;
+        }
+
+        @Override
+        public void visit(
+                int version, int access, String name, String signature, String superName, String[] interfaces) {
+            this.name = name;
+            this.superName = superName;
+        }
+
+        @Override
+        public FieldVisitor visitField(int access, String name, String descriptor, String signature, Object value) {
+            fields.put(name, new Member(name, access, Type.getType(descriptor), false));
+            return null;
+        }
+
+        @Override
+        public MethodVisitor visitMethod(
+                int access, String name, String descriptor, String signature, String[] exceptions) {
+            Type[] argumentTypes = Type.getArgumentTypes(descriptor);
+            if (name.startsWith("set")
+                    && (access & (ACC_PUBLIC | ACC_STATIC)) == ACC_PUBLIC
+                    && (access & Opcodes.ACC_BRIDGE) == 0
+                    && argumentTypes.length == 1
+                    && Type.getReturnType(descriptor) == Type.VOID_TYPE) {
+                setters.computeIfAbsent(name, n -> new ArrayList<>())
+                        .add(new Member(name, access, argumentTypes[0], true));
+            }
+            return null;
+        }
+    }
+}
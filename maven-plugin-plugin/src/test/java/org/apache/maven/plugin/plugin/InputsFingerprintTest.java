@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InputsFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void changedInputs() throws Exception {
+        Path classes = tempDir.resolve("classes");
+        Files.createDirectories(classes.resolve("org/example"));
+        Files.write(classes.resolve("org/example/MyMojo.class"), new byte[] {1, 2, 3});
+        Files.write(classes.resolve("org/example/OtherMojo.class"), new byte[] {4, 5, 6});
+        Path manifest = tempDir.resolve("fingerprint/inputs.sha256");
+
+        assertNull(newFingerprint(classes, "value").getChangedInputs(manifest));
+        newFingerprint(classes, "value").write(manifest);
+        assertEquals(Collections.emptySet(), newFingerprint(classes, "value").getChangedInputs(manifest));
+
+        assertEquals(
+                Collections.singleton("config"),
+                newFingerprint(classes, "other value").getChangedInputs(manifest));
+
+        Files.write(classes.resolve("org/example/MyMojo.class"), new byte[] {1, 2, 4});
+        Files.write(classes.resolve("org/example/NewMojo.class"), "new".getBytes(UTF_8));
+        Files.delete(classes.resolve("org/example/OtherMojo.class"));
+        assertEquals(
+                new TreeSet<>(Arrays.asList(
+                        "classes/org/example/MyMojo.class",
+                        "classes/org/example/NewMojo.class",
+                        "classes/org/example/OtherMojo.class")),
+                newFingerprint(classes, "value").getChangedInputs(manifest));
+    }
+
+    @Test
+    void updatePath() throws Exception {
+        Path classes = tempDir.resolve("classes");
+        Files.createDirectories(classes.resolve("META-INF/maven"));
+        Files.write(classes.resolve("META-INF/maven/plugin.xml"), new byte[] {1});
+        Files.write(classes.resolve("META-INF/maven/stale.properties"), new byte[] {2});
+        InputsFingerprint fingerprint = newFingerprint(classes, "value");
+
+        Files.write(classes.resolve("META-INF/maven/plugin.xml"), new byte[] {3});
+        Files.delete(classes.resolve("META-INF/maven/stale.properties"));
+        Files.write(classes.resolve("Factory.class"), new byte[] {4});
+        fingerprint.updatePath("classes/META-INF/maven", classes.resolve("META-INF/maven"));
+        fingerprint.updatePath("classes/Factory.class", classes.resolve("Factory.class"));
+
+        Path manifest = tempDir.resolve("inputs.sha256");
+        fingerprint.write(manifest);
+        assertEquals(Collections.emptySet(), newFingerprint(classes, "value").getChangedInputs(manifest));
+    }
+
+    @Test
+    void missingPath() throws Exception {
+        InputsFingerprint fingerprint = new InputsFingerprint();
+        fingerprint.addPath("missing", tempDir.resolve("missing"));
+        Path manifest = tempDir.resolve("inputs.sha256");
+        fingerprint.write(manifest);
+        assertEquals(Collections.emptyList(), Files.readAllLines(manifest));
+    }
+
+    private static InputsFingerprint newFingerprint(Path classes, String configValue) throws Exception {
+        InputsFingerprint fingerprint = new InputsFingerprint();
+        fingerprint.addValue("config", configValue);
+        fingerprint.addPath("classes", classes);
+        return fingerprint;
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+import org.apache.maven.plugin.plugin.binder.BinderTestMojo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MojoBinderGeneratorTest {
+
+    private static final Path TEST_CLASSES = Paths.get("target/test-classes");
+
+    @Test
+    void bindAccessibleMembers() throws Exception {
+        MojoBinderGenerator generator = new MojoBinderGenerator(TEST_CLASSES, null);
+        MojoBinderGenerator.Binder binder = generator.generate(
+                BinderTestMojo.class.getName(),
+                Arrays.asList(
+                        "packagePrivate",
+                        "primitive",
+                        "list",
+                        "inherited",
+                        "privateField",
+                        "privateWithSetter",
+                        "finalField",
+                        "otherPackage",
+                        "missing"));
+
+        assertEquals(BinderTestMojo.class.getName() + "Binder", binder.getClassName());
+        assertEquals(
+                Arrays.asList("packagePrivate", "primitive", "list", "inherited", "privateWithSetter"),
+                binder.getBoundNames());
+
+        // the binder needs to be defined by the same class loader as the mojo to access package-private members
+        ClassLoader loader = new BinderTestClassLoader(binder);
+        Object mojo = loader.loadClass(BinderTestMojo.class.getName())
+                .getConstructor()
+                .newInstance();
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Map<String, Object>> bind = (BiConsumer<Object, Map<String, Object>>)
+                loader.loadClass(binder.getClassName()).getConstructor().newInstance();
+
+        Map<String, Object> values = new HashMap<>();
+        values.put("packagePrivate", "value");
+        values.put("primitive", 42);
+        values.put("list", Collections.singletonList("element"));
+        values.put("inherited", true);
+        values.put("privateWithSetter", "value");
+        values.put("privateField", "ignored");
+        bind.accept(mojo, values);
+
+        assertEquals("value", get(mojo, "getPackagePrivate"));
+        assertEquals(42, get(mojo, "getPrimitive"));
+        assertEquals(Collections.singletonList("element"), get(mojo, "getList"));
+        assertEquals(true, get(mojo, "isInherited"));
+        assertEquals("set value", get(mojo, "getPrivateWithSetter"));
+        assertNull(get(mojo, "getPrivateField"));
+
+        // absent values keep the current value
+        bind.accept(mojo, Collections.singletonMap("primitive", 1));
+        assertEquals(1, get(mojo, "getPrimitive"));
+        assertEquals("value", get(mojo, "getPackagePrivate"));
+
+        // null values are not assigned to primitives but to references
+        values.clear();
+        values.put("primitive", null);
+        values.put("packagePrivate", null);
+        bind.accept(mojo, values);
+        assertEquals(1, get(mojo, "getPrimitive"));
+        assertNull(get(mojo, "getPackagePrivate"));
+    }
+
+    @Test
+    void noBinderWithoutAccessibleMembers() throws Exception {
+        MojoBinderGenerator generator = new MojoBinderGenerator(TEST_CLASSES, null);
+        assertNull(generator.generate(
+                BinderTestMojo.class.getName(), Arrays.asList("privateField", "finalField", "otherPackage")));
+        assertNull(generator.generate("org.example.MissingMojo", Collections.singletonList("missing")));
+    }
+
+    @Test
+    void inheritedSettersOutsideClassesDirectory(@TempDir Path classesDirectory) throws Exception {
+        // the base class declaring the setter is not part of the classes directory, e.g. in a dependency
+        Path packageDirectory = Paths.get(BinderTestMojo.class.getPackage().getName().replace('.', '/'));
+        Files.createDirectories(classesDirectory.resolve(packageDirectory));
+        try (DirectoryStream<Path> classFiles = Files.newDirectoryStream(TEST_CLASSES.resolve(packageDirectory))) {
+            for (Path classFile : classFiles) {
+                Files.copy(classFile, classesDirectory.resolve(packageDirectory).resolve(classFile.getFileName()));
+            }
+        }
+        List<String> names = Arrays.asList("withBaseSetter", "packagePrivate");
+
+        // without the base class an inherited setter might be missed, so all names are left to reflection
+        assertNull(new MojoBinderGenerator(classesDirectory, null).generate(BinderTestMojo.class.getName(), names));
+
+        // the base class is read from the class path, so its setter takes precedence over the field
+        MojoBinderGenerator.Binder binder = new MojoBinderGenerator(
+                        classesDirectory, MojoBinderGeneratorTest.class.getClassLoader())
+                .generate(BinderTestMojo.class.getName(), names);
+        assertEquals(names, binder.getBoundNames());
+
+        ClassLoader loader = new BinderTestClassLoader(binder);
+        Object mojo = loader.loadClass(BinderTestMojo.class.getName())
+                .getConstructor()
+                .newInstance();
+        @SuppressWarnings("unchecked")
+        BiConsumer<Object, Map<String, Object>> bind = (BiConsumer<Object, Map<String, Object>>)
+                loader.loadClass(binder.getClassName()).getConstructor().newInstance();
+        bind.accept(mojo, Collections.singletonMap("withBaseSetter", "value"));
+        assertEquals("set value", get(mojo, "getBaseSetter"));
+    }
+
+    @Test
+    void binderClassName() {
+        assertTrue(MojoBinderGenerator.getBinderClassName("org.example.MyMojo").endsWith("MyMojoBinder"));
+    }
+
+    private static Object get(Object mojo, String getter) throws Exception {
+        return mojo.getClass().getMethod(getter).invoke(mojo);
+    }
+
+    /**
+     * Defines the binder and the test mojo classes itself, delegates all other classes to the parent.
+     */
+    private static final class BinderTestClassLoader extends ClassLoader {
+        private final MojoBinderGenerator.Binder binder;
+
+        BinderTestClassLoader(MojoBinderGenerator.Binder binder) {
+            super(MojoBinderGeneratorTest.class.getClassLoader());
+            this.binder = binder;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> c = findLoadedClass(name);
+                if (c == null) {
+                    if (name.equals(binder.getClassName())) {
+                        byte[] bytes = binder.getBytes();
+                        c = defineClass(name, bytes, 0, bytes.length);
+                    } else if (name.startsWith(BinderTestMojo.class.getPackage().getName() + ".")) {
+                        byte[] bytes = readClass(name);
+                        c = defineClass(name, bytes, 0, bytes.length);
+                    } else {
+                        return super.loadClass(name, resolve);
+                    }
+                }
+                if (resolve) {
+                    resolveClass(c);
+                }
+                return c;
+            }
+        }
+
+        private static byte[] readClass(String name) throws ClassNotFoundException {
+            try (InputStream is = Files.newInputStream(TEST_CLASSES.resolve(name.replace('.', '/') + ".class"))) {
+                return readAll(is);
+            } catch (IOException e) {
+                throw new ClassNotFoundException(name, e);
+            }
+        }
+
+        private static byte[] readAll(InputStream is) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = is.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.binder;
+
+import java.util.List;
+
+/**
+ * Mojo used in {@code MojoBinderGeneratorTest} with all kinds of fields.
+ */
+public class BinderTestMojo extends AbstractBinderTestMojo {
+    String packagePrivate;
+
+    protected int primitive;
+
+    protected List<String> list;
+
+    private String privateField;
+
+    private String privateWithSetter;
+
+    final String finalField = "final";
+
+    protected String withBaseSetter;
+
+    public void setPrivateWithSetter(String privateWithSetter) {
+        this.privateWithSetter = "set " + privateWithSetter;
+    }
+
+    public String getPackagePrivate() {
+        return packagePrivate;
+    }
+
+    public int getPrimitive() {
+        return primitive;
+    }
+
+    public List<String> getList() {
+        return list;
+    }
+
+    public boolean isInherited() {
+        return inherited;
+    }
+
+    public String getPrivateField() {
+        return privateField;
+    }
+
+    public String getPrivateWithSetter() {
+        return privateWithSetter;
+    }
+}
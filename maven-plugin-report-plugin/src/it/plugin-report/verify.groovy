@@ -23,6 +23,10 @@ assert new File( basedir, 'target/site/report-mojo.html' ).isFile()
 def pluginInfo = new File( basedir, 'target/site/plugin-info.html' )
 assert pluginInfo.isFile()
 
+def reportMetrics = new File( basedir, 'target/site/plugin-report-metrics.json' )
+assert reportMetrics.isFile()
+assert reportMetrics.text.contains('"goalPagesRendered": ')
+
 assert !pluginInfo.text.contains('Memory')
 assert !pluginInfo.text.contains('Disk Space')
 // check JDK and Maven requirements
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.maven.plugin.logging.Log;
+
+/**
+ * {@link Log} collecting all messages in memory until they are {@link #replay() replayed} to the target log.
+ * Used to keep the log output of goal pages rendered concurrently in the order of the goals.
+ * Whether a level is enabled is determined by the target log.
+ *
+ * @since 4.0.0
+ */
+class BufferedLog implements Log {
+
+    private final Log target;
+
+    private final List<Consumer<Log>> messages = new ArrayList<>();
+
+    /**
+     * @param target the log to replay the messages to, not null
+     */
+    BufferedLog(Log target) {
+        this.target = target;
+    }
+
+    /**
+     * Writes all messages collected so far to the target log and discards them.
+     */
+    synchronized void replay() {
+        messages.forEach(message -> message.accept(target));
+        messages.clear();
+    }
+
+    private synchronized void add(Consumer<Log> message) {
+        messages.add(message);
+    }
+
+    @Override
+    public boolean isDebugEnabled() {
+        return target.isDebugEnabled();
+    }
+
+    @Override
+    public void debug(CharSequence content) {
+        add(log -> log.debug(content));
+    }
+
+    @Override
+    public void debug(CharSequence content, Throwable error) {
+        add(log -> log.debug(content, error));
+    }
+
+    @Override
+    public void debug(Throwable error) {
+        add(log -> log.debug(error));
+    }
+
+    @Override
+    public boolean isInfoEnabled() {
+        return target.isInfoEnabled();
+    }
+
+    @Override
+    public void info(CharSequence content) {
+        add(log -> log.info(content));
+    }
+
+    @Override
+    public void info(CharSequence content, Throwable error) {
+        add(log -> log.info(content, error));
+    }
+
+    @Override
+    public void info(Throwable error) {
+        add(log -> log.info(error));
+    }
+
+    @Override
+    public boolean isWarnEnabled() {
+        return target.isWarnEnabled();
+    }
+
+    @Override
+    public void warn(CharSequence content) {
+        add(log -> log.warn(content));
+    }
+
+    @Override
+    public void warn(CharSequence content, Throwable error) {
+        add(log -> log.warn(content, error));
+    }
+
+    @Override
+    public void warn(Throwable error) {
+        add(log -> log.warn(error));
+    }
+
+    @Override
+    public boolean isErrorEnabled() {
+        return target.isErrorEnabled();
+    }
+
+    @Override
+    public void error(CharSequence content) {
+        add(log -> log.error(content));
+    }
+
+    @Override
+    public void error(CharSequence content, Throwable error) {
+        add(log -> log.error(content, error));
+    }
+
+    @Override
+    public void error(Throwable error) {
+        add(log -> log.error(error));
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
+import org.apache.maven.tools.plugin.ExtendedMojoDescriptor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * SHA-256 hash of all inputs of a goal page, i.e. the values of the mojo descriptor rendered by {@link GoalRenderer},
+ * the validity of the links in it and additional context values (like the locale).
+ * The hashes of all goal pages are stored per locale in a manifest file (in the format of {@code sha256sum}) to
+ * decide whether a goal page needs to be rendered again.
+ *
+ * @since 4.0.0
+ */
+final class GoalPageFingerprint {
+
+    private static final int HASH_LENGTH = 64;
+
+    private static final String SEPARATOR = "  ";
+
+    private final MessageDigest digest;
+
+    /**
+     * @param context the values affecting all goal pages, e.g. the locale
+     */
+    GoalPageFingerprint(Object... context) {
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by this JVM", e);
+        }
+        for (Object value : context) {
+            add(value);
+        }
+    }
+
+    /**
+     * Adds all values of the given mojo descriptor which are rendered on its goal page.
+     *
+     * @param descriptor the mojo descriptor
+     * @param linkValidity the validity of a relative link, or {@code null} if links are not validated
+     * @return this fingerprint
+     */
+    @SuppressWarnings("deprecation")
+    GoalPageFingerprint addMojo(MojoDescriptor descriptor, Predicate<URI> linkValidity) {
+        add(descriptor.getPluginDescriptor().getId());
+        add(descriptor.getFullGoalName());
+        add(descriptor.getGoal());
+        add(descriptor.getImplementation());
+        add(descriptor.getDescription());
+        add(descriptor.getDeprecated());
+        add(descriptor.isProjectRequired());
+        add(descriptor.isRequiresReports());
+        add(descriptor.isAggregator());
+        add(descriptor.isDirectInvocationOnly());
+        add(descriptor.isDependencyResolutionRequired());
+        if (descriptor instanceof ExtendedMojoDescriptor) {
+            add(((ExtendedMojoDescriptor) descriptor).getDependencyCollectionRequired());
+        }
+        add(descriptor.isThreadSafe());
+        add(descriptor.getSince());
+        add(descriptor.getPhase());
+        add(descriptor.getExecutePhase());
+        add(descriptor.getExecuteGoal());
+        add(descriptor.getExecuteLifecycle());
+        add(descriptor.isOnlineRequired());
+        add(descriptor.isInheritedByDefault());
+        if (descriptor.getParameters() != null) {
+            add(descriptor.getParameters().size());
+            for (Parameter parameter : descriptor.getParameters()) {
+                add(parameter.getName());
+                add(parameter.getAlias());
+                add(parameter.getType());
+                add(parameter instanceof EnhancedParameterWrapper
+                        ? ((EnhancedParameterWrapper) parameter).getTypeJavadocUrl()
+                        : null);
+                add(parameter.isRequired());
+                add(parameter.isEditable());
+                add(parameter.getExpression());
+                add(parameter.getDefaultValue());
+                add(parameter.getDescription());
+                add(parameter.getDeprecated());
+                add(parameter.getSince());
+                add(parameter.getImplementation());
+            }
+        }
+        if (linkValidity != null) {
+            Set<URI> links = new TreeSet<>();
+            LinkValidator.collectLinks(descriptor, links);
+            for (URI link : links) {
+                add(link);
+                add(linkValidity.test(link));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * @return the hash of all values added so far as hexadecimal string, this fingerprint must not be used afterwards
+     */
+    String toHash() {
+        StringBuilder hex = new StringBuilder(HASH_LENGTH);
+        for (byte b : digest.digest()) {
+            hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hex.toString();
+    }
+
+    private void add(Object value) {
+        // prefix each value with its length to keep the concatenation unambiguous
+        if (value == null) {
+            digest.update("-1:".getBytes(UTF_8));
+        } else {
+            byte[] bytes = value.toString().getBytes(UTF_8);
+            digest.update((bytes.length + ":").getBytes(UTF_8));
+            digest.update(bytes);
+        }
+    }
+
+    /**
+     * Reads the hashes of the goal pages of the given locale stored by {@link #write(Path, Locale, Map)}.
+     *
+     * @param manifest the manifest file
+     * @param locale the locale of the goal pages
+     * @return the hash per goal, empty in case the manifest does not exist
+     * @throws IOException in case the manifest could not be read
+     */
+    static Map<String, String> read(Path manifest, Locale locale) throws IOException {
+        String prefix = getKeyPrefix(locale);
+        Map<String, String> hashes = new TreeMap<>();
+        read(manifest).forEach((key, hash) -> {
+            if (key.startsWith(prefix)) {
+                hashes.put(key.substring(prefix.length()), hash);
+            }
+        });
+        return hashes;
+    }
+
+    /**
+     * Stores the hashes of the goal pages of the given locale, replacing the previous ones of that locale and
+     * retaining the ones of other locales. The entries are keyed by the language tag of the locale and the goal.
+     *
+     * @param manifest the file to write to, its parent directories are created if necessary
+     * @param locale the locale of the goal pages
+     * @param hashes the hash per goal
+     * @throws IOException in case the manifest could not be written
+     */
+    static void write(Path manifest, Locale locale, Map<String, String> hashes) throws IOException {
+        String prefix = getKeyPrefix(locale);
+        Map<String, String> entries = new TreeMap<>();
+        read(manifest).forEach((key, hash) -> {
+            // entries without locale have been written by a previous version
+            if (key.indexOf('/') > 0 && !key.startsWith(prefix)) {
+                entries.put(key, hash);
+            }
+        });
+        hashes.forEach((goal, hash) -> entries.put(prefix + goal, hash));
+
+        List<String> lines = new ArrayList<>(entries.size());
+        entries.forEach((key, hash) -> lines.add(hash + SEPARATOR + key));
+        Files.createDirectories(manifest.getParent());
+        Files.write(manifest, lines, UTF_8);
+    }
+
+    private static Map<String, String> read(Path manifest) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        if (Files.isRegularFile(manifest)) {
+            for (String line : Files.readAllLines(manifest, UTF_8)) {
+                if (line.length() > HASH_LENGTH + SEPARATOR.length()) {
+                    entries.put(line.substring(HASH_LENGTH + SEPARATOR.length()), line.substring(0, HASH_LENGTH));
+                }
+            }
+        }
+        return entries;
+    }
+
+    private static String getKeyPrefix(Locale locale) {
+        return locale.toLanguageTag() + '/';
+    }
+}
@@ -25,13 +25,14 @@ import java.text.MessageFormat;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.apache.commons.lang3.StringUtils;
@@ -44,23 +45,26 @@ import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
 import org.apache.maven.tools.plugin.ExtendedMojoDescriptor;
-import org.apache.maven.tools.plugin.javadoc.JavadocLinkGenerator;
+import org.apache.maven.tools.plugin.util.MavenReportDetector;
 import org.apache.maven.tools.plugin.util.PluginUtils;
 import org.codehaus.plexus.i18n.I18N;
 
 public class GoalRenderer extends AbstractPluginReportRenderer {
 
-    /** Regular expression matching an XHTML link with group 1 = link target, group 2 = link label. */
-    private static final Pattern HTML_LINK_PATTERN = Pattern.compile("<a href=\\\"([^\\\"]*)\\\">(.*?)</a>");
-
-    /** The directory where the generated site is written. Used for resolving relative links to javadoc. */
-    private final File reportOutputDirectory;
+    /** Validates relative links to javadoc below the directory where the generated site is written. */
+    private final LinkValidator linkValidator;
 
     private final MojoDescriptor descriptor;
     private final boolean disableInternalJavadocLinkValidation;
 
     private final Log log;
 
+    /** Shared by all goals of the report, {@code null} to detect report mojos independently per goal. */
+    private final MavenReportDetector mavenReportDetector;
+
+    /** The compiled message format per i18n key, the locale is fixed for the lifetime of this renderer. */
+    private final Map<String, MessageFormat> messageFormats = new HashMap<>();
+
     public GoalRenderer(
             Sink sink,
             I18N i18n,
@@ -70,11 +74,34 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
             File reportOutputDirectory,
             boolean disableInternalJavadocLinkValidation,
             Log log) {
+        this(
+                sink,
+                i18n,
+                locale,
+                project,
+                descriptor,
+                new LinkValidator(reportOutputDirectory.toPath()),
+                disableInternalJavadocLinkValidation,
+                log,
+                null);
+    }
+
+    GoalRenderer(
+            Sink sink,
+            I18N i18n,
+            Locale locale,
+            MavenProject project,
+            MojoDescriptor descriptor,
+            LinkValidator linkValidator,
+            boolean disableInternalJavadocLinkValidation,
+            Log log,
+            MavenReportDetector mavenReportDetector) {
         super(sink, locale, i18n, project);
-        this.reportOutputDirectory = reportOutputDirectory;
+        this.linkValidator = linkValidator;
         this.descriptor = descriptor;
         this.disableInternalJavadocLinkValidation = disableInternalJavadocLinkValidation;
         this.log = log;
+        this.mavenReportDetector = mavenReportDetector;
     }
 
     @Override
@@ -86,16 +113,16 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
     protected void renderBody() {
         startSection(descriptor.getFullGoalName());
         renderReportNotice();
-        renderDescription("fullname", descriptor.getPluginDescriptor().getId() + ":" + descriptor.getGoal(), false);
+        renderDescription("fullname", descriptor.getPluginDescriptor().getId() + ":" + descriptor.getGoal());
 
         String context = "goal " + descriptor.getGoal();
         if (StringUtils.isNotEmpty(descriptor.getDeprecated())) {
-            renderDescription("deprecated", getXhtmlWithValidatedLinks(descriptor.getDeprecated(), context), true);
+            renderXhtmlDescription("deprecated", descriptor.getDeprecated(), context);
         }
         if (StringUtils.isNotEmpty(descriptor.getDescription())) {
-            renderDescription("description", getXhtmlWithValidatedLinks(descriptor.getDescription(), context), true);
+            renderXhtmlDescription("description", descriptor.getDescription(), context);
         } else {
-            renderDescription("description", getI18nString("nodescription"), false);
+            renderDescription("description", getI18nString("nodescription"));
         }
         renderAttributes();
 
@@ -131,23 +158,32 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
     }
 
     private void renderReportNotice() {
-        if (PluginUtils.isMavenReport(descriptor.getImplementation(), project)) {
-            renderDescription("notice.prefix", getI18nString("notice.isMavenReport"), false);
+        boolean isMavenReport = mavenReportDetector != null && descriptor.getImplementation() != null
+                ? mavenReportDetector.isMavenReport(descriptor.getImplementation())
+                : PluginUtils.isMavenReport(descriptor.getImplementation(), project);
+        if (isMavenReport) {
+            renderDescription("notice.prefix", getI18nString("notice.isMavenReport"));
         }
     }
 
     /**
      * A description consists of a term/prefix and the actual description text
      */
-    private void renderDescription(String prefixKey, String description, boolean isHtmlMarkup) {
+    private void renderDescription(String prefixKey, String description) {
         // TODO: convert to dt and dd elements
         renderDescriptionPrefix(prefixKey);
         sink.paragraph();
-        if (isHtmlMarkup) {
-            sink.rawText(description);
-        } else {
-            sink.text(description);
-        }
+        sink.text(description);
+        sink.paragraph_(); // p
+    }
+
+    /**
+     * A description with XHTML markup whose links are validated while being emitted
+     */
+    private void renderXhtmlDescription(String prefixKey, String xhtmlDescription, String context) {
+        renderDescriptionPrefix(prefixKey);
+        sink.paragraph();
+        rawTextWithValidatedLinks(xhtmlDescription, context);
         sink.paragraph_(); // p
     }
 
@@ -272,15 +308,13 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
 
         // description
         sink.tableCell();
-        String description;
         String context = "Parameter " + parameter.getName() + " in goal " + descriptor.getGoal();
         renderDeprecatedParameterDescription(parameter.getDeprecated(), context);
         if (StringUtils.isNotEmpty(parameter.getDescription())) {
-            description = getXhtmlWithValidatedLinks(parameter.getDescription(), context);
+            rawTextWithValidatedLinks(parameter.getDescription(), context);
         } else {
-            description = getI18nString("nodescription");
+            sink.rawText(getI18nString("nodescription"));
         }
-        sink.rawText(description);
         renderTableCellDetail("parameter.defaultValue", parameter.getDefaultValue());
         renderTableCellDetail("parameter.property", getPropertyFromExpression(parameter.getExpression()));
         renderTableCellDetail("parameter.alias", parameter.getAlias());
@@ -305,7 +339,7 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
             renderDeprecatedParameterDescription(parameter.getDeprecated(), context);
             sink.division();
             if (StringUtils.isNotEmpty(parameter.getDescription())) {
-                sink.rawText(getXhtmlWithValidatedLinks(parameter.getDescription(), context));
+                rawTextWithValidatedLinks(parameter.getDescription(), context);
             } else {
                 sink.text(getI18nString("nodescription"));
             }
@@ -349,13 +383,12 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
 
     private void renderDeprecatedParameterDescription(String deprecated, String context) {
         if (StringUtils.isNotEmpty(deprecated)) {
-            String deprecatedXhtml = getXhtmlWithValidatedLinks(deprecated, context);
             sink.division();
             sink.inline(Semantics.STRONG);
             sink.text(getI18nString("parameter.deprecated"));
             sink.inline_();
             sink.lineBreak();
-            sink.rawText(deprecatedXhtml);
+            rawTextWithValidatedLinks(deprecated, context);
             sink.division_();
             sink.lineBreak();
         }
@@ -464,7 +497,7 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
                 // optionally check if link is valid
                 if (javadocUrl.isAbsolute()
                         || disableInternalJavadocLinkValidation
-                        || JavadocLinkGenerator.isLinkValid(javadocUrl, reportOutputDirectory.toPath())) {
+                        || linkValidator.isValid(javadocUrl)) {
                     uri = enhancedParameter.getTypeJavadocUrl();
                 }
             }
@@ -474,30 +507,52 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
     }
 
     String getXhtmlWithValidatedLinks(String xhtmlText, String context) {
-        if (disableInternalJavadocLinkValidation) {
-            return xhtmlText;
+        StringBuilder sanitizedXhtmlText = new StringBuilder(xhtmlText.length());
+        writeXhtmlWithValidatedLinks(xhtmlText, context, sanitizedXhtmlText::append);
+        return sanitizedXhtmlText.toString();
+    }
+
+    private void rawTextWithValidatedLinks(String xhtmlText, String context) {
+        writeXhtmlWithValidatedLinks(xhtmlText, context, sink::rawText);
+    }
+
+    /**
+     * Emits the given XHTML text in a single pass, where relative links whose target does not exist are replaced by
+     * their label. The unchanged segments in between are emitted as they are, i.e. without any intermediate copy.
+     *
+     * @param xhtmlText the text to emit
+     * @param context the context of the text used in log messages
+     * @param output the consumer of the emitted segments
+     */
+    private void writeXhtmlWithValidatedLinks(String xhtmlText, String context, Consumer<String> output) {
+        if (disableInternalJavadocLinkValidation || !xhtmlText.contains("<a href=")) {
+            output.accept(xhtmlText);
+            return;
         }
-        StringBuffer sanitizedXhtmlText = new StringBuffer();
         // find all links which are not absolute
-        Matcher matcher = HTML_LINK_PATTERN.matcher(xhtmlText);
+        Matcher matcher = LinkValidator.HTML_LINK_PATTERN.matcher(xhtmlText);
+        int unwritten = 0;
         while (matcher.find()) {
-            URI link;
             try {
-                link = new URI(matcher.group(1));
-                if (!link.isAbsolute() && !JavadocLinkGenerator.isLinkValid(link, reportOutputDirectory.toPath())) {
-                    matcher.appendReplacement(sanitizedXhtmlText, matcher.group(2));
+                URI link = new URI(matcher.group(1));
+                if (!link.isAbsolute() && !linkValidator.isValid(link)) {
+                    if (matcher.start() > unwritten) {
+                        output.accept(xhtmlText.substring(unwritten, matcher.start()));
+                    }
+                    output.accept(matcher.group(2));
+                    unwritten = matcher.end();
                     log.debug(String.format("Removed invalid link %s in %s", link, context));
-                } else {
-                    matcher.appendReplacement(sanitizedXhtmlText, matcher.group(0));
                 }
             } catch (URISyntaxException e) {
                 log.warn(String.format(
                         "Invalid URI %s found in %s. Cannot validate, leave untouched", matcher.group(1), context));
-                matcher.appendReplacement(sanitizedXhtmlText, matcher.group(0));
             }
         }
-        matcher.appendTail(sanitizedXhtmlText);
-        return sanitizedXhtmlText.toString();
+        if (unwritten == 0) {
+            output.accept(xhtmlText);
+        } else if (unwritten < xhtmlText.length()) {
+            output.accept(xhtmlText.substring(unwritten));
+        }
     }
 
     /** Convenience method.
@@ -517,11 +572,11 @@ public class GoalRenderer extends AbstractPluginReportRenderer {
      * @param args not null
      * @return Localized, formatted text identified by <code>key</code>. */
     private String format(String key, Object[] args) {
-        String pattern = getI18nString(key);
-        // we don't need quoting so spare us the confusion in the resource bundle to double them up in some keys
-        pattern = StringUtils.replace(pattern, "'", "''");
-
-        MessageFormat messageFormat = new MessageFormat(pattern, locale);
+        MessageFormat messageFormat = messageFormats.computeIfAbsent(key, k -> {
+            // we don't need quoting so spare us the confusion in the resource bundle to double them up in some keys
+            String pattern = StringUtils.replace(getI18nString(k), "'", "''");
+            return new MessageFormat(pattern, locale);
+        });
         return messageFormat.format(args);
     }
 
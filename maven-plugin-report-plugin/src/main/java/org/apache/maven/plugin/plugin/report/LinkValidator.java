@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
+import org.apache.maven.tools.plugin.javadoc.JavadocLinkGenerator;
+
+/**
+ * Validates the links to javadoc pages contained in the goal documentation and caches the results, so that each
+ * distinct link is only validated once per report execution.
+ * All links of a plugin can be collected and validated concurrently upfront via {@link #validate(Collection)}
+ * before the goal pages are rendered.
+ */
+class LinkValidator {
+
+    /** Regular expression matching an XHTML link with group 1 = link target, group 2 = link label. */
+    static final Pattern HTML_LINK_PATTERN = Pattern.compile("<a href=\\\"([^\\\"]*)\\\">(.*?)</a>");
+
+    /** The maximum number of threads used for validating links. */
+    static final int MAX_THREADS = 8;
+
+    private final Path baseDirectory;
+
+    private final Map<URI, Boolean> results = new ConcurrentHashMap<>();
+
+    /**
+     * @param baseDirectory the directory to which relative links refer, i.e. the report output directory
+     */
+    LinkValidator(Path baseDirectory) {
+        this.baseDirectory = baseDirectory;
+    }
+
+    /**
+     * Checks if the given link is valid, using the cached result if the link has been validated before.
+     *
+     * @param link the link to check
+     * @return {@code true} in case the given link is valid otherwise {@code false}
+     * @see JavadocLinkGenerator#isLinkValid(URI, Path)
+     */
+    boolean isValid(URI link) {
+        return results.computeIfAbsent(link, l -> JavadocLinkGenerator.isLinkValid(l, baseDirectory));
+    }
+
+    /**
+     * @return the number of distinct links validated so far
+     */
+    int getValidatedLinkCount() {
+        return results.size();
+    }
+
+    /**
+     * Validates all distinct relative links being referenced from the given mojo descriptors concurrently.
+     *
+     * @param mojoDescriptors the descriptors whose links to validate
+     * @throws InterruptedException in case the current thread has been interrupted while waiting
+     */
+    void validate(Collection<MojoDescriptor> mojoDescriptors) throws InterruptedException {
+        Set<URI> links = new LinkedHashSet<>();
+        for (MojoDescriptor mojoDescriptor : mojoDescriptors) {
+            collectLinks(mojoDescriptor, links);
+        }
+        links.removeAll(results.keySet());
+        if (links.isEmpty()) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(
+                MAX_THREADS, Math.min(links.size(), Runtime.getRuntime().availableProcessors())));
+        try {
+            List<Callable<Boolean>> tasks = new ArrayList<>(links.size());
+            for (URI link : links) {
+                tasks.add(() -> isValid(link));
+            }
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not validate link", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Collects the relative links being referenced from the given mojo descriptor, i.e. the ones validated by this
+     * class.
+     *
+     * @param mojoDescriptor the descriptor whose links to collect
+     * @param links the set to add the links to
+     */
+    static void collectLinks(MojoDescriptor mojoDescriptor, Set<URI> links) {
+        collectLinks(mojoDescriptor.getDescription(), links);
+        collectLinks(mojoDescriptor.getDeprecated(), links);
+        if (mojoDescriptor.getParameters() == null) {
+            return;
+        }
+        for (Parameter parameter : mojoDescriptor.getParameters()) {
+            collectLinks(parameter.getDescription(), links);
+            collectLinks(parameter.getDeprecated(), links);
+            if (parameter instanceof EnhancedParameterWrapper) {
+                URI typeJavadocUrl = ((EnhancedParameterWrapper) parameter).getTypeJavadocUrl();
+                if (typeJavadocUrl != null && !typeJavadocUrl.isAbsolute()) {
+                    links.add(typeJavadocUrl);
+                }
+            }
+        }
+    }
+
+    private static void collectLinks(String xhtmlText, Set<URI> links) {
+        if (xhtmlText == null || xhtmlText.isEmpty()) {
+            return;
+        }
+        Matcher matcher = HTML_LINK_PATTERN.matcher(xhtmlText);
+        while (matcher.find()) {
+            try {
+                URI link = new URI(matcher.group(1));
+                // only relative links are validated, see GoalRenderer
+                if (!link.isAbsolute()) {
+                    links.add(link);
+                }
+            } catch (URISyntaxException e) {
+                // reported when rendering
+            }
+        }
+    }
+}
@@ -32,7 +32,9 @@ import org.eclipse.aether.RepositorySystem;
 /**
  * Generates the plugin's report: the plugin details page at <code>plugin-info.html</code>,
  * and one <code><i>goal</i>-mojo.html</code> per goal.
- * Relies on one output file from <a href="../maven-plugin-plugin/descriptor-mojo.html">plugin:descriptor</a>.
+ * Relies on one output file from <a href="../maven-plugin-plugin/descriptor-mojo.html">plugin:descriptor</a>,
+ * or on the descriptor it has published in memory when it has been executed earlier within the same build
+ * (e.g. {@code mvn install site}).
  *
  * @since 3.14.0
  */
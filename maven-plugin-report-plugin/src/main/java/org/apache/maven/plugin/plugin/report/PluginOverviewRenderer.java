@@ -29,6 +29,7 @@ import org.apache.maven.doxia.sink.impl.SinkEventAttributeSet;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
+import org.apache.maven.tools.plugin.util.MavenReportDetector;
 import org.apache.maven.tools.plugin.util.PluginUtils;
 import org.codehaus.plexus.i18n.I18N;
 
@@ -44,6 +45,8 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
 
     private final boolean hasExtensionsToLoad;
 
+    private final MavenReportDetector mavenReportDetector;
+
     /**
      * @param sink                  not null
      * @param i18n                  not null
@@ -51,7 +54,9 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
      * @param project               not null
      * @param requirementsHistories not null
      * @param pluginDescriptor      not null
+     * @param mavenReportDetector   not null
      */
+    @SuppressWarnings("checkstyle:parameternumber")
     PluginOverviewRenderer(
             Sink sink,
             I18N i18n,
@@ -59,7 +64,8 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
             MavenProject project,
             List<RequirementsHistory> requirementsHistories,
             PluginDescriptor pluginDescriptor,
-            boolean hasExtensionsToLoad) {
+            boolean hasExtensionsToLoad,
+            MavenReportDetector mavenReportDetector) {
         super(sink, locale, i18n, project);
 
         this.requirementsHistories = requirementsHistories;
@@ -67,6 +73,8 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
         this.pluginDescriptor = pluginDescriptor;
 
         this.hasExtensionsToLoad = hasExtensionsToLoad;
+
+        this.mavenReportDetector = mavenReportDetector;
     }
 
     /**
@@ -84,7 +92,7 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
 
         boolean hasMavenReport = false;
         for (MojoDescriptor mojo : pluginDescriptor.getMojos()) {
-            if (PluginUtils.isMavenReport(mojo.getImplementation(), project)) {
+            if (isMavenReport(mojo)) {
                 hasMavenReport = true;
                 break;
             }
@@ -103,6 +111,13 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
         endSection();
     }
 
+    private boolean isMavenReport(MojoDescriptor mojo) {
+        if (mojo.getImplementation() == null) {
+            throw new IllegalArgumentException("mojo implementation should be declared");
+        }
+        return mavenReportDetector.isMavenReport(mojo.getImplementation());
+    }
+
     private void renderGoalsSection(boolean hasMavenReport) {
         startSection(getI18nString("goals"));
 
@@ -136,7 +151,7 @@ class PluginOverviewRenderer extends AbstractPluginReportRenderer {
             sink.tableCell_();
 
             if (hasMavenReport) {
-                if (PluginUtils.isMavenReport(mojo.getImplementation(), project)) {
+                if (isMavenReport(mojo)) {
                     tableCell(getI18nString("isReport"));
                 } else {
                     tableCell(getI18nString("isNotReport"));
@@ -20,14 +20,25 @@ package org.apache.maven.plugin.plugin.report;
 
 import javax.inject.Inject;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
 import java.util.stream.Collectors;
 
 import org.apache.maven.RepositoryUtils;
@@ -37,6 +48,7 @@ import org.apache.maven.execution.MavenSession;
 import org.apache.maven.model.building.ModelBuildingRequest;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.apache.maven.plugin.logging.Log;
 import org.apache.maven.plugins.annotations.Execute;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -50,12 +62,20 @@ import org.apache.maven.project.ProjectBuildingException;
 import org.apache.maven.project.ProjectBuildingRequest;
 import org.apache.maven.reporting.AbstractMavenReport;
 import org.apache.maven.reporting.MavenReportException;
+import org.apache.maven.reporting.MavenReportRenderer;
 import org.apache.maven.rtinfo.RuntimeInformation;
+import org.apache.maven.tools.plugin.descriptor.CompactPluginDescriptorReader;
+import org.apache.maven.tools.plugin.descriptor.PublishedEnhancedPluginDescriptor;
+import org.apache.maven.tools.plugin.javadoc.JavadocHttpClient;
+import org.apache.maven.tools.plugin.util.MavenReportDetector;
 import org.codehaus.plexus.configuration.PlexusConfigurationException;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
 import org.codehaus.plexus.i18n.I18N;
 import org.codehaus.plexus.util.xml.XmlStreamReader;
 import org.eclipse.aether.RepositorySystem;
 import org.eclipse.aether.artifact.DefaultArtifact;
+import org.eclipse.aether.resolution.ArtifactRequest;
+import org.eclipse.aether.resolution.ArtifactResolutionException;
 import org.eclipse.aether.resolution.VersionRangeRequest;
 import org.eclipse.aether.resolution.VersionRangeResolutionException;
 import org.eclipse.aether.resolution.VersionRangeResult;
@@ -65,6 +85,8 @@ import org.eclipse.aether.version.Version;
  * Generates the plugin's report: the plugin details page at <code>plugin-info.html</code>
  * and one <code><i>goal</i>-mojo.html</code> per goal.
  * Relies on one output file from <a href="../maven-plugin-plugin/descriptor-mojo.html">plugin:descriptor</a>.
+ * The timings and counts of each execution are written to <code>plugin-report-metrics.json</code> in the same
+ * directory and summarized in the log.
  *
  * @author <a href="snicoll@apache.org">Stephane Nicoll</a>
  * @author <a href="mailto:vincent.siveton@gmail.com">Vincent Siveton</a>
@@ -74,6 +96,9 @@ import org.eclipse.aether.version.Version;
 @Execute(phase = LifecyclePhase.PROCESS_CLASSES)
 public class PluginReport extends AbstractMavenReport {
 
+    /** The name of the file in the report output directory to which the metrics of each execution are written. */
+    private static final String METRICS_FILE_NAME = "plugin-report-metrics.json";
+
     /**
      * Set this to "true" to skip generating the report.
      *
@@ -119,6 +144,27 @@ public class PluginReport extends AbstractMavenReport {
     @Parameter(defaultValue = "[0,)")
     private String requirementsHistoryDetectionRange;
 
+    /**
+     * Set this to "true" to build the projects of the releases in {@link #requirementsHistoryDetectionRange}
+     * concurrently, using at most one thread per available processor. Releases whose requirements are cached in
+     * {@link #requirementsHistoryCacheFile} are not built at all.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(defaultValue = "false", property = "maven.plugin.report.parallelRequirementsHistoryDetection")
+    private boolean parallelRequirementsHistoryDetection;
+
+    /**
+     * File caching the requirements detected for the releases in {@link #requirementsHistoryDetectionRange}, so that
+     * only releases not being detected before need to be resolved. As releases are immutable the file never needs to be
+     * cleaned. If not set, the file {@code plugin-requirements-history.properties} in the plugin's directory of the
+     * local repository is used.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(property = "maven.plugin.report.requirementsHistoryCacheFile")
+    private File requirementsHistoryCacheFile;
+
     private final RuntimeInformation rtInfo;
 
     /**
@@ -134,6 +180,16 @@ public class PluginReport extends AbstractMavenReport {
     @Parameter(defaultValue = "${project.build.directory}/plugin-enhanced.xml", required = true, readonly = true)
     private File enhancedPluginXmlFile;
 
+    /**
+     * Path to the compact binary version of the enhanced plugin descriptor, written by
+     * <a href="../maven-plugin-plugin/descriptor-mojo.html#compactDescriptor">plugin:descriptor</a> on request.
+     * It is used instead of {@link #enhancedPluginXmlFile} if it exists and is not older.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(defaultValue = "${project.build.directory}/plugin-enhanced.bin", required = true, readonly = true)
+    private File compactEnhancedPluginDescriptorFile;
+
     /**
      * In case the internal javadoc site has not been generated when running this report goal
      * (e.g. when using an aggregator javadoc report) link validation needs to be disabled by setting
@@ -147,6 +203,43 @@ public class PluginReport extends AbstractMavenReport {
     @Parameter(property = "maven.plugin.report.disableInternalJavadocLinkValidation")
     private boolean disableInternalJavadocLinkValidation;
 
+    /**
+     * Set this to "true" to render the goal pages concurrently, using at most one thread per available processor.
+     * The log output and the generated pages are the same as when rendering them one after another.
+     * In case several goal pages fail to render, the failure of the first one (in the order of the goals) is reported.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(defaultValue = "false", property = "maven.plugin.report.parallelGoalRendering")
+    private boolean parallelGoalRendering;
+
+    /**
+     * Set this to "true" to only render those goal pages whose content has changed since the last execution, i.e.
+     * whose mojo descriptor, link validation results, locale or report plugin version differ, or whose output does
+     * not exist any longer. The previous output of all other goal pages is kept as is.
+     * Changes which are not part of the report itself (like a modified site descriptor or skin) are not detected,
+     * so a clean build is necessary in that case.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(defaultValue = "false", property = "maven.plugin.report.incrementalGoalRendering")
+    private boolean incrementalGoalRendering;
+
+    /**
+     * The file storing the hashes of the inputs of all goal pages rendered by the last execution for each locale,
+     * used by {@link #incrementalGoalRendering}.
+     *
+     * @since 4.0.0
+     */
+    @Parameter(defaultValue = "${project.build.directory}/plugin-report-goals.sha256", required = true, readonly = true)
+    private File goalPagesFingerprintFile;
+
+    /**
+     * The version of this report plugin, as the goal pages depend on its templates and i18n bundles.
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String reportPluginVersion;
+
     private final MavenSession mavenSession;
 
     private final RepositorySystem repositorySystem;
@@ -188,16 +281,51 @@ public class PluginReport extends AbstractMavenReport {
      */
     @Override
     protected void executeReport(Locale locale) throws MavenReportException {
-        PluginDescriptor pluginDescriptor = extractPluginDescriptor();
+        ReportMetrics metrics = new ReportMetrics();
+        // one detector for the overview and all goals, seeded from the enhanced descriptor
+        try (MavenReportDetector mavenReportDetector = MavenReportDetector.forProject(getProject());
+                JavadocHttpClient.Scope javadocHttpClientScope = JavadocHttpClient.openScope()) {
+            executeReport(locale, mavenReportDetector, javadocHttpClientScope, metrics);
+            metrics.addTiming("mavenReportDetection", mavenReportDetector.getClassReadTimeMillis());
+            metrics.addCount("mavenReportClassesRead", mavenReportDetector.getClassReadCount());
+        } catch (IOException e) {
+            throw new MavenReportException("Error closing the class path or HTTP clients used for " + getProject(), e);
+        }
+        getLog().info("Generated plugin report in " + metrics);
+        File metricsFile = new File(getReportOutputDirectory(), METRICS_FILE_NAME);
+        try {
+            metrics.write(metricsFile.toPath());
+        } catch (IOException e) {
+            getLog().warn("Could not write report metrics to " + metricsFile + ": " + e.getMessage());
+        }
+    }
+
+    private void executeReport(
+            Locale locale,
+            MavenReportDetector mavenReportDetector,
+            JavadocHttpClient.Scope javadocHttpClientScope,
+            ReportMetrics metrics)
+            throws MavenReportException {
+        long phaseStart = System.nanoTime();
+        PluginDescriptor pluginDescriptor = extractPluginDescriptor(mavenReportDetector);
+        metrics.addPhase("descriptor", phaseStart);
 
         // Generate the mojos' documentation
-        generateMojosDocumentation(pluginDescriptor, locale);
+        generateMojosDocumentation(pluginDescriptor, locale, mavenReportDetector, metrics);
+        JavadocHttpClient.Statistics linkValidationStatistics = javadocHttpClientScope.getStatistics();
+        if (linkValidationStatistics.getRequestCount() > 0) {
+            getLog().info("Validated javadoc links with " + linkValidationStatistics);
+        }
+        metrics.addTiming("javadocHttpRequests", linkValidationStatistics.getRequestTimeMillis());
+        metrics.addCount("javadocHttpRequests", linkValidationStatistics.getRequestCount());
+        metrics.addCount("javadocHttpRequestsFailed", linkValidationStatistics.getFailedRequestCount());
 
         if (requirementsHistories.isEmpty()) {
             // detect requirements history
-            String v = null;
             try {
+                phaseStart = System.nanoTime();
                 List<Version> versions = discoverVersions(requirementsHistoryDetectionRange);
+                metrics.addPhase("versionDiscovery", phaseStart);
                 if (versions.isEmpty()) {
                     getLog().info("No plugin history found for range " + requirementsHistoryDetectionRange);
                 } else {
@@ -208,29 +336,66 @@ public class PluginReport extends AbstractMavenReport {
                 }
 
                 Collections.reverse(versions);
-                for (Version version : versions) {
-                    v = version.toString();
-                    MavenProject versionProject = buildMavenProject(v);
-                    RequirementsHistory requirements = RequirementsHistory.discoverRequirements(versionProject);
+                phaseStart = System.nanoTime();
+                RequirementsHistoryCache cache = loadRequirementsHistoryCache();
+                for (RequirementsHistory requirements : discoverRequirementsHistories(
+                        versions, cache, parallelRequirementsHistoryDetection, metrics)) {
                     requirementsHistories.add(requirements);
                     getLog().debug("  - " + requirements);
                 }
+                storeRequirementsHistoryCache(cache);
+                metrics.addPhase("requirementsDetection", phaseStart);
             } catch (VersionRangeResolutionException vrre) {
                 throw new MavenReportException(
                         "Cannot resolve past versions " + requirementsHistoryDetectionRange, vrre);
-            } catch (ProjectBuildingException pbe) {
-                throw new MavenReportException("Cannot resolve MavenProject for version " + v, pbe);
             }
         }
 
         // Write the overview
+        phaseStart = System.nanoTime();
         PluginOverviewRenderer r = new PluginOverviewRenderer(
-                getSink(), i18n, locale, getProject(), requirementsHistories, pluginDescriptor, hasExtensionsToLoad);
+                getSink(),
+                i18n,
+                locale,
+                getProject(),
+                requirementsHistories,
+                pluginDescriptor,
+                hasExtensionsToLoad,
+                mavenReportDetector);
         r.render();
+        metrics.addPhase("overview", phaseStart);
     }
 
-    private PluginDescriptor extractPluginDescriptor() throws MavenReportException {
-        PluginDescriptorBuilder builder = new EnhancedPluginDescriptorBuilder(rtInfo);
+    private PluginDescriptor extractPluginDescriptor(MavenReportDetector mavenReportDetector)
+            throws MavenReportException {
+        PluginDescriptorBuilder builder = new EnhancedPluginDescriptorBuilder(rtInfo, mavenReportDetector);
+
+        byte[] publishedDescriptor = PublishedEnhancedPluginDescriptor.get(getProject());
+        if (publishedDescriptor != null) {
+            try {
+                PluginDescriptor pluginDescriptor = builder.build(
+                        new XmlPlexusConfiguration(
+                                CompactPluginDescriptorReader.read(new ByteArrayInputStream(publishedDescriptor))),
+                        null);
+                getLog().debug("Using the plugin descriptor published by plugin:descriptor within this build");
+                return pluginDescriptor;
+            } catch (IOException | PlexusConfigurationException e) {
+                // e.g. published by a different version of plugin:descriptor
+                getLog().debug("Ignoring the plugin descriptor published by plugin:descriptor: " + e.getMessage());
+            }
+        }
+
+        if (compactEnhancedPluginDescriptorFile != null
+                && compactEnhancedPluginDescriptorFile.isFile()
+                && compactEnhancedPluginDescriptorFile.lastModified() >= enhancedPluginXmlFile.lastModified()) {
+            try (InputStream input = Files.newInputStream(compactEnhancedPluginDescriptorFile.toPath())) {
+                return builder.build(
+                        new XmlPlexusConfiguration(CompactPluginDescriptorReader.read(input)), null);
+            } catch (IOException | PlexusConfigurationException e) {
+                throw new MavenReportException(
+                        "Error extracting plugin descriptor from " + compactEnhancedPluginDescriptorFile, e);
+            }
+        }
 
         try (Reader input = new XmlStreamReader(Files.newInputStream(enhancedPluginXmlFile.toPath()))) {
             return builder.build(input);
@@ -277,34 +442,255 @@ public class PluginReport extends AbstractMavenReport {
      *
      * @param pluginDescriptor not null
      * @param locale           not null
+     * @param mavenReportDetector not null
+     * @param metrics not null
      * @throws MavenReportException if any
      * @throws IOException
      */
-    private void generateMojosDocumentation(PluginDescriptor pluginDescriptor, Locale locale)
+    private void generateMojosDocumentation(
+            PluginDescriptor pluginDescriptor,
+            Locale locale,
+            MavenReportDetector mavenReportDetector,
+            ReportMetrics metrics)
             throws MavenReportException {
         if (pluginDescriptor.getMojos() != null) {
-            for (MojoDescriptor descriptor : pluginDescriptor.getMojos()) {
-                GoalRenderer renderer;
+            LinkValidator linkValidator = new LinkValidator(getReportOutputDirectory().toPath());
+            if (!disableInternalJavadocLinkValidation) {
+                long phaseStart = System.nanoTime();
+                try {
+                    linkValidator.validate(pluginDescriptor.getMojos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new MavenReportException("Interrupted while validating javadoc links", e);
+                }
+                metrics.addPhase("linkValidation", phaseStart);
+                metrics.addCount("linksValidated", linkValidator.getValidatedLinkCount());
+                getLog().debug("Validated " + linkValidator.getValidatedLinkCount() + " distinct javadoc link(s)");
+            }
+            long phaseStart = System.nanoTime();
+            List<MojoDescriptor> mojos = pluginDescriptor.getMojos();
+            Map<String, String> goalPageHashes = new HashMap<>();
+            if (incrementalGoalRendering) {
+                mojos = getChangedGoalPages(mojos, locale, linkValidator, mavenReportDetector, goalPageHashes);
+                metrics.addCacheLookups(
+                        "goalPages", pluginDescriptor.getMojos().size() - mojos.size(), mojos.size());
+            }
+            if (parallelGoalRendering && mojos.size() > 1) {
+                renderGoalsConcurrently(mojos, locale, linkValidator, mavenReportDetector);
+            } else {
+                for (MojoDescriptor descriptor : mojos) {
+                    renderGoal(descriptor, locale, linkValidator, mavenReportDetector, getLog());
+                }
+            }
+            if (incrementalGoalRendering) {
                 try {
-                    String filename = descriptor.getGoal() + "-mojo.html";
-                    Sink sink = getSinkFactory().createSink(getReportOutputDirectory(), filename);
-                    renderer = new GoalRenderer(
-                            sink,
-                            i18n,
+                    // only written once all goal pages have been rendered successfully
+                    GoalPageFingerprint.write(goalPagesFingerprintFile.toPath(), locale, goalPageHashes);
+                } catch (IOException e) {
+                    getLog().warn("Could not write goal page hashes to " + goalPagesFingerprintFile + ": "
+                            + e.getMessage());
+                }
+            }
+            metrics.addPhase("goalPages", phaseStart);
+            metrics.addCount("goals", pluginDescriptor.getMojos().size());
+            metrics.addCount("goalPagesRendered", mojos.size());
+        }
+    }
+
+    /**
+     * Determines the goal pages which need to be rendered as their inputs have changed since the last execution
+     * or their output does not exist.
+     *
+     * @param goalPageHashes the map to which to add the current hash of every goal page
+     * @return the mojos whose goal page needs to be rendered, in their original order
+     */
+    private List<MojoDescriptor> getChangedGoalPages(
+            List<MojoDescriptor> mojos,
+            Locale locale,
+            LinkValidator linkValidator,
+            MavenReportDetector mavenReportDetector,
+            Map<String, String> goalPageHashes) {
+        Map<String, String> previousHashes;
+        try {
+            previousHashes = GoalPageFingerprint.read(goalPagesFingerprintFile.toPath(), locale);
+        } catch (IOException e) {
+            getLog().warn("Could not read goal page hashes from " + goalPagesFingerprintFile + ": " + e.getMessage());
+            previousHashes = Collections.emptyMap();
+        }
+        List<MojoDescriptor> changedMojos = new ArrayList<>();
+        for (MojoDescriptor descriptor : mojos) {
+            String hash = new GoalPageFingerprint(
                             locale,
-                            project,
-                            descriptor,
+                            reportPluginVersion,
                             getReportOutputDirectory(),
                             disableInternalJavadocLinkValidation,
-                            getLog());
-                } catch (IOException e) {
-                    throw new MavenReportException("Cannot generate sink for mojo " + descriptor.getGoal(), e);
+                            descriptor.getImplementation() != null
+                                    && mavenReportDetector.isMavenReport(descriptor.getImplementation()))
+                    .addMojo(descriptor, disableInternalJavadocLinkValidation ? null : linkValidator::isValid)
+                    .toHash();
+            goalPageHashes.put(descriptor.getGoal(), hash);
+            if (!hash.equals(previousHashes.get(descriptor.getGoal()))
+                    || !new File(getReportOutputDirectory(), descriptor.getGoal() + "-mojo.html").isFile()) {
+                changedMojos.add(descriptor);
+            }
+        }
+        getLog().info("Rendering " + changedMojos.size() + " of " + mojos.size()
+                + " goal page(s), the others are unchanged");
+        return changedMojos;
+    }
+
+    /**
+     * Renders the given goal pages on a bounded pool. The sink factory is not thread-safe, so the sinks and renderers
+     * are created upfront on the calling thread, in the order of the goals.
+     */
+    private void renderGoalsConcurrently(
+            List<MojoDescriptor> mojos,
+            Locale locale,
+            LinkValidator linkValidator,
+            MavenReportDetector mavenReportDetector)
+            throws MavenReportException {
+        List<Sink> sinks = new ArrayList<>(mojos.size());
+        List<MavenReportRenderer> renderers = new ArrayList<>(mojos.size());
+        List<BufferedLog> logs = new ArrayList<>(mojos.size());
+        try {
+            for (MojoDescriptor descriptor : mojos) {
+                Sink sink = createGoalSink(descriptor);
+                sinks.add(sink);
+                BufferedLog log = new BufferedLog(getLog());
+                logs.add(log);
+                renderers.add(createGoalRenderer(descriptor, sink, locale, linkValidator, mavenReportDetector, log));
+            }
+        } catch (MavenReportException e) {
+            // none of the sinks has been rendered yet
+            sinks.forEach(Sink::close);
+            throw e;
+        }
+        renderConcurrently(renderers, sinks, logs, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Executes the given renderers on a bounded pool. The log output of each renderer is buffered in the log at the
+     * same index and replayed in the order of the renderers. All renderers before a failed one are awaited, so that
+     * the same failure is reported independent of the scheduling. Once a renderer has failed, the renderers which
+     * have not started yet are skipped and their sinks (at the same index) are closed instead.
+     */
+    static void renderConcurrently(
+            List<? extends MavenReportRenderer> renderers,
+            List<? extends Sink> sinks,
+            List<BufferedLog> logs,
+            int threads)
+            throws MavenReportException {
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(renderers.size(), threads));
+        // the renderers and the i18n component may rely on the context class loader to look up resources
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        // each renderer is claimed either by its task to run it or by the failure handling to close its sink
+        List<AtomicBoolean> claimed = new ArrayList<>(renderers.size());
+        AtomicBoolean failed = new AtomicBoolean();
+        boolean success = false;
+        try {
+            List<Future<Void>> renderings = new ArrayList<>(renderers.size());
+            for (int i = 0; i < renderers.size(); i++) {
+                AtomicBoolean rendererClaimed = new AtomicBoolean();
+                claimed.add(rendererClaimed);
+                MavenReportRenderer renderer = renderers.get(i);
+                Sink sink = sinks.get(i);
+                renderings.add(executor.submit(() -> {
+                    if (!rendererClaimed.compareAndSet(false, true)) {
+                        return null;
+                    }
+                    if (failed.get()) {
+                        sink.close();
+                        return null;
+                    }
+                    Thread.currentThread().setContextClassLoader(contextClassLoader);
+                    try {
+                        renderer.render();
+                    } catch (Exception | Error e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                    return null;
+                }));
+            }
+            for (int i = 0; i < renderings.size(); i++) {
+                try {
+                    renderings.get(i).get();
+                } finally {
+                    logs.get(i).replay();
+                }
+            }
+            success = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MavenReportException("Interrupted while rendering the goal pages", e);
+        } catch (ExecutionException e) {
+            throw toMavenReportException(e);
+        } finally {
+            executor.shutdownNow();
+            if (!success) {
+                // the renderers which never ran would leave their sinks and the underlying writers open
+                for (int i = 0; i < claimed.size(); i++) {
+                    if (claimed.get(i).compareAndSet(false, true)) {
+                        sinks.get(i).close();
+                    }
                 }
-                renderer.render();
             }
         }
     }
 
+    /**
+     * Unwraps the failure of a task executed concurrently. Unchecked exceptions are rethrown as is.
+     */
+    private static MavenReportException toMavenReportException(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof MavenReportException) {
+            return (MavenReportException) cause;
+        } else if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        } else if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new MavenReportException(cause.getMessage(), (Exception) cause);
+    }
+
+    private void renderGoal(
+            MojoDescriptor descriptor,
+            Locale locale,
+            LinkValidator linkValidator,
+            MavenReportDetector mavenReportDetector,
+            Log log)
+            throws MavenReportException {
+        createGoalRenderer(descriptor, createGoalSink(descriptor), locale, linkValidator, mavenReportDetector, log)
+                .render();
+    }
+
+    private Sink createGoalSink(MojoDescriptor descriptor) throws MavenReportException {
+        try {
+            return getSinkFactory().createSink(getReportOutputDirectory(), descriptor.getGoal() + "-mojo.html");
+        } catch (IOException e) {
+            throw new MavenReportException("Cannot generate sink for mojo " + descriptor.getGoal(), e);
+        }
+    }
+
+    private GoalRenderer createGoalRenderer(
+            MojoDescriptor descriptor,
+            Sink sink,
+            Locale locale,
+            LinkValidator linkValidator,
+            MavenReportDetector mavenReportDetector,
+            Log log) {
+        return new GoalRenderer(
+                sink,
+                i18n,
+                locale,
+                project,
+                descriptor,
+                linkValidator,
+                disableInternalJavadocLinkValidation,
+                log,
+                mavenReportDetector);
+    }
+
     private List<Version> discoverVersions(String range) throws VersionRangeResolutionException {
         MavenProject currentProject = mavenSession.getCurrentProject();
         VersionRangeRequest rangeRequest = new VersionRangeRequest();
@@ -319,7 +705,152 @@ public class PluginReport extends AbstractMavenReport {
                 .collect(Collectors.toList());
     }
 
-    private MavenProject buildMavenProject(String version) throws ProjectBuildingException {
+    /**
+     * Detects the requirements of the given releases, either from the cache or by building their projects.
+     * The latter happens concurrently if {@code parallel} is enabled; in that case the failure of the first release
+     * (in the given order) is reported.
+     *
+     * @param parallel whether to detect the requirements of releases which are not cached concurrently
+     * @return the requirements in the order of the given versions
+     */
+    List<RequirementsHistory> discoverRequirementsHistories(
+            List<Version> versions, RequirementsHistoryCache cache, boolean parallel, ReportMetrics metrics)
+            throws MavenReportException {
+        List<RequirementsHistory> requirementsList = new ArrayList<>(Collections.nCopies(versions.size(), null));
+        List<Integer> uncachedIndices = new ArrayList<>();
+        for (int i = 0; i < versions.size(); i++) {
+            String v = versions.get(i).toString();
+            RequirementsHistory requirements = cache.get(getRequirementsHistoryCacheKey(v), v);
+            if (requirements == null) {
+                uncachedIndices.add(i);
+            } else {
+                requirementsList.set(i, requirements);
+            }
+        }
+        getLog().debug("Reused cached requirements of " + (versions.size() - uncachedIndices.size())
+                + " release(s)");
+        metrics.addCount("releases", versions.size());
+        metrics.addCacheLookups(
+                "requirementsHistory", versions.size() - uncachedIndices.size(), uncachedIndices.size());
+
+        if (parallel && uncachedIndices.size() > 1) {
+            ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(uncachedIndices.size(), Runtime.getRuntime().availableProcessors()));
+            // the project builder may rely on the context class loader, e.g. for model extensions
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            try {
+                List<Future<RequirementsHistory>> discoveries = new ArrayList<>(uncachedIndices.size());
+                for (int index : uncachedIndices) {
+                    String v = versions.get(index).toString();
+                    discoveries.add(executor.submit(() -> {
+                        Thread.currentThread().setContextClassLoader(contextClassLoader);
+                        return discoverRequirements(v, metrics);
+                    }));
+                }
+                for (int i = 0; i < uncachedIndices.size(); i++) {
+                    requirementsList.set(uncachedIndices.get(i), discoveries.get(i).get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new MavenReportException("Interrupted while detecting the plugin requirements history", e);
+            } catch (ExecutionException e) {
+                throw toMavenReportException(e);
+            } finally {
+                executor.shutdownNow();
+            }
+        } else {
+            for (int index : uncachedIndices) {
+                requirementsList.set(index, discoverRequirements(versions.get(index).toString(), metrics));
+            }
+        }
+
+        for (int index : uncachedIndices) {
+            String v = versions.get(index).toString();
+            cache.put(getRequirementsHistoryCacheKey(v), requirementsList.get(index));
+        }
+        return requirementsList;
+    }
+
+    /**
+     * Detects the requirements of a release from the plugin descriptor contained in its artifact, falling back to
+     * building its project for releases whose descriptor does not contain them.
+     */
+    private RequirementsHistory discoverRequirements(String version, ReportMetrics metrics)
+            throws MavenReportException {
+        RequirementsHistory requirements = readRequirementsFromPluginDescriptor(version);
+        if (requirements != null) {
+            metrics.addCount("releaseDescriptorsRead", 1);
+            return requirements;
+        }
+        metrics.addCount("releaseProjectsBuilt", 1);
+        try {
+            return RequirementsHistory.discoverRequirements(buildMavenProject(version));
+        } catch (ProjectBuildingException pbe) {
+            throw new MavenReportException("Cannot resolve MavenProject for version " + version, pbe);
+        }
+    }
+
+    RequirementsHistory readRequirementsFromPluginDescriptor(String version) {
+        MavenProject currentProject = mavenSession.getCurrentProject();
+        ArtifactRequest artifactRequest = new ArtifactRequest(
+                new DefaultArtifact(
+                        currentProject.getGroupId() + ":" + currentProject.getArtifactId() + ":jar:" + version),
+                RepositoryUtils.toRepos(currentProject.getRemoteArtifactRepositories()),
+                null);
+        try {
+            File file = repositorySystem
+                    .resolveArtifact(mavenSession.getRepositorySession(), artifactRequest)
+                    .getArtifact()
+                    .getFile();
+            try (JarFile jarFile = new JarFile(file)) {
+                JarEntry entry = jarFile.getJarEntry("META-INF/maven/plugin.xml");
+                if (entry == null) {
+                    return null;
+                }
+                try (InputStream input = jarFile.getInputStream(entry)) {
+                    return RequirementsHistory.readRequirements(version, input);
+                }
+            }
+        } catch (ArtifactResolutionException | IOException e) {
+            getLog().debug("Cannot read plugin descriptor of version " + version + ", building its project: "
+                    + e.getMessage());
+            return null;
+        }
+    }
+
+    private String getRequirementsHistoryCacheKey(String version) {
+        return getProject().getGroupId() + ":" + getProject().getArtifactId() + ":" + version;
+    }
+
+    private RequirementsHistoryCache loadRequirementsHistoryCache() {
+        File cacheFile = requirementsHistoryCacheFile;
+        if (cacheFile == null) {
+            File localRepository =
+                    mavenSession.getRepositorySession().getLocalRepository().getBasedir();
+            cacheFile = new File(
+                    localRepository,
+                    getProject().getGroupId().replace('.', '/') + '/' + getProject().getArtifactId()
+                            + "/plugin-requirements-history.properties");
+        }
+        RequirementsHistoryCache cache = new RequirementsHistoryCache(cacheFile.toPath());
+        try {
+            cache.load();
+        } catch (IOException e) {
+            getLog().warn("Ignoring unreadable requirements history cache " + cacheFile + ": " + e.getMessage());
+        }
+        return cache;
+    }
+
+    private void storeRequirementsHistoryCache(RequirementsHistoryCache cache) {
+        try {
+            cache.store();
+        } catch (IOException e) {
+            // the requirements are just detected again next time
+            getLog().warn("Could not write requirements history cache: " + e.getMessage());
+        }
+    }
+
+    MavenProject buildMavenProject(String version) throws ProjectBuildingException {
         MavenProject currentProject = mavenSession.getCurrentProject();
         ProjectBuildingRequest buildRequest = new DefaultProjectBuildingRequest();
         buildRequest.setLocalRepository(mavenSession.getLocalRepository());
@@ -0,0 +1,196 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Timings and counts of a report execution, to find out where the time is spent. Phases are the consecutive steps
+ * of the execution, whereas timings are accumulated over several (possibly concurrent) operations within the phases.
+ * The metrics are written as JSON file to allow tracking them over time.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 4.0.0
+ */
+final class ReportMetrics {
+
+    private final long startNanos = System.nanoTime();
+
+    /** The duration in nanoseconds per phase, in the order of their execution. */
+    private final Map<String, Long> phases = new LinkedHashMap<>();
+
+    /** The duration in milliseconds per timing. */
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
+    private final Map<String, Long> counts = new LinkedHashMap<>();
+
+    /** The hits and misses per cache. */
+    private final Map<String, long[]> caches = new LinkedHashMap<>();
+
+    /**
+     * Records a phase ending now.
+     *
+     * @param phase the name of the phase, the durations of a phase executed several times are summed up
+     * @param phaseStartNanos the start of the phase as returned by {@link System#nanoTime()}
+     */
+    synchronized void addPhase(String phase, long phaseStartNanos) {
+        phases.merge(phase, System.nanoTime() - phaseStartNanos, Long::sum);
+    }
+
+    synchronized void addTiming(String timing, long millis) {
+        timings.merge(timing, millis, Long::sum);
+    }
+
+    synchronized void addCount(String count, long value) {
+        counts.merge(count, value, Long::sum);
+    }
+
+    synchronized void addCacheLookups(String cache, long hits, long misses) {
+        long[] lookups = caches.computeIfAbsent(cache, c -> new long[2]);
+        lookups[0] += hits;
+        lookups[1] += misses;
+    }
+
+    /**
+     * @return the metrics as JSON object, the total duration is measured until now
+     */
+    synchronized String toJson() {
+        StringBuilder json = new StringBuilder("{\n");
+        json.append("  \"totalMillis\": ").append(getTotalMillis()).append(",\n");
+        json.append("  \"phases\": {");
+        String separator = "\n";
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            json.append(separator).append("    ");
+            appendString(json, phase.getKey()).append(": ").append(TimeUnit.NANOSECONDS.toMillis(phase.getValue()));
+            separator = ",\n";
+        }
+        json.append(phases.isEmpty() ? "" : "\n  ").append("},\n");
+        json.append("  \"timings\": {");
+        appendValues(json, timings);
+        json.append("},\n");
+        json.append("  \"counts\": {");
+        appendValues(json, counts);
+        json.append("},\n");
+        json.append("  \"caches\": {");
+        separator = "\n";
+        for (Map.Entry<String, long[]> cache : caches.entrySet()) {
+            long hits = cache.getValue()[0];
+            long misses = cache.getValue()[1];
+            json.append(separator).append("    ");
+            appendString(json, cache.getKey())
+                    .append(": {\"hits\": ")
+                    .append(hits)
+                    .append(", \"misses\": ")
+                    .append(misses)
+                    .append(", \"hitRate\": ")
+                    .append(formatHitRate(hits, misses))
+                    .append('}');
+            separator = ",\n";
+        }
+        json.append(caches.isEmpty() ? "" : "\n  ").append("}\n");
+        return json.append("}\n").toString();
+    }
+
+    /**
+     * @param file the file to write to, its parent directories are created if necessary
+     * @throws IOException in case the file could not be written
+     */
+    void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.write(file, toJson().getBytes(UTF_8));
+    }
+
+    /**
+     * @return a one line summary of the phases, counts and caches, the total duration is measured until now
+     */
+    @Override
+    public synchronized String toString() {
+        StringBuilder summary = new StringBuilder().append(getTotalMillis()).append(" ms");
+        String separator = " (";
+        for (Map.Entry<String, Long> phase : phases.entrySet()) {
+            summary.append(separator)
+                    .append(phase.getKey())
+                    .append(' ')
+                    .append(TimeUnit.NANOSECONDS.toMillis(phase.getValue()))
+                    .append(" ms");
+            separator = ", ";
+        }
+        summary.append(phases.isEmpty() ? "" : ")");
+        for (Map.Entry<String, Long> count : counts.entrySet()) {
+            summary.append(", ").append(count.getKey()).append(' ').append(count.getValue());
+        }
+        for (Map.Entry<String, long[]> cache : caches.entrySet()) {
+            long hits = cache.getValue()[0];
+            long misses = cache.getValue()[1];
+            summary.append(", ")
+                    .append(cache.getKey())
+                    .append(" cache ")
+                    .append(hits)
+                    .append('/')
+                    .append(hits + misses)
+                    .append(" hit(s)");
+        }
+        return summary.toString();
+    }
+
+    private long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static void appendValues(StringBuilder json, Map<String, Long> values) {
+        String separator = "\n";
+        for (Map.Entry<String, Long> value : values.entrySet()) {
+            json.append(separator).append("    ");
+            appendString(json, value.getKey()).append(": ").append(value.getValue());
+            separator = ",\n";
+        }
+        json.append(values.isEmpty() ? "" : "\n  ");
+    }
+
+    private static String formatHitRate(long hits, long misses) {
+        if (hits + misses == 0) {
+            return "null";
+        }
+        return String.format(Locale.ROOT, "%.3f", (double) hits / (hits + misses));
+    }
+
+    private static StringBuilder appendString(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                json.append('\\').append(c);
+            } else if (c < 0x20) {
+                json.append(String.format(Locale.ROOT, "\\u%04x", (int) c));
+            } else {
+                json.append(c);
+            }
+        }
+        return json.append('"');
+    }
+}
@@ -18,6 +18,8 @@
  */
 package org.apache.maven.plugin.plugin.report;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
@@ -30,7 +32,11 @@ import org.apache.maven.model.Prerequisites;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.tools.plugin.PluginDescriptorHelper;
+import org.codehaus.plexus.util.xml.XmlStreamReader;
 import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
  * Plugin requirements history.
@@ -75,6 +81,21 @@ public class RequirementsHistory {
         return sb.toString();
     }
 
+    /**
+     * @param version the plugin version
+     * @param maven the minimum Maven version, may be {@code null}
+     * @param jdk the minimum JDK version, may be {@code null}
+     * @return the requirements history entry with the given values
+     * @since 4.0.0
+     */
+    static RequirementsHistory create(String version, String maven, String jdk) {
+        RequirementsHistory req = new RequirementsHistory();
+        req.version = version;
+        req.maven = maven;
+        req.jdk = jdk;
+        return req;
+    }
+
     public static RequirementsHistory discoverRequirements(MavenProject project) {
         RequirementsHistory req = new RequirementsHistory();
         req.version = project.getVersion();
@@ -82,6 +103,45 @@ public class RequirementsHistory {
         req.maven = discoverMavenRequirement(project, null);
         return req;
     }
+
+    /**
+     * Reads the requirements from the plugin descriptor ({@code META-INF/maven/plugin.xml}) of a released plugin.
+     * Only the descriptor's header is parsed, i.e. reading stops before the first mojo.
+     *
+     * @param version the plugin version
+     * @param pluginDescriptor the stream of the plugin descriptor, not closed by this method
+     * @return the requirements or {@code null} in case the descriptor does not contain both
+     * {@code requiredJavaVersion} and {@code requiredMavenVersion}, e.g. because it has been created by older
+     * plugin tools
+     * @throws IOException in case the descriptor could not be read or parsed
+     * @since 4.0.0
+     */
+    static RequirementsHistory readRequirements(String version, InputStream pluginDescriptor) throws IOException {
+        try {
+            XmlPullParser parser = new MXParser();
+            parser.setInput(new XmlStreamReader(pluginDescriptor));
+            String maven = null;
+            String jdk = null;
+            int eventType = parser.getEventType();
+            while (eventType != XmlPullParser.END_DOCUMENT && (maven == null || jdk == null)) {
+                // the requirements are direct children of the root element, preceding the mojos
+                if (eventType == XmlPullParser.START_TAG && parser.getDepth() == 2) {
+                    if ("requiredJavaVersion".equals(parser.getName())) {
+                        jdk = StringUtils.trimToNull(parser.nextText());
+                    } else if ("requiredMavenVersion".equals(parser.getName())) {
+                        maven = StringUtils.trimToNull(parser.nextText());
+                    } else if ("mojos".equals(parser.getName())) {
+                        break;
+                    }
+                }
+                eventType = parser.next();
+            }
+            return maven != null && jdk != null ? create(version, maven, jdk) : null;
+        } catch (XmlPullParserException e) {
+            throw new IOException("Cannot parse plugin descriptor of version " + version, e);
+        }
+    }
+
     /**
      * Tries to determine the Maven requirement from either the plugin descriptor or (if not set) from the
      * Maven prerequisites element in the POM.
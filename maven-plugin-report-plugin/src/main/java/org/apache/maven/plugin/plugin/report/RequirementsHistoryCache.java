@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+
+/**
+ * Persistent cache of the {@link RequirementsHistory} discovered for released plugin versions, keyed by
+ * {@code groupId:artifactId:version}. Releases are immutable, so each entry stays valid forever; only the
+ * {@link #FORMAT_VERSION} is increased whenever the discovery yields different results for the same release.
+ * The cache is stored as properties file with two entries per release ({@code <key>.maven} and {@code <key>.jdk}),
+ * with an empty value representing a missing requirement.
+ *
+ * @since 4.0.0
+ */
+class RequirementsHistoryCache {
+
+    static final String FORMAT_VERSION = "2";
+
+    private static final String FORMAT_VERSION_KEY = "formatVersion";
+
+    private static final String MAVEN_SUFFIX = ".maven";
+
+    private static final String JDK_SUFFIX = ".jdk";
+
+    private final Path file;
+
+    private final Properties entries = new Properties();
+
+    private boolean modified;
+
+    /**
+     * @param file the file the cache is stored in, not null
+     */
+    RequirementsHistoryCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the cache from its file. The cache stays empty if the file does not exist or has been written
+     * in a different format.
+     *
+     * @throws IOException in case the file exists but could not be read
+     */
+    void load() throws IOException {
+        entries.clear();
+        modified = false;
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        Properties storedEntries = new Properties();
+        try (InputStream input = Files.newInputStream(file)) {
+            storedEntries.load(input);
+        }
+        if (FORMAT_VERSION.equals(storedEntries.getProperty(FORMAT_VERSION_KEY))) {
+            entries.putAll(storedEntries);
+        }
+    }
+
+    /**
+     * @param key the {@code groupId:artifactId:version} of a release
+     * @param version the version of the release
+     * @return the cached requirements of the release or {@code null} if not cached
+     */
+    RequirementsHistory get(String key, String version) {
+        String maven = entries.getProperty(key + MAVEN_SUFFIX);
+        String jdk = entries.getProperty(key + JDK_SUFFIX);
+        if (maven == null || jdk == null) {
+            return null;
+        }
+        return RequirementsHistory.create(version, emptyToNull(maven), emptyToNull(jdk));
+    }
+
+    /**
+     * @param key the {@code groupId:artifactId:version} of a release
+     * @param requirements the discovered requirements of the release
+     */
+    void put(String key, RequirementsHistory requirements) {
+        entries.setProperty(key + MAVEN_SUFFIX, nullToEmpty(requirements.getMaven()));
+        entries.setProperty(key + JDK_SUFFIX, nullToEmpty(requirements.getJdk()));
+        modified = true;
+    }
+
+    /**
+     * Stores the cache in its file if entries have been added since it has been loaded. The file is replaced
+     * atomically (if supported by the file system), so that concurrent builds never read a partially written file.
+     *
+     * @throws IOException in case the file could not be written
+     */
+    void store() throws IOException {
+        if (!modified) {
+            return;
+        }
+        entries.setProperty(FORMAT_VERSION_KEY, FORMAT_VERSION);
+        Files.createDirectories(file.getParent());
+        Path tempFile = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream output = Files.newOutputStream(tempFile)) {
+                entries.store(output, "Plugin requirements per released version");
+            }
+            try {
+                Files.move(
+                        tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+        modified = false;
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -18,7 +18,6 @@
  */
 package org.apache.maven.plugins.plugin.descriptor;
 
-import java.io.Reader;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -34,6 +33,7 @@ import org.apache.maven.plugin.plugin.report.PluginReport;
 import org.apache.maven.rtinfo.RuntimeInformation;
 import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
 import org.apache.maven.tools.plugin.ExtendedPluginDescriptor;
+import org.apache.maven.tools.plugin.util.MavenReportDetector;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.codehaus.plexus.configuration.PlexusConfigurationException;
 
@@ -42,31 +42,39 @@ import org.codehaus.plexus.configuration.PlexusConfigurationException;
  * {@code PluginDescriptorFilesGenerator} and used by {@link PluginReport}.
  * Populates the slightly extended {@link Parameter} object {@link EnhancedParameterWrapper}.
  * In addition, populates all (optional) elements added after Maven Plugin API 3.2.5.
+ * The {@code mavenReport} flag recorded per mojo is passed on to an optional {@link MavenReportDetector}.
  */
 public class EnhancedPluginDescriptorBuilder extends PluginDescriptorBuilder {
     private final boolean requireAddingMissingParameterSinceField;
-    private PlexusConfiguration configuration;
+
+    private final MavenReportDetector mavenReportDetector;
 
     public EnhancedPluginDescriptorBuilder(RuntimeInformation rtInfo) {
-        this(rtInfo.isMavenVersion("[,3.3.9]"));
+        this(rtInfo, null);
+    }
+
+    /**
+     * @param rtInfo not null
+     * @param mavenReportDetector the detector to seed with the {@code mavenReport} flags, may be {@code null}
+     * @since 4.0.0
+     */
+    public EnhancedPluginDescriptorBuilder(RuntimeInformation rtInfo, MavenReportDetector mavenReportDetector) {
+        this(rtInfo.isMavenVersion("[,3.3.9]"), mavenReportDetector);
     }
 
     EnhancedPluginDescriptorBuilder(boolean requireAddingMissingParameterSinceField) {
-        this.requireAddingMissingParameterSinceField = requireAddingMissingParameterSinceField;
+        this(requireAddingMissingParameterSinceField, null);
     }
 
-    /**
-     * Cache the returned configuration for additional evaluation in {@link #build(Reader, String)}.
-     */
-    @Override
-    public PlexusConfiguration buildConfiguration(Reader reader) throws PlexusConfigurationException {
-        configuration = super.buildConfiguration(reader);
-        return configuration;
+    EnhancedPluginDescriptorBuilder(
+            boolean requireAddingMissingParameterSinceField, MavenReportDetector mavenReportDetector) {
+        this.requireAddingMissingParameterSinceField = requireAddingMissingParameterSinceField;
+        this.mavenReportDetector = mavenReportDetector;
     }
 
     @Override
-    public PluginDescriptor build(Reader reader, String source) throws PlexusConfigurationException {
-        PluginDescriptor pluginDescriptor = super.build(reader, source);
+    protected PluginDescriptor completePluginDescriptor(
+            PluginDescriptor pluginDescriptor, PlexusConfiguration configuration) throws PlexusConfigurationException {
         // elements added in plugin descriptor 1.1
         ExtendedPluginDescriptor extendedPluginDescriptor = new ExtendedPluginDescriptor(pluginDescriptor);
         extendedPluginDescriptor.setRequiredJavaVersion(
@@ -81,6 +89,12 @@ public class EnhancedPluginDescriptorBuilder extends PluginDescriptorBuilder {
             throws PlexusConfigurationException {
         MojoDescriptor mojoDescriptor = super.buildComponentDescriptor(c, pluginDescriptor);
 
+        PlexusConfiguration mavenReport = c.getChild("mavenReport", false);
+        if (mavenReport != null && mavenReportDetector != null && mojoDescriptor.getImplementation() != null) {
+            mavenReportDetector.setMavenReport(
+                    mojoDescriptor.getImplementation(), Boolean.parseBoolean(mavenReport.getValue()));
+        }
+
         // ----------------------------------------------------------------------
         // Parameters
         // ----------------------------------------------------------------------
@@ -91,7 +105,8 @@ public class EnhancedPluginDescriptorBuilder extends PluginDescriptorBuilder {
                 Optional.ofNullable(mojoDescriptor.getParameters()).orElseGet(Collections::emptyList));
         Map<String, Parameter> parameterMap = new LinkedHashMap<>(mojoDescriptor.getParameterMap());
 
-        for (PlexusConfiguration d : parameterConfigurations) {
+        for (int i = 0; i < parameterConfigurations.length; i++) {
+            PlexusConfiguration d = parameterConfigurations[i];
             String parameterName = d.getChild("name").getValue();
             // don't call getParameterMap() to not populate
             Parameter pd = parameterMap.get(parameterName);
@@ -103,7 +118,8 @@ public class EnhancedPluginDescriptorBuilder extends PluginDescriptorBuilder {
                 String parameterTypeJavadocUrl = configTypeJavadocUrl.getValue();
                 EnhancedParameterWrapper enhancedParameter = new EnhancedParameterWrapper(pd);
                 enhancedParameter.setTypeJavadocUrl(URI.create(parameterTypeJavadocUrl));
-                parameters.set(mojoDescriptor.getParameters().indexOf(pd), enhancedParameter);
+                // the parameters have been built in the order of their configurations
+                parameters.set(parameters.get(i) == pd ? i : parameters.indexOf(pd), enhancedParameter);
                 parameterMap.put(parameterName, enhancedParameter);
             }
         }
@@ -31,7 +31,10 @@ import org.codehaus.plexus.component.repository.ComponentRequirement;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.codehaus.plexus.configuration.PlexusConfigurationException;
 import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
 import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.codehaus.plexus.util.xml.pull.MXParser;
+import org.codehaus.plexus.util.xml.pull.XmlPullParser;
 import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
 
 /**
@@ -47,9 +50,90 @@ public class PluginDescriptorBuilder {
         return build(reader, null);
     }
 
+    /**
+     * Builds the plugin descriptor while streaming through the given XML. Only one mojo element is kept in memory at a
+     * time, so in contrast to {@link #build(PlexusConfiguration, String)} the tree of the whole descriptor is never
+     * created. The plugin's elements which are relevant for building the mojos (like {@code requiredMavenVersion})
+     * must precede the {@code mojos} element, as is the case for all descriptors written by the plugin tools.
+     *
+     * @param reader the reader of the XML plugin descriptor
+     * @param source the source of the descriptor, may be {@code null}
+     * @return the plugin descriptor
+     * @throws PlexusConfigurationException in case the XML could not be parsed or the descriptor is invalid
+     */
     public PluginDescriptor build(Reader reader, String source) throws PlexusConfigurationException {
-        PlexusConfiguration c = buildConfiguration(reader);
+        try {
+            XmlPullParser parser = new MXParser();
+            parser.setInput(reader);
+            parser.nextTag();
+            // all direct children of the root element except for the mojos
+            Xpp3Dom pluginElement = new Xpp3Dom(parser.getName());
+            PluginDescriptor pluginDescriptor = null;
+            while (parser.nextTag() == XmlPullParser.START_TAG) {
+                if ("mojos".equals(parser.getName())) {
+                    if (pluginDescriptor == null) {
+                        pluginDescriptor = buildPluginDescriptor(new XmlPlexusConfiguration(pluginElement), source);
+                    }
+                    while (parser.nextTag() == XmlPullParser.START_TAG) {
+                        Xpp3Dom mojoElement = Xpp3DomBuilder.build(parser);
+                        if ("mojo".equals(mojoElement.getName())) {
+                            pluginDescriptor.addMojo(buildComponentDescriptor(
+                                    new XmlPlexusConfiguration(mojoElement), pluginDescriptor));
+                        }
+                    }
+                } else {
+                    pluginElement.addChild(Xpp3DomBuilder.build(parser));
+                }
+            }
+            PlexusConfiguration c = new XmlPlexusConfiguration(pluginElement);
+            if (pluginDescriptor == null) {
+                pluginDescriptor = buildPluginDescriptor(c, source);
+            }
+            pluginDescriptor.setDependencies(buildDependencies(c));
+            return completePluginDescriptor(pluginDescriptor, c);
+        } catch (IOException | XmlPullParserException e) {
+            throw new PlexusConfigurationException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Builds the plugin descriptor from an already parsed configuration, e.g. from a compact plugin descriptor.
+     *
+     * @param c the root configuration
+     * @param source the source of the descriptor, may be {@code null}
+     * @return the plugin descriptor
+     * @throws PlexusConfigurationException in case the configuration is invalid
+     * @since 4.0.0
+     */
+    public PluginDescriptor build(PlexusConfiguration c, String source) throws PlexusConfigurationException {
+        PluginDescriptor pluginDescriptor = buildPluginDescriptor(c, source);
+
+        // ----------------------------------------------------------------------
+        // Components
+        // ----------------------------------------------------------------------
+
+        PlexusConfiguration[] mojoConfigurations = c.getChild("mojos").getChildren("mojo");
+
+        for (PlexusConfiguration component : mojoConfigurations) {
+            MojoDescriptor mojoDescriptor = buildComponentDescriptor(component, pluginDescriptor);
+
+            pluginDescriptor.addMojo(mojoDescriptor);
+        }
 
+        pluginDescriptor.setDependencies(buildDependencies(c));
+
+        return completePluginDescriptor(pluginDescriptor, c);
+    }
+
+    /**
+     * Builds the plugin descriptor without any mojos and dependencies.
+     *
+     * @param c the root configuration, the {@code mojos} element is not evaluated
+     * @param source the source of the descriptor, may be {@code null}
+     * @return the plugin descriptor
+     * @since 4.0.0
+     */
+    protected PluginDescriptor buildPluginDescriptor(PlexusConfiguration c, String source) {
         PluginDescriptor pluginDescriptor = new PluginDescriptor();
 
         pluginDescriptor.setSource(source);
@@ -80,18 +164,24 @@ public class PluginDescriptorBuilder {
             isV4 = false;
         }
 
-        // ----------------------------------------------------------------------
-        // Components
-        // ----------------------------------------------------------------------
-
-        PlexusConfiguration[] mojoConfigurations = c.getChild("mojos").getChildren("mojo");
-
-        for (PlexusConfiguration component : mojoConfigurations) {
-            MojoDescriptor mojoDescriptor = buildComponentDescriptor(component, pluginDescriptor);
+        return pluginDescriptor;
+    }
 
-            pluginDescriptor.addMojo(mojoDescriptor);
-        }
+    /**
+     * Called once the plugin descriptor has been completely built, i.e. all mojos and dependencies have been added.
+     *
+     * @param pluginDescriptor the plugin descriptor
+     * @param c the root configuration, the {@code mojos} element may be missing
+     * @return the final plugin descriptor, by default the given one
+     * @throws PlexusConfigurationException in case the configuration is invalid
+     * @since 4.0.0
+     */
+    protected PluginDescriptor completePluginDescriptor(PluginDescriptor pluginDescriptor, PlexusConfiguration c)
+            throws PlexusConfigurationException {
+        return pluginDescriptor;
+    }
 
+    private static List<ComponentDependency> buildDependencies(PlexusConfiguration c) {
         // ----------------------------------------------------------------------
         // Dependencies
         // ----------------------------------------------------------------------
@@ -115,9 +205,7 @@ public class PluginDescriptorBuilder {
             dependencies.add(cd);
         }
 
-        pluginDescriptor.setDependencies(dependencies);
-
-        return pluginDescriptor;
+        return dependencies;
     }
 
     @SuppressWarnings("checkstyle:methodlength")
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BufferedLogTest {
+
+    @Test
+    void replayInOrderOfLogs() {
+        List<String> messages = new ArrayList<>();
+        SystemStreamLog target = new SystemStreamLog() {
+            @Override
+            public void info(CharSequence content) {
+                messages.add("info " + content);
+            }
+
+            @Override
+            public void warn(CharSequence content) {
+                messages.add("warn " + content);
+            }
+        };
+
+        BufferedLog first = new BufferedLog(target);
+        BufferedLog second = new BufferedLog(target);
+        second.info("second goal");
+        first.warn("first goal");
+        first.info("first goal");
+        assertEquals(Collections.emptyList(), messages);
+
+        first.replay();
+        second.replay();
+        assertEquals(Arrays.asList("warn first goal", "info first goal", "info second goal"), messages);
+
+        // replayed messages are discarded
+        first.replay();
+        assertEquals(3, messages.size());
+    }
+}
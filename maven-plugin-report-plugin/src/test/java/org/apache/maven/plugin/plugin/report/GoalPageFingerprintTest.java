@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.PluginDescriptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class GoalPageFingerprintTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void hashCoversDescriptorLinksAndContext() {
+        MojoDescriptor descriptor = createMojoDescriptor("<a href=\"apidocs/Test.html\">Test</a>");
+        String hash = hash(descriptor, Locale.ENGLISH, link -> true);
+        assertEquals(64, hash.length());
+        assertEquals(
+                hash,
+                hash(createMojoDescriptor("<a href=\"apidocs/Test.html\">Test</a>"), Locale.ENGLISH, link -> true));
+
+        assertNotEquals(hash, hash(createMojoDescriptor("Test"), Locale.ENGLISH, link -> true));
+        assertNotEquals(hash, hash(descriptor, Locale.ENGLISH, link -> false));
+        assertNotEquals(hash, hash(descriptor, Locale.ENGLISH, null));
+        assertNotEquals(hash, hash(descriptor, Locale.GERMAN, link -> true));
+    }
+
+    @Test
+    void writeAndRead() throws IOException {
+        Path manifest = tempDir.resolve("target/goals.sha256");
+        assertEquals(Collections.emptyMap(), GoalPageFingerprint.read(manifest, Locale.ENGLISH));
+        String hash = hash(createMojoDescriptor("Test"), Locale.ENGLISH, null);
+        GoalPageFingerprint.write(manifest, Locale.ENGLISH, Collections.singletonMap("test", hash));
+        Map<String, String> hashes = GoalPageFingerprint.read(manifest, Locale.ENGLISH);
+        assertEquals(Collections.singletonMap("test", hash), hashes);
+    }
+
+    @Test
+    void writeRetainsOtherLocales() throws IOException {
+        Path manifest = tempDir.resolve("target/goals.sha256");
+        String englishHash = hash(createMojoDescriptor("Test"), Locale.ENGLISH, null);
+        String germanHash = hash(createMojoDescriptor("Test"), Locale.GERMAN, null);
+        GoalPageFingerprint.write(manifest, Locale.ENGLISH, Collections.singletonMap("test", englishHash));
+        GoalPageFingerprint.write(manifest, Locale.GERMAN, Collections.singletonMap("test", germanHash));
+
+        assertEquals(
+                Collections.singletonMap("test", englishHash), GoalPageFingerprint.read(manifest, Locale.ENGLISH));
+        assertEquals(Collections.singletonMap("test", germanHash), GoalPageFingerprint.read(manifest, Locale.GERMAN));
+        assertEquals(Collections.emptyMap(), GoalPageFingerprint.read(manifest, Locale.ROOT));
+
+        // the entries of a locale are replaced as a whole
+        GoalPageFingerprint.write(manifest, Locale.ENGLISH, Collections.emptyMap());
+        assertEquals(Collections.emptyMap(), GoalPageFingerprint.read(manifest, Locale.ENGLISH));
+        assertEquals(Collections.singletonMap("test", germanHash), GoalPageFingerprint.read(manifest, Locale.GERMAN));
+    }
+
+    private static String hash(MojoDescriptor descriptor, Locale locale, Predicate<URI> linkValidity) {
+        return new GoalPageFingerprint(locale, "1.0").addMojo(descriptor, linkValidity).toHash();
+    }
+
+    private static MojoDescriptor createMojoDescriptor(String description) {
+        PluginDescriptor pluginDescriptor = new PluginDescriptor();
+        pluginDescriptor.setGroupId("org.example");
+        pluginDescriptor.setArtifactId("example-maven-plugin");
+        pluginDescriptor.setVersion("1.0");
+        pluginDescriptor.setGoalPrefix("example");
+        MojoDescriptor descriptor = new MojoDescriptor();
+        descriptor.setPluginDescriptor(pluginDescriptor);
+        descriptor.setGoal("test");
+        descriptor.setDescription(description);
+        return descriptor;
+    }
+}
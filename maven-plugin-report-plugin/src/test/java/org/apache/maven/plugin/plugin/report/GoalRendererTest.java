@@ -61,4 +61,15 @@ class GoalRendererTest {
                 invalidInternalLink,
                 rendererWithDisabledLinkValidator.getXhtmlWithValidatedLinks(invalidInternalLink, "test"));
     }
+
+    @Test
+    void getXhtmlWithValidatedLinksKeepsReplacementCharacters() {
+        File baseDir = new File(this.getClass().getResource("").getFile());
+        GoalRenderer renderer =
+                new GoalRenderer(null, null, Locale.ROOT, null, null, baseDir, false, new SystemStreamLog());
+        String invalidInternalLinks = "<a href=\"invalid.html\">${label}</a> and <a href=\"invalid2.html\">C:\\temp</a>";
+        assertEquals("${label} and C:\\temp", renderer.getXhtmlWithValidatedLinks(invalidInternalLinks, "test"));
+        String withoutLinks = "no links with $1 and \\";
+        assertEquals(withoutLinks, renderer.getXhtmlWithValidatedLinks(withoutLinks, "test"));
+    }
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.File;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.maven.plugin.descriptor.DuplicateParameterException;
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+import org.apache.maven.plugin.descriptor.Parameter;
+import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LinkValidatorTest {
+
+    @Test
+    void validateCollectsDistinctRelativeLinks() throws DuplicateParameterException, InterruptedException {
+        File baseDir = new File(this.getClass().getResource("").getFile());
+        MojoDescriptor mojoDescriptor1 = new MojoDescriptor();
+        mojoDescriptor1.setDescription("<a href=\"GoalRendererTest.class\">valid</a> and "
+                + "<a href=\"http://localhost/example\">absolute</a>");
+        Parameter parameter = new Parameter();
+        parameter.setName("param");
+        parameter.setDescription("<a href=\"Invalid.class\">invalid</a>");
+        EnhancedParameterWrapper enhancedParameter = new EnhancedParameterWrapper(parameter);
+        enhancedParameter.setTypeJavadocUrl(URI.create("GoalRendererTest.class"));
+        mojoDescriptor1.addParameter(enhancedParameter);
+        MojoDescriptor mojoDescriptor2 = new MojoDescriptor();
+        mojoDescriptor2.setDeprecated("<a href=\"GoalRendererTest.class\">valid</a>");
+
+        LinkValidator linkValidator = new LinkValidator(baseDir.toPath());
+        linkValidator.validate(Arrays.asList(mojoDescriptor1, mojoDescriptor2));
+        assertEquals(2, linkValidator.getValidatedLinkCount());
+        assertTrue(linkValidator.isValid(URI.create("GoalRendererTest.class")));
+        assertFalse(linkValidator.isValid(URI.create("Invalid.class")));
+        // results are cached
+        linkValidator.validate(Collections.singletonList(mojoDescriptor1));
+        assertEquals(2, linkValidator.getValidatedLinkCount());
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.StringWriter;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.apache.maven.doxia.sink.impl.Xhtml5BaseSink;
+import org.apache.maven.plugin.logging.Log;
+import org.apache.maven.plugin.logging.SystemStreamLog;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.project.ProjectBuildingException;
+import org.apache.maven.reporting.AbstractMavenReportRenderer;
+import org.apache.maven.reporting.MavenReportException;
+import org.eclipse.aether.version.Version;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PluginReportTest {
+    private static final List<Version> VERSIONS = Arrays.asList(
+            new TestVersion("1.0"), new TestVersion("1.1"), new TestVersion("2.0"), new TestVersion("2.1"));
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void renderConcurrentlyProducesEveryPage() throws Exception {
+        List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        SystemStreamLog target = new SystemStreamLog() {
+            @Override
+            public void info(CharSequence content) {
+                messages.add(content.toString());
+            }
+        };
+
+        // the sinks are created on the calling thread, like the goal pages' sinks
+        List<StringWriter> pages = new ArrayList<>();
+        List<Xhtml5BaseSink> sinks = new ArrayList<>();
+        List<PageRenderer> renderers = new ArrayList<>();
+        List<BufferedLog> logs = new ArrayList<>();
+        List<String> expectedMessages = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            StringWriter page = new StringWriter();
+            pages.add(page);
+            sinks.add(new Xhtml5BaseSink(page));
+            BufferedLog log = new BufferedLog(target);
+            logs.add(log);
+            renderers.add(new PageRenderer("goal" + i, sinks.get(i), log, false));
+            expectedMessages.add("rendered goal" + i);
+        }
+
+        PluginReport.renderConcurrently(renderers, sinks, logs, 4);
+
+        for (int i = 0; i < pages.size(); i++) {
+            String page = pages.get(i).toString();
+            assertTrue(page.endsWith("<p>goal" + i + " content</p>"), page);
+        }
+        // replayed in the order of the goals
+        assertEquals(expectedMessages, messages);
+    }
+
+    @Test
+    void renderConcurrentlyClosesSinksOfSkippedRenderers() {
+        List<ClosedTrackingWriter> pages = new ArrayList<>();
+        List<Xhtml5BaseSink> sinks = new ArrayList<>();
+        List<PageRenderer> renderers = new ArrayList<>();
+        List<BufferedLog> logs = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ClosedTrackingWriter page = new ClosedTrackingWriter();
+            pages.add(page);
+            sinks.add(new Xhtml5BaseSink(page));
+            BufferedLog log = new BufferedLog(new SystemStreamLog());
+            logs.add(log);
+            renderers.add(new PageRenderer("goal" + i, sinks.get(i), log, i == 0));
+        }
+
+        // with a single thread none of the renderers after the failed one are started
+        IllegalStateException e = assertThrows(
+                IllegalStateException.class, () -> PluginReport.renderConcurrently(renderers, sinks, logs, 1));
+
+        assertEquals("goal0 failed", e.getMessage());
+        for (int i = 1; i < pages.size(); i++) {
+            assertTrue(pages.get(i).closed, "goal" + i);
+            assertEquals("", pages.get(i).toString(), "goal" + i);
+        }
+    }
+
+    @Test
+    void discoverRequirementsHistoriesInOrderOfVersions() throws Exception {
+        for (boolean parallel : new boolean[] {false, true}) {
+            List<RequirementsHistory> requirements = new RequirementsTestReport(null)
+                    .discoverRequirementsHistories(
+                            VERSIONS,
+                            new RequirementsHistoryCache(tempDir.resolve("cache")),
+                            parallel,
+                            new ReportMetrics());
+
+            assertEquals(
+                    Arrays.asList("1.0", "1.1", "2.0", "2.1"),
+                    requirements.stream().map(RequirementsHistory::getVersion).collect(Collectors.toList()),
+                    "parallel: " + parallel);
+            // the versions whose descriptor lacks the requirements are built
+            assertEquals(
+                    Arrays.asList("8", "11", "8", "11"),
+                    requirements.stream().map(RequirementsHistory::getJdk).collect(Collectors.toList()),
+                    "parallel: " + parallel);
+        }
+    }
+
+    @Test
+    void discoverRequirementsHistoriesReportsUnresolvableProject() {
+        for (boolean parallel : new boolean[] {false, true}) {
+            MavenReportException e = assertThrows(
+                    MavenReportException.class,
+                    () -> new RequirementsTestReport("1.1")
+                            .discoverRequirementsHistories(
+                                    VERSIONS,
+                                    new RequirementsHistoryCache(tempDir.resolve("cache")),
+                                    parallel,
+                                    new ReportMetrics()));
+
+            assertEquals("Cannot resolve MavenProject for version 1.1", e.getMessage(), "parallel: " + parallel);
+            assertTrue(e.getCause() instanceof ProjectBuildingException, "parallel: " + parallel);
+        }
+    }
+
+    /**
+     * Reads the requirements of the x.0 versions from their descriptors and builds the projects of the others,
+     * the earlier versions taking longer, so that concurrent detections finish out of order.
+     */
+    private static class RequirementsTestReport extends PluginReport {
+        private final String unresolvableVersion;
+
+        RequirementsTestReport(String unresolvableVersion) {
+            super(null, null, null, null, null);
+            this.unresolvableVersion = unresolvableVersion;
+            project = new MavenProject();
+        }
+
+        @Override
+        RequirementsHistory readRequirementsFromPluginDescriptor(String version) {
+            return version.endsWith(".0") ? RequirementsHistory.create(version, "3.6.3", "8") : null;
+        }
+
+        @Override
+        MavenProject buildMavenProject(String version) throws ProjectBuildingException {
+            try {
+                Thread.sleep(version.startsWith("1.") ? 100 : 10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (version.equals(unresolvableVersion)) {
+                throw new ProjectBuildingException(version, "Unresolvable project", (Throwable) null);
+            }
+            MavenProject releaseProject = new MavenProject();
+            releaseProject.setVersion(version);
+            releaseProject.getProperties().setProperty("maven.compiler.release", "11");
+            return releaseProject;
+        }
+    }
+
+    private static class TestVersion implements Version {
+        private final String version;
+
+        TestVersion(String version) {
+            this.version = version;
+        }
+
+        @Override
+        public int compareTo(Version other) {
+            return version.compareTo(other.toString());
+        }
+
+        @Override
+        public String toString() {
+            return version;
+        }
+    }
+
+    private static class PageRenderer extends AbstractMavenReportRenderer {
+        private final String goal;
+
+        private final Log log;
+
+        private final boolean fail;
+
+        PageRenderer(String goal, Xhtml5BaseSink sink, Log log, boolean fail) {
+            super(sink);
+            this.goal = goal;
+            this.log = log;
+            this.fail = fail;
+        }
+
+        @Override
+        public String getTitle() {
+            return goal;
+        }
+
+        @Override
+        protected void renderBody() {
+            if (fail) {
+                throw new IllegalStateException(goal + " failed");
+            }
+            paragraph(goal + " content");
+            log.info("rendered " + goal);
+        }
+    }
+
+    private static class ClosedTrackingWriter extends StringWriter {
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReportMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void toJson() {
+        ReportMetrics metrics = new ReportMetrics();
+        metrics.addPhase("descriptor", System.nanoTime());
+        metrics.addTiming("javadocHttpRequests", 5);
+        metrics.addTiming("javadocHttpRequests", 7);
+        metrics.addCount("goals", 3);
+        metrics.addCount("goal \"pages\"", 1);
+        metrics.addCacheLookups("requirementsHistory", 3, 1);
+        metrics.addCacheLookups("goalPages", 0, 0);
+
+        String json = metrics.toJson().replaceAll("\"totalMillis\": \\d+", "\"totalMillis\": 0");
+        assertEquals(
+                "{\n"
+                        + "  \"totalMillis\": 0,\n"
+                        + "  \"phases\": {\n"
+                        + "    \"descriptor\": 0\n"
+                        + "  },\n"
+                        + "  \"timings\": {\n"
+                        + "    \"javadocHttpRequests\": 12\n"
+                        + "  },\n"
+                        + "  \"counts\": {\n"
+                        + "    \"goals\": 3,\n"
+                        + "    \"goal \\\"pages\\\"\": 1\n"
+                        + "  },\n"
+                        + "  \"caches\": {\n"
+                        + "    \"requirementsHistory\": {\"hits\": 3, \"misses\": 1, \"hitRate\": 0.750},\n"
+                        + "    \"goalPages\": {\"hits\": 0, \"misses\": 0, \"hitRate\": null}\n"
+                        + "  }\n"
+                        + "}\n",
+                json);
+    }
+
+    @Test
+    void emptyMetrics() throws IOException {
+        Path file = tempDir.resolve("site/metrics.json");
+        new ReportMetrics().write(file);
+        String json = new String(Files.readAllBytes(file), UTF_8);
+        assertTrue(json.matches(
+                "\\{\n  \"totalMillis\": \\d+,\n  \"phases\": \\{},\n  \"timings\": \\{},\n  \"counts\": \\{},\n"
+                        + "  \"caches\": \\{}\n}\n"),
+                json);
+    }
+
+    @Test
+    void summary() {
+        ReportMetrics metrics = new ReportMetrics();
+        metrics.addPhase("descriptor", System.nanoTime());
+        metrics.addCount("goals", 3);
+        metrics.addCacheLookups("requirementsHistory", 3, 1);
+        assertEquals(
+                "0 ms (descriptor 0 ms), goals 3, requirementsHistory cache 3/4 hit(s)",
+                metrics.toString().replaceAll("\\d+ ms", "0 ms"));
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RequirementsHistoryCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storeAndLoad() throws IOException {
+        Path file = tempDir.resolve("org/example/plugin/plugin-requirements-history.properties");
+        RequirementsHistoryCache cache = new RequirementsHistoryCache(file);
+        cache.load();
+        assertNull(cache.get("org.example:plugin:1.0", "1.0"));
+        cache.put("org.example:plugin:1.0", RequirementsHistory.create("1.0", "3.6.3", null));
+        cache.store();
+
+        RequirementsHistoryCache reloadedCache = new RequirementsHistoryCache(file);
+        reloadedCache.load();
+        RequirementsHistory requirements = reloadedCache.get("org.example:plugin:1.0", "1.0");
+        assertEquals("1.0", requirements.getVersion());
+        assertEquals("3.6.3", requirements.getMaven());
+        assertNull(requirements.getJdk());
+        assertNull(reloadedCache.get("org.example:plugin:2.0", "2.0"));
+
+        // unmodified caches are not written again
+        Files.delete(file);
+        reloadedCache.store();
+        assertFalse(Files.exists(file));
+    }
+
+    @Test
+    void ignoreDifferentFormatVersion() throws IOException {
+        Path file = tempDir.resolve("plugin-requirements-history.properties");
+        Files.write(
+                file,
+                Collections.singletonList(
+                        "formatVersion=0\norg.example\\:plugin\\:1.0.maven=3.6.3\norg.example\\:plugin\\:1.0.jdk=8"),
+                UTF_8);
+        RequirementsHistoryCache cache = new RequirementsHistoryCache(file);
+        cache.load();
+        assertNull(cache.get("org.example:plugin:1.0", "1.0"));
+    }
+}
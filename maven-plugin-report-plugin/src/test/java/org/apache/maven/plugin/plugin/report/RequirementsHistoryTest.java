@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.plugin.plugin.report;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class RequirementsHistoryTest {
+
+    @Test
+    void readRequirements() throws IOException {
+        RequirementsHistory requirements = RequirementsHistory.readRequirements(
+                "1.0",
+                toStream("<plugin><name>Test</name><requiredJavaVersion>8</requiredJavaVersion>"
+                        + "<requiredMavenVersion> 3.6.3 </requiredMavenVersion>"
+                        + "<mojos><mojo><goal>test</goal></mojo></mojos></plugin>"));
+        assertEquals("1.0", requirements.getVersion());
+        assertEquals("8", requirements.getJdk());
+        assertEquals("3.6.3", requirements.getMaven());
+    }
+
+    @Test
+    void readRequirementsStopsAtMojos() throws IOException {
+        // the content after the start of the mojos is not even parsed
+        assertNull(RequirementsHistory.readRequirements(
+                "1.0",
+                toStream("<plugin><requiredJavaVersion>8</requiredJavaVersion>"
+                        + "<mojos><requiredMavenVersion>3.6.3</requiredMavenVersion><not-well-formed></plugin>")));
+    }
+
+    @Test
+    void readIncompleteRequirements() throws IOException {
+        assertNull(RequirementsHistory.readRequirements(
+                "1.0", toStream("<plugin><requiredMavenVersion>3.6.3</requiredMavenVersion></plugin>")));
+    }
+
+    private static InputStream toStream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(UTF_8));
+    }
+}
@@ -18,20 +18,32 @@
  */
 package org.apache.maven.plugins.plugin.descriptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.tools.plugin.EnhancedParameterWrapper;
+import org.apache.maven.tools.plugin.descriptor.CompactPluginDescriptorReader;
+import org.apache.maven.tools.plugin.descriptor.CompactPluginDescriptorWriter;
+import org.codehaus.plexus.configuration.xml.XmlPlexusConfiguration;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.codehaus.plexus.util.xml.Xpp3DomWriter;
 import org.codehaus.plexus.util.xml.XmlStreamReader;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class EnhancedPluginDescriptorBuilderTest {
 
@@ -49,6 +61,76 @@ class EnhancedPluginDescriptorBuilderTest {
         }
     }
 
+    @Test
+    void typeJavaDocUrlElementFromCompactDescriptor() throws Exception {
+        Xpp3Dom dom;
+        try (InputStream input = Objects.requireNonNull(this.getClass().getResourceAsStream("/plugin-enhanced.xml"));
+                Reader reader = new XmlStreamReader(input)) {
+            dom = Xpp3DomBuilder.build(reader);
+        }
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        try (CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(compact)) {
+            Xpp3DomWriter.write(w, dom);
+        }
+
+        EnhancedPluginDescriptorBuilder builder = new EnhancedPluginDescriptorBuilder(false);
+        PluginDescriptor descriptor = builder.build(
+                new XmlPlexusConfiguration(
+                        CompactPluginDescriptorReader.read(new ByteArrayInputStream(compact.toByteArray()))),
+                null);
+        MojoDescriptor mojoDescriptor = descriptor.getMojo("format-xml");
+        assertNotNull(mojoDescriptor);
+        EnhancedParameterWrapper enhancedParameter = assertEnhancedParameter(mojoDescriptor, "excludes");
+        assertEquals(URI.create("apidocs/java/util/Set.html"), enhancedParameter.getTypeJavadocUrl());
+        assertParameter(mojoDescriptor, "enableForIncrementalBuild");
+    }
+
+    @Test
+    void streamingAndTreeBasedBuildOfLargeDescriptor() throws Exception {
+        Xpp3Dom dom;
+        try (InputStream input = Objects.requireNonNull(this.getClass().getResourceAsStream("/plugin-enhanced.xml"));
+                Reader reader = new XmlStreamReader(input)) {
+            dom = Xpp3DomBuilder.build(reader);
+        }
+        // multiply the mojos to get a descriptor of several megabytes
+        Xpp3Dom mojos = dom.getChild("mojos");
+        for (Xpp3Dom mojo : mojos.getChildren()) {
+            for (int i = 0; i < 25; i++) {
+                Xpp3Dom copy = new Xpp3Dom(mojo);
+                copy.getChild("goal").setValue(mojo.getChild("goal").getValue() + "-" + i);
+                mojos.addChild(copy);
+            }
+        }
+        StringWriter xml = new StringWriter();
+        Xpp3DomWriter.write(xml, dom);
+        assertTrue(xml.getBuffer().length() > 2 * 1024 * 1024);
+
+        EnhancedPluginDescriptorBuilder builder = new EnhancedPluginDescriptorBuilder(false);
+        PluginDescriptor streamedDescriptor = builder.build(new StringReader(xml.toString()));
+        PluginDescriptor treeDescriptor = builder.build(new XmlPlexusConfiguration(dom), null);
+
+        assertEquals(treeDescriptor.getId(), streamedDescriptor.getId());
+        assertEquals(treeDescriptor.getDependencies().size(), streamedDescriptor.getDependencies().size());
+        assertEquals(treeDescriptor.getMojos().size(), streamedDescriptor.getMojos().size());
+        assertEquals(9 * 26, streamedDescriptor.getMojos().size());
+        for (MojoDescriptor treeMojo : treeDescriptor.getMojos()) {
+            MojoDescriptor streamedMojo = streamedDescriptor.getMojo(treeMojo.getGoal());
+            assertNotNull(streamedMojo);
+            assertEquals(treeMojo.getImplementation(), streamedMojo.getImplementation());
+            assertEquals(treeMojo.getDescription(), streamedMojo.getDescription());
+            List<Parameter> treeParameters = treeMojo.getParameters();
+            List<Parameter> streamedParameters = streamedMojo.getParameters();
+            assertEquals(treeParameters.size(), streamedParameters.size());
+            for (int i = 0; i < treeParameters.size(); i++) {
+                Parameter treeParameter = treeParameters.get(i);
+                assertParameter(
+                        streamedMojo, treeParameter.getName(), treeParameter instanceof EnhancedParameterWrapper);
+                assertEquals(treeParameter.getName(), streamedParameters.get(i).getName());
+                assertEquals(treeParameter.getDefaultValue(), streamedParameters.get(i).getDefaultValue());
+            }
+        }
+    }
+
     EnhancedParameterWrapper assertEnhancedParameter(MojoDescriptor mojoDescriptor, String parameterName) {
         return (EnhancedParameterWrapper) assertParameter(mojoDescriptor, parameterName, true);
     }
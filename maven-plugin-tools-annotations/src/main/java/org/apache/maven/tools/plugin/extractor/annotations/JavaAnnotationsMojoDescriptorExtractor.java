@@ -26,6 +26,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -33,6 +35,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -64,6 +67,8 @@ import org.apache.maven.tools.plugin.ExtendedMojoDescriptor;
 import org.apache.maven.tools.plugin.PluginToolsRequest;
 import org.apache.maven.tools.plugin.extractor.ExtractionException;
 import org.apache.maven.tools.plugin.extractor.GroupKey;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtraction;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtractionResult;
 import org.apache.maven.tools.plugin.extractor.MojoDescriptorExtractor;
 import org.apache.maven.tools.plugin.extractor.annotations.converter.ConverterContext;
 import org.apache.maven.tools.plugin.extractor.annotations.converter.JavaClassConverterContext;
@@ -195,7 +200,158 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
     public List<MojoDescriptor> execute(PluginToolsRequest request)
             throws ExtractionException, InvalidPluginDescriptorException {
         Map<String, MojoAnnotatedClass> mojoAnnotatedClasses = scanAnnotations(request);
+        return extract(request, mojoAnnotatedClasses, mojoAnnotatedClasses.values(), mojoAnnotatedClasses.values());
+    }
+
+    @Override
+    public boolean supportsIncrementalExtraction() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * A mojo is affected if the class or source file of its class or of any of its parent classes changed. All
+     * classes are still scanned for annotations, as resolving the class hierarchies requires them and scanning is cheap
+     * compared to extracting the Javadoc, which is only done for the affected mojos (e.g. sources of external
+     * artifacts are only retrieved for these). The sources are still parsed completely though, as the Javadoc of the
+     * affected mojos may link to any other type. Changes of linked types do not affect the linking mojos.
+     */
+    @Override
+    public IncrementalExtractionResult execute(PluginToolsRequest request, IncrementalExtraction extraction)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        Map<String, MojoAnnotatedClass> mojoAnnotatedClasses = scanAnnotations(request);
+        Set<String> changedClasses = getChangedClasses(request.getProject(), extraction, mojoAnnotatedClasses);
+
+        Set<String> affectedImplementations = new LinkedHashSet<>();
+        for (MojoDescriptor previousDescriptor : extraction.getPreviousDescriptors()) {
+            // covers removed mojos as well
+            if (isChangedClass(previousDescriptor.getImplementation(), changedClasses)) {
+                affectedImplementations.add(previousDescriptor.getImplementation());
+            }
+        }
+        List<MojoAnnotatedClass> affectedMojoClasses = new ArrayList<>();
+        // the affected mojos together with their parent classes, whose Javadoc is inherited
+        Map<String, MojoAnnotatedClass> affectedClassHierarchies = new HashMap<>();
+        for (MojoAnnotatedClass mojoAnnotatedClass : mojoAnnotatedClasses.values()) {
+            if (mojoAnnotatedClass.getMojo() != null
+                    && isChangedClassHierarchy(mojoAnnotatedClass, mojoAnnotatedClasses, changedClasses)) {
+                affectedImplementations.add(mojoAnnotatedClass.getClassName());
+                affectedMojoClasses.add(mojoAnnotatedClass);
+                for (MojoAnnotatedClass current = mojoAnnotatedClass;
+                        current != null;
+                        current = mojoAnnotatedClasses.get(current.getParentClassName())) {
+                    affectedClassHierarchies.put(current.getClassName(), current);
+                }
+            }
+        }
+        LOGGER.debug("Extracting affected mojos {} for changed classes {}", affectedImplementations, changedClasses);
+
+        List<MojoDescriptor> descriptors = affectedMojoClasses.isEmpty()
+                ? Collections.emptyList()
+                : extract(request, mojoAnnotatedClasses, affectedClassHierarchies.values(), affectedMojoClasses);
+        return new IncrementalExtractionResult(affectedImplementations, descriptors);
+    }
+
+    /**
+     * Returns the top level class names of all changed class and source files. A source file may contain several top
+     * level classes, so the classes compiled from a changed source file are determined by their recorded source file
+     * name. The class named like the source file is always included, e.g. for a removed source file.
+     */
+    private static Set<String> getChangedClasses(
+            MavenProject project,
+            IncrementalExtraction extraction,
+            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
+        Path outputDirectory = Paths.get(project.getBuild().getOutputDirectory()).toAbsolutePath();
+        List<Path> sourceRoots = new ArrayList<>();
+        for (String sourceRoot : project.getCompileSourceRoots()) {
+            sourceRoots.add(Paths.get(sourceRoot).toAbsolutePath());
+        }
+
+        Set<String> changedClasses = new TreeSet<>();
+        // relative to the source roots, with '/' as separator
+        Set<String> changedSourceFiles = new HashSet<>();
+        for (File file : extraction.getAllFiles()) {
+            Path path = file.toPath().toAbsolutePath();
+            String fileName = path.getFileName().toString();
+            if (fileName.endsWith(".class") && path.startsWith(outputDirectory)) {
+                changedClasses.add(getTopLevelClassName(toClassName(outputDirectory.relativize(path))));
+            } else if (fileName.endsWith(".java")) {
+                for (Path sourceRoot : sourceRoots) {
+                    if (path.startsWith(sourceRoot)) {
+                        Path relativePath = sourceRoot.relativize(path);
+                        changedClasses.add(toClassName(relativePath));
+                        changedSourceFiles.add(relativePath.toString().replace(File.separatorChar, '/'));
+                        break;
+                    }
+                }
+            }
+        }
+
+        if (!changedSourceFiles.isEmpty()) {
+            for (MojoAnnotatedClass mojoAnnotatedClass : mojoAnnotatedClasses.values()) {
+                if (mojoAnnotatedClass.getSourceFileName() != null
+                        && changedSourceFiles.contains(getSourceFile(mojoAnnotatedClass))) {
+                    changedClasses.add(getTopLevelClassName(mojoAnnotatedClass.getClassName()));
+                }
+            }
+        }
+        return changedClasses;
+    }
+
+    private static String toClassName(Path relativePath) {
+        String path = relativePath.toString();
+        return path.substring(0, path.lastIndexOf('.')).replace(File.separatorChar, '.');
+    }
+
+    /**
+     * Returns the path of the source file of the given class relative to its source root, with '/' as separator.
+     */
+    private static String getSourceFile(MojoAnnotatedClass mojoAnnotatedClass) {
+        String className = mojoAnnotatedClass.getClassName();
+        int packageSeparator = className.lastIndexOf('.');
+        return packageSeparator < 0
+                ? mojoAnnotatedClass.getSourceFileName()
+                : className.substring(0, packageSeparator).replace('.', '/') + '/'
+                        + mojoAnnotatedClass.getSourceFileName();
+    }
+
+    private static boolean isChangedClassHierarchy(
+            MojoAnnotatedClass mojoAnnotatedClass,
+            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses,
+            Set<String> changedClasses) {
+        String className = mojoAnnotatedClass.getClassName();
+        while (className != null && !className.isEmpty()) {
+            if (isChangedClass(className, changedClasses)) {
+                return true;
+            }
+            MojoAnnotatedClass current = mojoAnnotatedClasses.get(className);
+            className = current != null ? current.getParentClassName() : null;
+        }
+        return false;
+    }
+
+    private static boolean isChangedClass(String className, Set<String> changedClasses) {
+        // nested classes are compiled from the source file of their top level class
+        return className != null && changedClasses.contains(getTopLevelClassName(className));
+    }
+
+    private static String getTopLevelClassName(String className) {
+        int nestedSeparator = className.indexOf('$');
+        return nestedSeparator < 0 ? className : className.substring(0, nestedSeparator);
+    }
 
+    /**
+     * @param mojoAnnotatedClasses all scanned classes
+     * @param javadocClasses the classes to populate from Javadoc
+     * @param mojoClasses the classes to create mojo descriptors for
+     */
+    private List<MojoDescriptor> extract(
+            PluginToolsRequest request,
+            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses,
+            Collection<MojoAnnotatedClass> javadocClasses,
+            Collection<MojoAnnotatedClass> mojoClasses)
+            throws ExtractionException, InvalidPluginDescriptorException {
         Optional<Integer> maxClassVersion = mojoAnnotatedClasses.values().stream()
                 .map(MojoAnnotatedClass::getClassVersion)
                 .max(new ClassVersionComparator());
@@ -215,24 +371,33 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
             linkGenerator = new JavadocLinkGenerator(
                     request.getInternalJavadocBaseUrl(),
                     request.getInternalJavadocVersion(),
-                    request.getExternalJavadocBaseUrls(),
-                    request.getSettings());
+                    request.getExternalJavadocSites());
         } else {
             linkGenerator = null;
         }
 
+        // shared by populating the data from Javadoc and creating the descriptors
+        MojoClassHierarchies hierarchies = new MojoClassHierarchies(mojoAnnotatedClasses);
+
         // parse() allocates the class loader backing the model, so it must run inside the
         // try-with-resources: a parse failure would otherwise leak it together with every
         // dependency and reactor jar it holds open.
-        try (JavaSourceModel sourceModel = scanJavadoc(request, mojoAnnotatedClasses.values())) {
+        try (JavaSourceModel sourceModel = scanJavadoc(request, javadocClasses)) {
             sourceModel.parse();
             Map<String, TypeDeclaration<?>> javaClassesMap = discoverClasses(sourceModel);
-            populateDataFromJavadoc(sourceModel, mojoAnnotatedClasses, javaClassesMap, linkGenerator);
+            if (javadocClasses.size() < mojoAnnotatedClasses.size()) {
+                // populateDataFromJavadoc() skips all classes missing in the map
+                Set<String> javadocClassNames = javadocClasses.stream()
+                        .map(MojoAnnotatedClass::getClassName)
+                        .collect(Collectors.toSet());
+                javaClassesMap.keySet().retainAll(javadocClassNames);
+            }
+            populateDataFromJavadoc(sourceModel, mojoAnnotatedClasses, hierarchies, javaClassesMap, linkGenerator);
         } catch (IOException e) {
             throw new ExtractionException("Could not parse Java sources: " + e.getMessage(), e);
         }
 
-        return toMojoDescriptors(mojoAnnotatedClasses, request.getPluginDescriptor());
+        return toMojoDescriptors(mojoClasses, hierarchies, request.getPluginDescriptor());
     }
 
     private Map<String, MojoAnnotatedClass> scanAnnotations(PluginToolsRequest request) throws ExtractionException {
@@ -247,6 +412,16 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
 
         Map<String, MojoAnnotatedClass> result = mojoAnnotationsScanner.scan(mojoAnnotationsScannerRequest);
         request.setUsedMavenApiVersion(mojoAnnotationsScannerRequest.getMavenApiVersion());
+        // the class files have been read anyway, so the indexes of DI beans and Sisu components don't need to
+        // read them again
+        request.setDiBeanClassNames(result.values().stream()
+                .filter(MojoAnnotatedClass::isDiBean)
+                .map(MojoAnnotatedClass::getClassName)
+                .collect(Collectors.toCollection(TreeSet::new)));
+        request.setSisuComponentClassNames(result.values().stream()
+                .filter(MojoAnnotatedClass::isSisuComponent)
+                .map(MojoAnnotatedClass::getClassName)
+                .collect(Collectors.toCollection(TreeSet::new)));
         return result;
     }
 
@@ -315,6 +490,20 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
             Map<String, MojoAnnotatedClass> mojoAnnotatedClasses,
             Map<String, TypeDeclaration<?>> javaClassesMap,
             JavadocLinkGenerator linkGenerator) {
+        populateDataFromJavadoc(
+                sourceModel,
+                mojoAnnotatedClasses,
+                new MojoClassHierarchies(mojoAnnotatedClasses),
+                javaClassesMap,
+                linkGenerator);
+    }
+
+    private void populateDataFromJavadoc(
+            JavaSourceModel sourceModel,
+            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses,
+            MojoClassHierarchies hierarchies,
+            Map<String, TypeDeclaration<?>> javaClassesMap,
+            JavadocLinkGenerator linkGenerator) {
         for (Map.Entry<String, MojoAnnotatedClass> entry : mojoAnnotatedClasses.entrySet()) {
             TypeDeclaration<?> javaClass = javaClassesMap.get(entry.getKey());
             if (javaClass == null) {
@@ -334,7 +523,7 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
             Map<String, SourceMember> fields = extractFields(sourceModel, javaClass);
             Map<String, SourceMember> methods = extractMethods(sourceModel, javaClass);
             Map<String, ParameterAnnotationContent> parameters =
-                    new TreeMap<>(getParametersParentHierarchy(entry.getValue(), mojoAnnotatedClasses));
+                    new TreeMap<>(hierarchies.getParameters(entry.getValue()));
             for (Map.Entry<String, ParameterAnnotationContent> parameter : parameters.entrySet()) {
                 SourceMember member = parameter.getValue().isAnnotationOnMethod()
                         ? methods.get(parameter.getKey())
@@ -627,10 +816,12 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
     }
 
     private List<MojoDescriptor> toMojoDescriptors(
-            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses, PluginDescriptor pluginDescriptor)
+            Collection<MojoAnnotatedClass> mojoClasses,
+            MojoClassHierarchies hierarchies,
+            PluginDescriptor pluginDescriptor)
             throws InvalidPluginDescriptorException {
-        List<MojoDescriptor> mojoDescriptors = new ArrayList<>(mojoAnnotatedClasses.size());
-        for (MojoAnnotatedClass mojoAnnotatedClass : mojoAnnotatedClasses.values()) {
+        List<MojoDescriptor> mojoDescriptors = new ArrayList<>(mojoClasses.size());
+        for (MojoAnnotatedClass mojoAnnotatedClass : mojoClasses) {
             // no mojo so skip it
             if (mojoAnnotatedClass.getMojo() == null) {
                 continue;
@@ -672,7 +863,7 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
             mojoDescriptor.setThreadSafe(mojo.threadSafe());
 
             MojoAnnotatedClass mojoAnnotatedClassWithExecute =
-                    findClassWithExecuteAnnotationInParentHierarchy(mojoAnnotatedClass, mojoAnnotatedClasses);
+                    hierarchies.findClassWithExecute(mojoAnnotatedClass);
             if (mojoAnnotatedClassWithExecute != null && mojoAnnotatedClassWithExecute.getExecute() != null) {
                 ExecuteAnnotationContent execute = mojoAnnotatedClassWithExecute.getExecute();
                 mojoDescriptor.setExecuteGoal(execute.goal());
@@ -702,7 +893,7 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
 
             // Parameter annotations
             Map<String, ParameterAnnotationContent> parameters =
-                    getParametersParentHierarchy(mojoAnnotatedClass, mojoAnnotatedClasses);
+                    hierarchies.getParameters(mojoAnnotatedClass);
 
             for (ParameterAnnotationContent parameterAnnotationContent : new TreeSet<>(parameters.values())) {
                 org.apache.maven.plugin.descriptor.Parameter parameter =
@@ -740,7 +931,7 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
 
             // Component annotations
             Map<String, ComponentAnnotationContent> components =
-                    getComponentsParentHierarchy(mojoAnnotatedClass, mojoAnnotatedClasses);
+                    hierarchies.getComponents(mojoAnnotatedClass);
 
             for (ComponentAnnotationContent componentAnnotationContent : new TreeSet<>(components.values())) {
                 org.apache.maven.plugin.descriptor.Parameter parameter =
@@ -765,88 +956,6 @@ public class JavaAnnotationsMojoDescriptorExtractor implements MojoDescriptorExt
         return mojoDescriptors;
     }
 
-    protected MojoAnnotatedClass findClassWithExecuteAnnotationInParentHierarchy(
-            MojoAnnotatedClass mojoAnnotatedClass, Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
-        if (mojoAnnotatedClass.getExecute() != null) {
-            return mojoAnnotatedClass;
-        }
-        String parentClassName = mojoAnnotatedClass.getParentClassName();
-        if (parentClassName == null || parentClassName.isEmpty()) {
-            return null;
-        }
-        MojoAnnotatedClass parent = mojoAnnotatedClasses.get(parentClassName);
-        if (parent == null) {
-            return null;
-        }
-        return findClassWithExecuteAnnotationInParentHierarchy(parent, mojoAnnotatedClasses);
-    }
-
-    protected Map<String, ParameterAnnotationContent> getParametersParentHierarchy(
-            MojoAnnotatedClass mojoAnnotatedClass, Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
-        List<ParameterAnnotationContent> parameterAnnotationContents = new ArrayList<>();
-
-        parameterAnnotationContents =
-                getParametersParent(mojoAnnotatedClass, parameterAnnotationContents, mojoAnnotatedClasses);
-
-        // move to parent first to build the Map
-        Collections.reverse(parameterAnnotationContents);
-
-        Map<String, ParameterAnnotationContent> map = new HashMap<>(parameterAnnotationContents.size());
-
-        for (ParameterAnnotationContent parameterAnnotationContent : parameterAnnotationContents) {
-            map.put(parameterAnnotationContent.getFieldName(), parameterAnnotationContent);
-        }
-        return map;
-    }
-
-    protected List<ParameterAnnotationContent> getParametersParent(
-            MojoAnnotatedClass mojoAnnotatedClass,
-            List<ParameterAnnotationContent> parameterAnnotationContents,
-            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
-        parameterAnnotationContents.addAll(mojoAnnotatedClass.getParameters().values());
-        String parentClassName = mojoAnnotatedClass.getParentClassName();
-        if (parentClassName != null) {
-            MojoAnnotatedClass parent = mojoAnnotatedClasses.get(parentClassName);
-            if (parent != null) {
-                return getParametersParent(parent, parameterAnnotationContents, mojoAnnotatedClasses);
-            }
-        }
-        return parameterAnnotationContents;
-    }
-
-    protected Map<String, ComponentAnnotationContent> getComponentsParentHierarchy(
-            MojoAnnotatedClass mojoAnnotatedClass, Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
-        List<ComponentAnnotationContent> componentAnnotationContents = new ArrayList<>();
-
-        componentAnnotationContents =
-                getComponentParent(mojoAnnotatedClass, componentAnnotationContents, mojoAnnotatedClasses);
-
-        // move to parent first to build the Map
-        Collections.reverse(componentAnnotationContents);
-
-        Map<String, ComponentAnnotationContent> map = new HashMap<>(componentAnnotationContents.size());
-
-        for (ComponentAnnotationContent componentAnnotationContent : componentAnnotationContents) {
-            map.put(componentAnnotationContent.getFieldName(), componentAnnotationContent);
-        }
-        return map;
-    }
-
-    protected List<ComponentAnnotationContent> getComponentParent(
-            MojoAnnotatedClass mojoAnnotatedClass,
-            List<ComponentAnnotationContent> componentAnnotationContents,
-            Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
-        componentAnnotationContents.addAll(mojoAnnotatedClass.getComponents().values());
-        String parentClassName = mojoAnnotatedClass.getParentClassName();
-        if (parentClassName != null) {
-            MojoAnnotatedClass parent = mojoAnnotatedClasses.get(parentClassName);
-            if (parent != null) {
-                return getComponentParent(parent, componentAnnotationContents, mojoAnnotatedClasses);
-            }
-        }
-        return componentAnnotationContents;
-    }
-
     protected MavenProject getFromProjectReferences(Artifact artifact, MavenProject project) {
         if (project.getProjectReferences() == null
                 || project.getProjectReferences().isEmpty()) {
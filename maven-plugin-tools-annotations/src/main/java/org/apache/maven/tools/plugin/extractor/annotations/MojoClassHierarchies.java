@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.extractor.annotations;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ComponentAnnotationContent;
+import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ParameterAnnotationContent;
+import org.apache.maven.tools.plugin.extractor.annotations.scanner.MojoAnnotatedClass;
+
+/**
+ * Memo table of the effective, i.e. declared or inherited, annotations per class of one extraction. Each class is
+ * only merged once with the already merged annotations of its parent class, so mojos sharing the same parent classes
+ * don't walk their hierarchy again and again. Classes without own annotations share the map of their parent class,
+ * therefore the returned maps are unmodifiable.
+ *
+ * @since 4.0.0
+ */
+final class MojoClassHierarchies {
+
+    private final Map<String, MojoAnnotatedClass> mojoAnnotatedClasses;
+
+    private final Map<String, Map<String, ParameterAnnotationContent>> parameters = new HashMap<>();
+
+    private final Map<String, Map<String, ComponentAnnotationContent>> components = new HashMap<>();
+
+    private final Map<String, Optional<MojoAnnotatedClass>> classesWithExecute = new HashMap<>();
+
+    /**
+     * @param mojoAnnotatedClasses all scanned classes by their name
+     */
+    MojoClassHierarchies(Map<String, MojoAnnotatedClass> mojoAnnotatedClasses) {
+        this.mojoAnnotatedClasses = mojoAnnotatedClasses;
+    }
+
+    /**
+     * Returns the parameters of the given class and its parent classes by field name, parameters of the given class
+     * taking precedence over the ones of its parent classes.
+     */
+    Map<String, ParameterAnnotationContent> getParameters(MojoAnnotatedClass mojoAnnotatedClass) {
+        Map<String, ParameterAnnotationContent> result = parameters.get(mojoAnnotatedClass.getClassName());
+        if (result == null) {
+            MojoAnnotatedClass parent = getParent(mojoAnnotatedClass);
+            if (parent != null && mojoAnnotatedClass.getParameters().isEmpty()) {
+                result = getParameters(parent);
+            } else {
+                Map<String, ParameterAnnotationContent> merged =
+                        parent != null ? new HashMap<>(getParameters(parent)) : new HashMap<>();
+                for (ParameterAnnotationContent parameter : mojoAnnotatedClass.getParameters().values()) {
+                    merged.put(parameter.getFieldName(), parameter);
+                }
+                result = Collections.unmodifiableMap(merged);
+            }
+            parameters.put(mojoAnnotatedClass.getClassName(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the components of the given class and its parent classes by field name, components of the given class
+     * taking precedence over the ones of its parent classes.
+     */
+    Map<String, ComponentAnnotationContent> getComponents(MojoAnnotatedClass mojoAnnotatedClass) {
+        Map<String, ComponentAnnotationContent> result = components.get(mojoAnnotatedClass.getClassName());
+        if (result == null) {
+            MojoAnnotatedClass parent = getParent(mojoAnnotatedClass);
+            if (parent != null && mojoAnnotatedClass.getComponents().isEmpty()) {
+                result = getComponents(parent);
+            } else {
+                Map<String, ComponentAnnotationContent> merged =
+                        parent != null ? new HashMap<>(getComponents(parent)) : new HashMap<>();
+                for (ComponentAnnotationContent component : mojoAnnotatedClass.getComponents().values()) {
+                    merged.put(component.getFieldName(), component);
+                }
+                result = Collections.unmodifiableMap(merged);
+            }
+            components.put(mojoAnnotatedClass.getClassName(), result);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the given class or its nearest parent class with an {@code @Execute} annotation, {@code null} if there
+     * is none.
+     */
+    MojoAnnotatedClass findClassWithExecute(MojoAnnotatedClass mojoAnnotatedClass) {
+        Optional<MojoAnnotatedClass> result = classesWithExecute.get(mojoAnnotatedClass.getClassName());
+        if (result == null) {
+            if (mojoAnnotatedClass.getExecute() != null) {
+                result = Optional.of(mojoAnnotatedClass);
+            } else {
+                MojoAnnotatedClass parent = getParent(mojoAnnotatedClass);
+                result = Optional.ofNullable(parent != null ? findClassWithExecute(parent) : null);
+            }
+            classesWithExecute.put(mojoAnnotatedClass.getClassName(), result);
+        }
+        return result.orElse(null);
+    }
+
+    private MojoAnnotatedClass getParent(MojoAnnotatedClass mojoAnnotatedClass) {
+        String parentClassName = mojoAnnotatedClass.getParentClassName();
+        if (parentClassName == null || parentClassName.isEmpty()) {
+            return null;
+        }
+        return mojoAnnotatedClasses.get(parentClassName);
+    }
+}
@@ -55,6 +55,7 @@ import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.reflection.Reflector;
 import org.codehaus.plexus.util.reflection.ReflectorException;
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -232,7 +233,8 @@ public class DefaultMojoAnnotationsScanner implements MojoAnnotationsScanner {
         MojoClassVisitor mojoClassVisitor = new MojoClassVisitor();
         try {
             ClassReader rdr = new ClassReader(is);
-            rdr.accept(mojoClassVisitor, ClassReader.SKIP_FRAMES | ClassReader.SKIP_CODE | ClassReader.SKIP_DEBUG);
+            // the source file name is debug information, the debug information of the code is skipped anyway
+            rdr.accept(mojoClassVisitor, ClassReader.SKIP_FRAMES | ClassReader.SKIP_CODE);
         } catch (ArrayIndexOutOfBoundsException aiooe) {
             LOGGER.warn(
                     "Error analyzing class " + file + " in " + source + ": ignoring class",
@@ -255,6 +257,9 @@ public class DefaultMojoAnnotationsScanner implements MojoAnnotationsScanner {
 
         if (excludeMojo) {
             mojoAnnotatedClass.setMojo(null);
+            // the indexes of DI beans and Sisu components only cover the project's own classes
+            mojoAnnotatedClass.setDiBean(false);
+            mojoAnnotatedClass.setSisuComponent(false);
         }
 
         if (mojoAnnotatedClass != null) // see MPLUGIN-206 we can have intermediate classes without annotations
@@ -280,6 +285,12 @@ public class DefaultMojoAnnotationsScanner implements MojoAnnotationsScanner {
     protected void analyzeVisitors(MojoClassVisitor mojoClassVisitor) throws ExtractionException {
         final MojoAnnotatedClass mojoAnnotatedClass = mojoClassVisitor.getMojoAnnotatedClass();
 
+        mojoAnnotatedClass.setDiBean(mojoClassVisitor.getAnnotationVisitor(V4_API_DI_NAMED) != null);
+        // like Sisu's own index, only concrete classes are components
+        boolean concrete = (mojoClassVisitor.getAccess() & (Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE)) == 0;
+        mojoAnnotatedClass.setSisuComponent(concrete
+                && JSR330_NAMED.stream().anyMatch(name -> mojoClassVisitor.getAnnotationVisitor(name) != null));
+
         try {
             // @Mojo annotation
             MojoAnnotationVisitor mojoAnnotationVisitor = mojoClassVisitor.getAnnotationVisitor(MOJO_V3);
@@ -38,6 +38,13 @@ public class MojoAnnotatedClass {
 
     private String parentClassName;
 
+    /**
+     * The name of the source file the class was compiled from, without any directory, or {@code null} if unknown.
+     *
+     * @since 4.0.0
+     */
+    private String sourceFileName;
+
     private MojoAnnotationContent mojo;
 
     private ExecuteAnnotationContent execute;
@@ -59,6 +66,20 @@ public class MojoAnnotatedClass {
 
     private boolean v4Api;
 
+    /**
+     * Whether the class is annotated with {@code org.apache.maven.api.di.Named}.
+     *
+     * @since 4.0.0
+     */
+    private boolean diBean;
+
+    /**
+     * Whether the class is annotated with {@code javax.inject.Named} or {@code jakarta.inject.Named}.
+     *
+     * @since 4.0.0
+     */
+    private boolean sisuComponent;
+
     public MojoAnnotatedClass() {
         // no op
     }
@@ -81,6 +102,15 @@ public class MojoAnnotatedClass {
         return this;
     }
 
+    public String getSourceFileName() {
+        return sourceFileName;
+    }
+
+    public MojoAnnotatedClass setSourceFileName(String sourceFileName) {
+        this.sourceFileName = sourceFileName;
+        return this;
+    }
+
     public MojoAnnotationContent getMojo() {
         return mojo;
     }
@@ -152,6 +182,22 @@ public class MojoAnnotatedClass {
         this.v4Api = v4Api;
     }
 
+    public boolean isDiBean() {
+        return diBean;
+    }
+
+    public void setDiBean(boolean diBean) {
+        this.diBean = diBean;
+    }
+
+    public boolean isSisuComponent() {
+        return sisuComponent;
+    }
+
+    public void setSisuComponent(boolean sisuComponent) {
+        this.sisuComponent = sisuComponent;
+    }
+
     @Override
     public String toString() {
         final StringBuilder sb = new StringBuilder();
@@ -164,6 +210,8 @@ public class MojoAnnotatedClass {
         sb.append(", parameters=").append(parameters);
         sb.append(", components=").append(components);
         sb.append(", v4api=").append(v4Api);
+        sb.append(", diBean=").append(diBean);
+        sb.append(", sisuComponent=").append(sisuComponent);
         sb.append('}');
         return sb.toString();
     }
@@ -39,12 +39,29 @@ public interface MojoAnnotationsScanner {
 
     String V4_API_ANNOTATIONS_PACKAGE = V4_API_PLUGIN_PACKAGE + ".annotations";
 
+    /**
+     * The annotation marking beans of the Maven 4 dependency injection, which need to be listed in the index.
+     *
+     * @since 4.0.0
+     */
+    String V4_API_DI_NAMED = "org.apache.maven.api.di.Named";
+
+    /**
+     * The annotations marking JSR-330 components, which need to be listed in the Sisu index.
+     *
+     * @since 4.0.0
+     */
+    List<String> JSR330_NAMED = Arrays.asList("javax.inject.Named", "jakarta.inject.Named");
+
     List<String> CLASS_LEVEL_ANNOTATIONS = Arrays.asList(
             Mojo.class.getName(),
             Execute.class.getName(),
             Deprecated.class.getName(),
             V4_API_ANNOTATIONS_PACKAGE + ".Mojo",
-            V4_API_ANNOTATIONS_PACKAGE + ".Execute");
+            V4_API_ANNOTATIONS_PACKAGE + ".Execute",
+            V4_API_DI_NAMED,
+            JSR330_NAMED.get(0),
+            JSR330_NAMED.get(1));
 
     List<String> FIELD_LEVEL_ANNOTATIONS = Arrays.asList(
             Parameter.class.getName(),
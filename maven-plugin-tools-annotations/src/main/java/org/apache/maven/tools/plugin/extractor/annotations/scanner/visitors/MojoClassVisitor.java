@@ -61,6 +61,8 @@ public class MojoClassVisitor extends ClassVisitor {
 
     private int version;
 
+    private int access;
+
     public MojoClassVisitor() {
         super(Opcodes.ASM9);
     }
@@ -73,6 +75,13 @@ public class MojoClassVisitor extends ClassVisitor {
         return version;
     }
 
+    /**
+     * @return the access flags of the class, e.g. {@link Opcodes#ACC_ABSTRACT}
+     */
+    public int getAccess() {
+        return access;
+    }
+
     public MojoAnnotationVisitor getAnnotationVisitor(Class<?> annotation) {
         return getAnnotationVisitor(annotation.getName());
     }
@@ -114,6 +123,7 @@ public class MojoClassVisitor extends ClassVisitor {
     @Override
     public void visit(int version, int access, String name, String signature, String superName, String[] interfaces) {
         this.version = version;
+        this.access = access;
         mojoAnnotatedClass = new MojoAnnotatedClass();
         mojoAnnotatedClass.setClassName(Type.getObjectType(name).getClassName());
         if (superName != null) {
@@ -121,6 +131,11 @@ public class MojoClassVisitor extends ClassVisitor {
         }
     }
 
+    @Override
+    public void visitSource(String source, String debug) {
+        mojoAnnotatedClass.setSourceFileName(source);
+    }
+
     @Override
     public AnnotationVisitor visitAnnotation(String desc, boolean visible) {
         String annotationClassName = Type.getType(desc).getClassName();
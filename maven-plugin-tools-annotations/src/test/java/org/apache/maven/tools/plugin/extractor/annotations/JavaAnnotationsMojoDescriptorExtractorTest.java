@@ -24,8 +24,13 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import com.github.javaparser.ast.body.TypeDeclaration;
 import org.apache.maven.artifact.Artifact;
@@ -37,6 +42,8 @@ import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.tools.plugin.DefaultPluginToolsRequest;
 import org.apache.maven.tools.plugin.extractor.ExtractionException;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtraction;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtractionResult;
 import org.apache.maven.tools.plugin.extractor.annotations.scanner.DefaultMojoAnnotationsScanner;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -95,6 +102,106 @@ class JavaAnnotationsMojoDescriptorExtractorTest {
         }
     }
 
+    @Test
+    void incrementalExtractionOfSubclassesOfChangedParent() throws Exception {
+        Path abstractFooMojo = copyClassToTargetDir(AbstractFooMojo.class);
+        copyClassToTargetDir(FooMojo.class);
+        copyClassToTargetDir(ExecuteMojo.class);
+        JavaAnnotationsMojoDescriptorExtractor extractor = new JavaAnnotationsMojoDescriptorExtractor();
+        extractor.mojoAnnotationsScanner = new DefaultMojoAnnotationsScanner();
+        MavenProject mavenProject = createProject();
+        List<MojoDescriptor> previousDescriptors =
+                extractor.execute(new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()));
+        assertEquals(3, previousDescriptors.size());
+
+        IncrementalExtractionResult result = extractor.execute(
+                new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()),
+                new IncrementalExtraction(
+                        previousDescriptors,
+                        Collections.singleton(abstractFooMojo.toFile()),
+                        Collections.emptySet(),
+                        Collections.emptySet()));
+
+        // the subclass is affected by the changed parent, the unrelated mojo is not
+        Set<String> expected = new HashSet<>(Arrays.asList(AbstractFooMojo.class.getName(), FooMojo.class.getName()));
+        assertEquals(expected, result.getAffectedImplementations());
+        assertEquals(
+                expected,
+                result.getDescriptors().stream()
+                        .map(MojoDescriptor::getImplementation)
+                        .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void incrementalExtractionOfRemovedMojo() throws Exception {
+        copyClassToTargetDir(FooMojo.class);
+        copyClassToTargetDir(AbstractFooMojo.class);
+        Path executeMojo = copyClassToTargetDir(ExecuteMojo.class);
+        JavaAnnotationsMojoDescriptorExtractor extractor = new JavaAnnotationsMojoDescriptorExtractor();
+        extractor.mojoAnnotationsScanner = new DefaultMojoAnnotationsScanner();
+        MavenProject mavenProject = createProject();
+        List<MojoDescriptor> previousDescriptors =
+                extractor.execute(new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()));
+        Files.delete(executeMojo);
+
+        IncrementalExtractionResult result = extractor.execute(
+                new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()),
+                new IncrementalExtraction(
+                        previousDescriptors,
+                        Collections.emptySet(),
+                        Collections.emptySet(),
+                        Collections.singleton(executeMojo.toFile())));
+
+        assertEquals(Collections.singleton(ExecuteMojo.class.getName()), result.getAffectedImplementations());
+        assertTrue(result.getDescriptors().isEmpty());
+    }
+
+    @Test
+    void incrementalExtractionOfClassesInChangedSourceFile() throws Exception {
+        copyClassToTargetDir(SecondaryClassMojo.class);
+        copyClassToTargetDir(SecondaryMojo.class);
+        copyClassToTargetDir(ExecuteMojo.class);
+        JavaAnnotationsMojoDescriptorExtractor extractor = new JavaAnnotationsMojoDescriptorExtractor();
+        extractor.mojoAnnotationsScanner = new DefaultMojoAnnotationsScanner();
+        MavenProject mavenProject = createProject();
+        Path sourceRoot = targetDir.resolve("src");
+        mavenProject.addCompileSourceRoot(sourceRoot.toString());
+        List<MojoDescriptor> previousDescriptors =
+                extractor.execute(new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()));
+        assertEquals(3, previousDescriptors.size());
+
+        Path changedSource =
+                sourceRoot.resolve(SecondaryClassMojo.class.getName().replace('.', '/') + ".java");
+        IncrementalExtractionResult result = extractor.execute(
+                new DefaultPluginToolsRequest(mavenProject, new PluginDescriptor()),
+                new IncrementalExtraction(
+                        previousDescriptors,
+                        Collections.singleton(changedSource.toFile()),
+                        Collections.emptySet(),
+                        Collections.emptySet()));
+
+        // the non-public top level class is compiled from the same source file
+        Set<String> expected =
+                new HashSet<>(Arrays.asList(SecondaryClassMojo.class.getName(), SecondaryMojo.class.getName()));
+        assertEquals(expected, result.getAffectedImplementations());
+    }
+
+    private Path copyClassToTargetDir(Class<?> mojoClass) throws IOException, URISyntaxException {
+        Path sourceClass = Paths.get(
+                mojoClass.getResource(mojoClass.getSimpleName() + ".class").toURI());
+        Path targetClass = targetDir.resolve(mojoClass.getName().replace('.', '/') + ".class");
+        Files.createDirectories(targetClass.getParent());
+        return Files.copy(sourceClass, targetClass);
+    }
+
+    private MavenProject createProject() {
+        MavenProject mavenProject = new MavenProject();
+        Artifact artifact = new DefaultArtifact("groupId", "artifactId", "1.0.0", null, "jar", "classifier", null);
+        mavenProject.setArtifact(artifact);
+        mavenProject.getBuild().setOutputDirectory(targetDir.toString());
+        return mavenProject;
+    }
+
     @Test
     void assertFooMojo() throws Exception {
         MojoDescriptor mojoDescriptor = extractDescriptorFromMojoClass(FooMojo.class);
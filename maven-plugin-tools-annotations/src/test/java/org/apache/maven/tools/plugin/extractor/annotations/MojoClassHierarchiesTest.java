@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.extractor.annotations;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ComponentAnnotationContent;
+import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ExecuteAnnotationContent;
+import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ParameterAnnotationContent;
+import org.apache.maven.tools.plugin.extractor.annotations.scanner.MojoAnnotatedClass;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class MojoClassHierarchiesTest {
+    private final Map<String, MojoAnnotatedClass> mojoAnnotatedClasses = new HashMap<>();
+
+    @Test
+    void inheritedAnnotations() {
+        MojoAnnotatedClass base = addClass("Base", "java.lang.Object", "a", "b");
+        base.getComponents().put("session", new ComponentAnnotationContent("session"));
+        base.setExecute(new ExecuteAnnotationContent());
+        MojoAnnotatedClass middle = addClass("Middle", "Base", "b");
+        MojoAnnotatedClass first = addClass("First", "Middle", "c");
+        MojoAnnotatedClass second = addClass("Second", "Middle");
+        MojoAnnotatedClass unrelated = addClass("Unrelated", null, "d");
+
+        MojoClassHierarchies hierarchies = new MojoClassHierarchies(mojoAnnotatedClasses);
+
+        assertEquals(new HashSet<>(Arrays.asList("a", "b", "c")), hierarchies.getParameters(first).keySet());
+        // the parameter of the subclass takes precedence
+        assertSame(middle.getParameters().get("b"), hierarchies.getParameters(first).get("b"));
+        assertSame(base.getParameters().get("a"), hierarchies.getParameters(second).get("a"));
+        assertEquals(new HashSet<>(Arrays.asList("d")), hierarchies.getParameters(unrelated).keySet());
+        // merged only once
+        assertSame(hierarchies.getParameters(second), hierarchies.getParameters(middle));
+        assertSame(hierarchies.getParameters(first), hierarchies.getParameters(first));
+
+        assertEquals(base.getComponents(), hierarchies.getComponents(first));
+        assertSame(base, hierarchies.findClassWithExecute(first));
+        assertNull(hierarchies.findClassWithExecute(unrelated));
+    }
+
+    private MojoAnnotatedClass addClass(String className, String parentClassName, String... parameters) {
+        MojoAnnotatedClass mojoAnnotatedClass =
+                new MojoAnnotatedClass().setClassName(className).setParentClassName(parentClassName);
+        for (String parameter : parameters) {
+            mojoAnnotatedClass
+                    .getParameters()
+                    .put(parameter, new ParameterAnnotationContent(parameter, "java.lang.String", null, false));
+        }
+        mojoAnnotatedClasses.put(className, mojoAnnotatedClass);
+        return mojoAnnotatedClass;
+    }
+}
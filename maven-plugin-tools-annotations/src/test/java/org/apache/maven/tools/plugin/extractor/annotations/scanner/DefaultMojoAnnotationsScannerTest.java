@@ -19,6 +19,8 @@
 package org.apache.maven.tools.plugin.extractor.annotations.scanner;
 
 import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -36,6 +38,9 @@ import org.apache.maven.tools.plugin.extractor.annotations.ParametersWithGeneric
 import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ComponentAnnotationContent;
 import org.apache.maven.tools.plugin.extractor.annotations.datamodel.ParameterAnnotationContent;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -226,4 +231,63 @@ class DefaultMojoAnnotationsScannerTest {
                                 Collections.singletonList("java.lang.String"),
                                 true));
     }
+
+    @Test
+    void scanDiBeansAndSisuComponents(@TempDir Path classesDirectory) throws Exception {
+        // the v4 API and jakarta.inject are not available in this module, therefore create annotated classes on the fly
+        writeAnnotatedClass(classesDirectory, "Bean", MojoAnnotationsScanner.V4_API_DI_NAMED);
+        writeAnnotatedClass(classesDirectory, "JavaxComponent", "javax.inject.Named");
+        writeAnnotatedClass(classesDirectory, "JakartaComponent", "jakarta.inject.Named");
+        writeAnnotatedClass(classesDirectory, "AbstractComponent", "javax.inject.Named", Opcodes.ACC_ABSTRACT);
+        writeAnnotatedClass(
+                classesDirectory,
+                "ComponentInterface",
+                "javax.inject.Named",
+                Opcodes.ACC_ABSTRACT | Opcodes.ACC_INTERFACE);
+
+        Map<String, MojoAnnotatedClass> result =
+                scanner.scanDirectory(classesDirectory.toFile(), Collections.singletonList("**/*.class"), null, false);
+        assertThat(result)
+                .containsOnlyKeys(
+                        "test.Bean",
+                        "test.JavaxComponent",
+                        "test.JakartaComponent",
+                        "test.AbstractComponent",
+                        "test.ComponentInterface");
+        assertTrue(result.get("test.Bean").isDiBean());
+        assertFalse(result.get("test.Bean").isSisuComponent());
+        assertFalse(result.get("test.JavaxComponent").isDiBean());
+        assertTrue(result.get("test.JavaxComponent").isSisuComponent());
+        assertTrue(result.get("test.JakartaComponent").isSisuComponent());
+        // only concrete classes are listed in the Sisu index
+        assertFalse(result.get("test.AbstractComponent").isSisuComponent());
+        assertFalse(result.get("test.ComponentInterface").isSisuComponent());
+
+        // dependencies are not part of the indexes
+        result = scanner.scanDirectory(classesDirectory.toFile(), Collections.singletonList("**/*.class"), null, true);
+        assertThat(result.values()).noneMatch(c -> c.isDiBean() || c.isSisuComponent());
+
+        result = scanner.scanDirectory(
+                new File(FooMojo.class.getResource("").getFile()),
+                Collections.singletonList("FooMojo.class"),
+                null,
+                false);
+        assertFalse(result.get(FooMojo.class.getName()).isDiBean());
+        assertFalse(result.get(FooMojo.class.getName()).isSisuComponent());
+    }
+
+    private static void writeAnnotatedClass(Path classesDirectory, String simpleName, String annotation)
+            throws Exception {
+        writeAnnotatedClass(classesDirectory, simpleName, annotation, 0);
+    }
+
+    private static void writeAnnotatedClass(Path classesDirectory, String simpleName, String annotation, int access)
+            throws Exception {
+        ClassWriter cw = new ClassWriter(0);
+        cw.visit(Opcodes.V1_8, Opcodes.ACC_PUBLIC | access, "test/" + simpleName, null, "java/lang/Object", null);
+        cw.visitAnnotation("L" + annotation.replace('.', '/') + ";", true).visitEnd();
+        cw.visitEnd();
+        Files.createDirectories(classesDirectory.resolve("test"));
+        Files.write(classesDirectory.resolve("test/" + simpleName + ".class"), cw.toByteArray());
+    }
 }
@@ -25,6 +25,7 @@ import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -32,6 +33,7 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.settings.Settings;
+import org.apache.maven.tools.plugin.javadoc.ExternalJavadocSites;
 import org.codehaus.plexus.util.ReaderFactory;
 import org.eclipse.aether.RepositorySystemSession;
 
@@ -55,6 +57,8 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
 
     private boolean skipErrorNoDescriptorsFound;
 
+    private boolean parallelExtraction;
+
     private Set<Artifact> dependencies;
 
     private RepositorySystemSession repoSession;
@@ -65,12 +69,18 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
 
     private List<URI> externalJavadocBaseUrls;
 
+    private ExternalJavadocSites externalJavadocSites;
+
     private Settings settings;
 
     private String requiredJavaVersion;
 
     private String mavenApiVersion;
 
+    private Set<String> diBeanClassNames;
+
+    private Set<String> sisuComponentClassNames;
+
     private Collection<String> excludedScanDirectories;
 
     public DefaultPluginToolsRequest(MavenProject project, PluginDescriptor pluginDescriptor) {
@@ -151,6 +161,17 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
         return this;
     }
 
+    @Override
+    public boolean isParallelExtraction() {
+        return parallelExtraction;
+    }
+
+    @Override
+    public PluginToolsRequest setParallelExtraction(boolean parallelExtraction) {
+        this.parallelExtraction = parallelExtraction;
+        return this;
+    }
+
     @Override
     public Set<Artifact> getDependencies() {
         if (this.dependencies == null) {
@@ -199,6 +220,7 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
     @Override
     public PluginToolsRequest setExternalJavadocBaseUrls(List<URI> javadocLinks) {
         this.externalJavadocBaseUrls = javadocLinks;
+        this.externalJavadocSites = null;
         return this;
     }
 
@@ -207,6 +229,21 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
         return externalJavadocBaseUrls;
     }
 
+    @Override
+    public PluginToolsRequest setExternalJavadocSites(ExternalJavadocSites externalJavadocSites) {
+        this.externalJavadocSites = externalJavadocSites;
+        this.externalJavadocBaseUrls = externalJavadocSites != null ? externalJavadocSites.getBaseUrls() : null;
+        return this;
+    }
+
+    @Override
+    public ExternalJavadocSites getExternalJavadocSites() {
+        if (externalJavadocSites == null) {
+            externalJavadocSites = ExternalJavadocSites.loadAsync(externalJavadocBaseUrls, settings);
+        }
+        return externalJavadocSites;
+    }
+
     @Override
     public PluginToolsRequest setSettings(Settings settings) {
         this.settings = settings;
@@ -240,6 +277,28 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
         return mavenApiVersion;
     }
 
+    @Override
+    public PluginToolsRequest setDiBeanClassNames(Set<String> diBeanClassNames) {
+        this.diBeanClassNames = diBeanClassNames;
+        return this;
+    }
+
+    @Override
+    public Set<String> getDiBeanClassNames() {
+        return diBeanClassNames;
+    }
+
+    @Override
+    public PluginToolsRequest setSisuComponentClassNames(Set<String> sisuComponentClassNames) {
+        this.sisuComponentClassNames = sisuComponentClassNames;
+        return this;
+    }
+
+    @Override
+    public Set<String> getSisuComponentClassNames() {
+        return sisuComponentClassNames;
+    }
+
     @Override
     public Collection<String> getExcludedScanDirectories() {
         if (excludedScanDirectories == null) {
@@ -258,6 +317,34 @@ public class DefaultPluginToolsRequest implements PluginToolsRequest {
         return isExcluded(sourceFile.toPath(), getExcludedScanDirectories());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Subclasses with additional state need to override this method to copy it as well.
+     */
+    @Override
+    public PluginToolsRequest copy() {
+        DefaultPluginToolsRequest copy = new DefaultPluginToolsRequest(project, pluginDescriptor);
+        copy.encoding = encoding;
+        copy.skipErrorNoDescriptorsFound = skipErrorNoDescriptorsFound;
+        copy.parallelExtraction = parallelExtraction;
+        copy.dependencies = dependencies;
+        copy.repoSession = repoSession;
+        copy.internalJavadocBaseUrl = internalJavadocBaseUrl;
+        copy.internalJavadocVersion = internalJavadocVersion;
+        copy.externalJavadocBaseUrls = externalJavadocBaseUrls;
+        // shared, so the sites are retrieved only once for all copies
+        copy.externalJavadocSites = getExternalJavadocSites();
+        copy.settings = settings;
+        copy.requiredJavaVersion = requiredJavaVersion;
+        copy.mavenApiVersion = mavenApiVersion;
+        copy.diBeanClassNames = diBeanClassNames != null ? new LinkedHashSet<>(diBeanClassNames) : null;
+        copy.sisuComponentClassNames =
+                sisuComponentClassNames != null ? new LinkedHashSet<>(sisuComponentClassNames) : null;
+        copy.excludedScanDirectories = excludedScanDirectories;
+        return copy;
+    }
+
     /**
      * Determines whether a source directory is covered by any of the configured exclusions.
      * <p>
@@ -28,6 +28,7 @@ import org.apache.maven.artifact.Artifact;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.settings.Settings;
+import org.apache.maven.tools.plugin.javadoc.ExternalJavadocSites;
 import org.eclipse.aether.RepositorySystemSession;
 
 /**
@@ -97,6 +98,25 @@ public interface PluginToolsRequest {
      */
     boolean isSkipErrorNoDescriptorsFound();
 
+    /**
+     * By default the extractors are executed one after another. If enabled, extractors are executed concurrently
+     * unless they {@link org.apache.maven.tools.plugin.extractor.MojoDescriptorExtractor#requiresSequentialExecution()
+     * require sequential execution}. The extracted mojo descriptors are added in the same order in either case.
+     * Concurrent extractors work on {@link #copy() copies} of this request, the values they set are applied to this
+     * request once they have finished, in the order of the extractors, keeping the highest required Java version.
+     *
+     * @param parallelExtraction <code>true</code> to execute the extractors concurrently
+     * @return This request.
+     * @since 4.0.0
+     */
+    PluginToolsRequest setParallelExtraction(boolean parallelExtraction);
+
+    /**
+     * @return <code>true</code> if the extractors may be executed concurrently
+     * @since 4.0.0
+     */
+    boolean isParallelExtraction();
+
     /**
      * Returns the list of {@link Artifact} used in class path scanning for annotations
      *
@@ -169,6 +189,23 @@ public interface PluginToolsRequest {
      */
     List<URI> getExternalJavadocBaseUrls();
 
+    /**
+     * Sets the external javadoc sites, which may still be loading. This overwrites the
+     * {@link #getExternalJavadocBaseUrls() external javadoc base urls}.
+     *
+     * @param externalJavadocSites
+     * @return This request.
+     * @since 4.0.0
+     */
+    PluginToolsRequest setExternalJavadocSites(ExternalJavadocSites externalJavadocSites);
+
+    /**
+     * @return the external javadoc sites, retrieved in the background from {@link #getExternalJavadocBaseUrls()}
+     *     starting with the first access unless set explicitly
+     * @since 4.0.0
+     */
+    ExternalJavadocSites getExternalJavadocSites();
+
     /**
      * @param settings the Maven settings
      * @return This request.
@@ -214,6 +251,40 @@ public interface PluginToolsRequest {
      */
     String getUsedMavenApiVersion();
 
+    /**
+     * Sets the names of the project's classes annotated with {@code org.apache.maven.api.di.Named}, as detected by
+     * an extractor while scanning the compiled classes.
+     *
+     * @param diBeanClassNames the fully qualified class names
+     * @return This request.
+     * @since 4.0.0
+     */
+    PluginToolsRequest setDiBeanClassNames(Set<String> diBeanClassNames);
+
+    /**
+     * @return the names of the project's classes annotated with {@code org.apache.maven.api.di.Named} or
+     *     {@code null} if no extractor scanned the compiled classes
+     * @since 4.0.0
+     */
+    Set<String> getDiBeanClassNames();
+
+    /**
+     * Sets the names of the project's classes annotated with {@code javax.inject.Named} or
+     * {@code jakarta.inject.Named}, as detected by an extractor while scanning the compiled classes.
+     *
+     * @param sisuComponentClassNames the fully qualified class names
+     * @return This request.
+     * @since 4.0.0
+     */
+    PluginToolsRequest setSisuComponentClassNames(Set<String> sisuComponentClassNames);
+
+    /**
+     * @return the names of the project's classes annotated with {@code javax.inject.Named} or
+     *     {@code jakarta.inject.Named} or {@code null} if no extractor scanned the compiled classes
+     * @since 4.0.0
+     */
+    Set<String> getSisuComponentClassNames();
+
     /**
      * Get the collection of directories to exclude from scanning during the detection of sources.
      *
@@ -240,4 +311,15 @@ public interface PluginToolsRequest {
      * @since 3.16.0
      */
     boolean isExcludedScanDirectory(File sourceFile);
+
+    /**
+     * Creates a copy of this request, which is used by an extractor executed concurrently to others (see
+     * {@link #setParallelExtraction(boolean)}). The copy must carry all values the extractors may rely on, including
+     * those of custom implementations, and must be modifiable independently of this request. Only the plugin
+     * descriptor is shared.
+     *
+     * @return the copy, never {@code null}
+     * @since 4.0.0
+     */
+    PluginToolsRequest copy();
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+/**
+ * Constants of the compact binary plugin descriptor format.
+ * <p>
+ * The format encodes the same element tree as the XML plugin descriptor. It starts with the {@link #MAGIC} number
+ * and the {@link #VERSION}, followed by a sequence of tokens each starting with one byte:
+ * <ul>
+ * <li>{@link #START_ELEMENT} followed by the element name</li>
+ * <li>{@link #ATTRIBUTE} followed by the attribute name and value</li>
+ * <li>{@link #TEXT} followed by the text</li>
+ * <li>{@link #END_ELEMENT}</li>
+ * <li>{@link #END_DOCUMENT} terminating the sequence</li>
+ * </ul>
+ * Strings are collected in a string table as they appear, so that repeated names, types and expressions are only
+ * stored once. Each string is written as variable-length integer: {@code 0} introduces a new string which follows as
+ * variable-length byte count and its UTF-8 bytes, any other value {@code n} refers to the {@code n}th string
+ * in the table.
+ *
+ * @since 4.0.0
+ */
+final class CompactPluginDescriptor {
+
+    /** The magic number identifying the format, i.e. {@code MPLB} in ASCII. */
+    static final int MAGIC = 0x4D504C42;
+
+    static final byte VERSION = 1;
+
+    static final byte END_DOCUMENT = 0;
+
+    static final byte START_ELEMENT = 1;
+
+    static final byte ATTRIBUTE = 2;
+
+    static final byte TEXT = 3;
+
+    static final byte END_ELEMENT = 4;
+
+    private CompactPluginDescriptor() {
+        // no instances
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Reads a plugin descriptor written by {@link CompactPluginDescriptorWriter} into the same {@link Xpp3Dom} tree
+ * {@link org.codehaus.plexus.util.xml.Xpp3DomBuilder} would create from the according XML descriptor,
+ * i.e. with trimmed text values and {@code null} values for elements without any text.
+ *
+ * @since 4.0.0
+ */
+public final class CompactPluginDescriptorReader {
+
+    private CompactPluginDescriptorReader() {
+        // no instances
+    }
+
+    /**
+     * @param input the stream to read from, not closed by this method
+     * @return the root element of the descriptor
+     * @throws IOException in case the stream could not be read or does not contain a valid compact descriptor
+     */
+    public static Xpp3Dom read(InputStream input) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(input));
+        if (data.readInt() != CompactPluginDescriptor.MAGIC) {
+            throw new IOException("Not a compact plugin descriptor");
+        }
+        byte version = data.readByte();
+        if (version != CompactPluginDescriptor.VERSION) {
+            throw new IOException("Unsupported compact plugin descriptor version " + version);
+        }
+
+        List<String> stringTable = new ArrayList<>();
+        Deque<Xpp3Dom> elements = new ArrayDeque<>();
+        // the text per open element, null for elements without text
+        List<StringBuilder> texts = new ArrayList<>();
+        Xpp3Dom root = null;
+        while (true) {
+            byte token = data.readByte();
+            switch (token) {
+                case CompactPluginDescriptor.START_ELEMENT:
+                    Xpp3Dom element = new Xpp3Dom(readString(data, stringTable));
+                    if (elements.isEmpty()) {
+                        if (root != null) {
+                            throw new IOException("Multiple root elements");
+                        }
+                        root = element;
+                    } else {
+                        elements.peek().addChild(element);
+                    }
+                    elements.push(element);
+                    texts.add(null);
+                    break;
+                case CompactPluginDescriptor.ATTRIBUTE:
+                    String name = readString(data, stringTable);
+                    String value = readString(data, stringTable);
+                    getCurrent(elements).setAttribute(name, value);
+                    break;
+                case CompactPluginDescriptor.TEXT:
+                    String text = readString(data, stringTable);
+                    getCurrent(elements);
+                    int last = texts.size() - 1;
+                    if (texts.get(last) == null) {
+                        texts.set(last, new StringBuilder());
+                    }
+                    texts.get(last).append(text);
+                    break;
+                case CompactPluginDescriptor.END_ELEMENT:
+                    Xpp3Dom ended = getCurrent(elements);
+                    elements.pop();
+                    StringBuilder accumulatedText = texts.remove(texts.size() - 1);
+                    if (ended.getChildCount() == 0 && accumulatedText != null) {
+                        ended.setValue(accumulatedText.toString().trim());
+                    }
+                    break;
+                case CompactPluginDescriptor.END_DOCUMENT:
+                    if (root == null || !elements.isEmpty()) {
+                        throw new IOException("Incomplete compact plugin descriptor");
+                    }
+                    return root;
+                default:
+                    throw new IOException("Invalid token " + token + " in compact plugin descriptor");
+            }
+        }
+    }
+
+    private static Xpp3Dom getCurrent(Deque<Xpp3Dom> elements) throws IOException {
+        if (elements.isEmpty()) {
+            throw new IOException("Token outside of root element in compact plugin descriptor");
+        }
+        return elements.peek();
+    }
+
+    private static String readString(DataInputStream data, List<String> stringTable) throws IOException {
+        int index = readVarInt(data);
+        if (index == 0) {
+            byte[] bytes = new byte[readVarInt(data)];
+            data.readFully(bytes);
+            String value = new String(bytes, UTF_8);
+            stringTable.add(value);
+            return value;
+        }
+        if (index > stringTable.size()) {
+            throw new IOException("Invalid string reference " + index + " in compact plugin descriptor");
+        }
+        return stringTable.get(index - 1);
+    }
+
+    private static int readVarInt(DataInputStream data) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = data.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer in compact plugin descriptor");
+    }
+}
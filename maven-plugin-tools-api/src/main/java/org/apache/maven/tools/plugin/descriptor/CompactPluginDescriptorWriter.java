@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.codehaus.plexus.util.xml.XMLWriter;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Writes a plugin descriptor in the compact binary format described in {@link CompactPluginDescriptor}.
+ * As it implements {@link XMLWriter} the same code can emit both the XML and the compact descriptor.
+ * Markup (i.e. comments) is not part of the compact format and therefore skipped.
+ * As the format has no representation for {@code null}, {@code null} names, values and texts are rejected with an
+ * {@link IllegalArgumentException} instead of writing an unreadable stream.
+ * <p>
+ * I/O errors are propagated as {@link UncheckedIOException} as {@link XMLWriter} does not allow checked exceptions.
+ *
+ * @since 4.0.0
+ */
+public class CompactPluginDescriptorWriter implements XMLWriter, AutoCloseable {
+
+    private final DataOutputStream output;
+
+    /** The index (starting with 1) of each string written so far. */
+    private final Map<String, Integer> stringTable = new HashMap<>();
+
+    private int depth;
+
+    /**
+     * @param output the stream to write to, closed by {@link #close()}
+     */
+    public CompactPluginDescriptorWriter(OutputStream output) {
+        this.output = new DataOutputStream(new BufferedOutputStream(output));
+        try {
+            this.output.writeInt(CompactPluginDescriptor.MAGIC);
+            this.output.writeByte(CompactPluginDescriptor.VERSION);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void startElement(String name) {
+        requireNonNull(name, "element name");
+        writeToken(CompactPluginDescriptor.START_ELEMENT, name, null);
+        depth++;
+    }
+
+    @Override
+    public void addAttribute(String key, String value) {
+        requireNonNull(key, "attribute name");
+        requireNonNull(value, "value of attribute " + key);
+        writeToken(CompactPluginDescriptor.ATTRIBUTE, key, value);
+    }
+
+    @Override
+    public void writeText(String text) {
+        requireNonNull(text, "text");
+        writeToken(CompactPluginDescriptor.TEXT, text, null);
+    }
+
+    @Override
+    public void writeMarkup(String text) {
+        // comments are not retained
+    }
+
+    @Override
+    public void endElement() {
+        if (depth == 0) {
+            throw new IllegalStateException("No element to end");
+        }
+        depth--;
+        writeToken(CompactPluginDescriptor.END_ELEMENT, null, null);
+    }
+
+    /**
+     * Terminates the document and closes the underlying stream.
+     *
+     * @throws IOException in case the stream could not be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (depth != 0) {
+                throw new IllegalStateException(depth + " element(s) have not been ended");
+            }
+            output.writeByte(CompactPluginDescriptor.END_DOCUMENT);
+        } finally {
+            output.close();
+        }
+    }
+
+    private static void requireNonNull(String value, String description) {
+        if (value == null) {
+            throw new IllegalArgumentException("The compact plugin descriptor does not support a null " + description);
+        }
+    }
+
+    private void writeToken(byte token, String first, String second) {
+        try {
+            output.writeByte(token);
+            if (first != null) {
+                writeString(first);
+            }
+            if (second != null) {
+                writeString(second);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeString(String value) throws IOException {
+        Integer index = stringTable.get(value);
+        if (index != null) {
+            writeVarInt(index);
+        } else {
+            stringTable.put(value, stringTable.size() + 1);
+            byte[] bytes = value.getBytes(UTF_8);
+            writeVarInt(0);
+            writeVarInt(bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private void writeVarInt(int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+}
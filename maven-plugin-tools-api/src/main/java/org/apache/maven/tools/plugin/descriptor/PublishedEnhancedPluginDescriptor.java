@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Passes the enhanced plugin descriptor (containing XHTML values) from
+ * {@code plugin:descriptor} to the plugin report within the same
+ * build, so that the latter does not need to read it from disk.
+ * Only published if enabled by the {@code publishEnhancedDescriptor} parameter of {@code plugin:descriptor}.
+ * The descriptor is stored as project context value in the compact binary format written by
+ * {@link CompactPluginDescriptorWriter}: in contrast to the descriptor model classes a byte array can be shared
+ * between the class realms of different plugins.
+ *
+ * @since 4.0.0
+ */
+public final class PublishedEnhancedPluginDescriptor {
+
+    /** The key of the project context value. */
+    public static final String CONTEXT_KEY = PublishedEnhancedPluginDescriptor.class.getName();
+
+    private PublishedEnhancedPluginDescriptor() {
+        // no instances
+    }
+
+    /**
+     * @param project the project to publish the descriptor for
+     * @param compactDescriptor the enhanced plugin descriptor in compact binary format, not modified afterwards
+     */
+    public static void publish(MavenProject project, byte[] compactDescriptor) {
+        project.setContextValue(CONTEXT_KEY, compactDescriptor);
+    }
+
+    /**
+     * Returns the descriptor published for the given project or for its execution project, i.e. by
+     * a forked lifecycle.
+     *
+     * @param project the project
+     * @return the enhanced plugin descriptor in compact binary format (to be read with
+     * {@link CompactPluginDescriptorReader}) or {@code null} if it has not been published within this build
+     */
+    public static byte[] get(MavenProject project) {
+        Object descriptor = project.getContextValue(CONTEXT_KEY);
+        if (descriptor == null && project.getExecutionProject() != null && project.getExecutionProject() != project) {
+            descriptor = project.getExecutionProject().getContextValue(CONTEXT_KEY);
+        }
+        return descriptor instanceof byte[] ? (byte[]) descriptor : null;
+    }
+}
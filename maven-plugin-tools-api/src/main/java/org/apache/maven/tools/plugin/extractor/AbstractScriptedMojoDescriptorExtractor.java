@@ -48,6 +48,14 @@ public abstract class AbstractScriptedMojoDescriptorExtractor implements MojoDes
         return true;
     }
 
+    /**
+     * Script engines are not expected to be thread-safe.
+     */
+    @Override
+    public boolean requiresSequentialExecution() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     public List<MojoDescriptor> execute(PluginToolsRequest request)
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.extractor;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+
+/**
+ * The changes since a previous extraction, passed to
+ * {@link MojoDescriptorExtractor#execute(org.apache.maven.tools.plugin.PluginToolsRequest, IncrementalExtraction)}.
+ * The changed, added and removed files are the class files in the project's output directory and the source files
+ * in its compile source roots. Changes of any other input (e.g. the dependencies) require a full extraction.
+ *
+ * @since 4.0.0
+ */
+public final class IncrementalExtraction {
+
+    private final List<MojoDescriptor> previousDescriptors;
+
+    private final Set<File> changedFiles;
+
+    private final Set<File> addedFiles;
+
+    private final Set<File> removedFiles;
+
+    /**
+     * @param previousDescriptors the mojo descriptors of all extractors resulting from the previous extraction
+     * @param changedFiles the files whose content changed since the previous extraction
+     * @param addedFiles the files created since the previous extraction
+     * @param removedFiles the files deleted since the previous extraction
+     */
+    public IncrementalExtraction(
+            List<MojoDescriptor> previousDescriptors,
+            Set<File> changedFiles,
+            Set<File> addedFiles,
+            Set<File> removedFiles) {
+        this.previousDescriptors = Collections.unmodifiableList(new ArrayList<>(previousDescriptors));
+        this.changedFiles = Collections.unmodifiableSet(new LinkedHashSet<>(changedFiles));
+        this.addedFiles = Collections.unmodifiableSet(new LinkedHashSet<>(addedFiles));
+        this.removedFiles = Collections.unmodifiableSet(new LinkedHashSet<>(removedFiles));
+    }
+
+    /**
+     * Returns the mojo descriptors of all extractors resulting from the previous extraction, never {@code null}.
+     */
+    public List<MojoDescriptor> getPreviousDescriptors() {
+        return previousDescriptors;
+    }
+
+    /**
+     * Returns the files whose content changed since the previous extraction, never {@code null}.
+     */
+    public Set<File> getChangedFiles() {
+        return changedFiles;
+    }
+
+    /**
+     * Returns the files created since the previous extraction, never {@code null}.
+     */
+    public Set<File> getAddedFiles() {
+        return addedFiles;
+    }
+
+    /**
+     * Returns the files deleted since the previous extraction, never {@code null}.
+     */
+    public Set<File> getRemovedFiles() {
+        return removedFiles;
+    }
+
+    /**
+     * Returns the changed, added and removed files, never {@code null}.
+     */
+    public Set<File> getAllFiles() {
+        Set<File> files = new LinkedHashSet<>(changedFiles);
+        files.addAll(addedFiles);
+        files.addAll(removedFiles);
+        return files;
+    }
+}
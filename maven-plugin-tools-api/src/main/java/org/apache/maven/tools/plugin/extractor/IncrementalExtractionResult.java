@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.extractor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.plugin.descriptor.MojoDescriptor;
+
+/**
+ * The result of an incremental extraction: the mojos affected by the changes and the descriptors extracted for them.
+ * Previous descriptors of affected mojos are replaced by the extracted ones, or removed if there is none for the same
+ * implementation anymore. All other previous descriptors are retained.
+ *
+ * @since 4.0.0
+ */
+public final class IncrementalExtractionResult {
+
+    private final Set<String> affectedImplementations;
+
+    private final List<MojoDescriptor> descriptors;
+
+    /**
+     * @param affectedImplementations the implementation class names of all mojos affected by the changes, i.e. of the
+     * extracted mojos as well as of previous mojos which no longer exist
+     * @param descriptors the descriptors extracted for the affected mojos
+     */
+    public IncrementalExtractionResult(Set<String> affectedImplementations, List<MojoDescriptor> descriptors) {
+        this.affectedImplementations = Collections.unmodifiableSet(new LinkedHashSet<>(affectedImplementations));
+        this.descriptors = Collections.unmodifiableList(new ArrayList<>(descriptors));
+    }
+
+    /**
+     * Returns the implementation class names of all mojos affected by the changes, never {@code null}.
+     */
+    public Set<String> getAffectedImplementations() {
+        return affectedImplementations;
+    }
+
+    /**
+     * Returns the descriptors extracted for the affected mojos, never {@code null}.
+     */
+    public List<MojoDescriptor> getDescriptors() {
+        return descriptors;
+    }
+}
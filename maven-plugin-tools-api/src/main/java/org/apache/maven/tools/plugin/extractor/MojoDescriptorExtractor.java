@@ -18,7 +18,9 @@
  */
 package org.apache.maven.tools.plugin.extractor;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.maven.plugin.descriptor.InvalidPluginDescriptorException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
@@ -71,4 +73,51 @@ public interface MojoDescriptorExtractor {
     default String getRequiredJavaVersion() {
         return null;
     }
+
+    /**
+     * Returns {@code true} if the extractor must not be executed concurrently with other extractors, e.g. because
+     * it depends on the results of the extractors ordered before it. Only relevant if
+     * {@link PluginToolsRequest#isParallelExtraction()} is enabled. The default implementation returns {@code false}.
+     *
+     * @since 4.0.0
+     */
+    default boolean requiresSequentialExecution() {
+        return false;
+    }
+
+    /**
+     * Returns {@code true} if the extractor implements {@link #execute(PluginToolsRequest, IncrementalExtraction)}
+     * more efficiently than by a full extraction. This is only a hint, callers may fall back to a full extraction
+     * otherwise. The default implementation returns {@code false}.
+     *
+     * @since 4.0.0
+     */
+    default boolean supportsIncrementalExtraction() {
+        return false;
+    }
+
+    /**
+     * Execute the mojo extraction only for the mojos affected by the given changes since a previous extraction.
+     * The default implementation executes a full extraction and reports all previous and extracted mojos as affected,
+     * i.e. the previous descriptors of other extractors are dropped as well.
+     *
+     * @param request The {@link PluginToolsRequest} containing information for the extraction process.
+     * @param extraction the previous descriptors and the changed files
+     * @return the affected mojos and their descriptors
+     * @throws ExtractionException if any
+     * @throws InvalidPluginDescriptorException if any
+     * @since 4.0.0
+     */
+    default IncrementalExtractionResult execute(PluginToolsRequest request, IncrementalExtraction extraction)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        List<MojoDescriptor> descriptors = execute(request);
+        Set<String> affectedImplementations = new LinkedHashSet<>();
+        for (MojoDescriptor previousDescriptor : extraction.getPreviousDescriptors()) {
+            affectedImplementations.add(previousDescriptor.getImplementation());
+        }
+        for (MojoDescriptor descriptor : descriptors) {
+            affectedImplementations.add(descriptor.getImplementation());
+        }
+        return new IncrementalExtractionResult(affectedImplementations, descriptors);
+    }
 }
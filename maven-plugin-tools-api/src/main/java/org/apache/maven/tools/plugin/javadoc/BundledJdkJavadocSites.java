@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.maven.tools.plugin.javadoc.JavadocLinkGenerator.JavadocToolVersionRange;
+
+/**
+ * Snapshots of the {@code package-list} and {@code element-list} files of the JDK API documentation published at
+ * {@code docs.oracle.com}. Those allow to link to the JDK API without accessing the network.
+ * The snapshots are bundled as resources below {@code org/apache/maven/tools/plugin/javadoc/jdk}.
+ */
+final class BundledJdkJavadocSites {
+
+    private static final String RESOURCE_PREFIX = "jdk/";
+
+    private static final Map<URI, BundledSite> SITES;
+
+    static {
+        Map<URI, BundledSite> sites = new HashMap<>();
+        // up to JDK 10 module names are not part of the path
+        addSite(sites, "https://docs.oracle.com/javase/8/docs/api/", "package-list-8", false);
+        addSite(sites, "https://docs.oracle.com/javase/9/docs/api/", "package-list-9", false);
+        addSite(sites, "https://docs.oracle.com/javase/10/docs/api/", "element-list-10", false);
+        for (int version : new int[] {11, 12, 13, 14, 15, 17, 21}) {
+            addSite(
+                    sites,
+                    "https://docs.oracle.com/en/java/javase/" + version + "/docs/api/",
+                    "element-list-" + version,
+                    true);
+        }
+        SITES = Collections.unmodifiableMap(sites);
+    }
+
+    private BundledJdkJavadocSites() {
+        // no instances
+    }
+
+    private static void addSite(
+            Map<URI, BundledSite> sites, String url, String resourceName, boolean requireModuleNameInPath) {
+        // the javadoc tool version corresponds to the JDK version
+        JavadocToolVersionRange version = resourceName.startsWith("package-list")
+                ? JavadocToolVersionRange.JDK8_OR_9
+                : JavadocToolVersionRange.JDK10_OR_HIGHER;
+        sites.put(URI.create(url), new BundledSite(resourceName, version, requireModuleNameInPath));
+    }
+
+    /**
+     * Returns an offline javadoc site for the given URL in case it is the root of one of the known JDK API sites.
+     * Both {@code http} and {@code https} URLs are recognized.
+     *
+     * @param url the base URL of an external javadoc site
+     * @return the offline site with the bundled package list or {@link Optional#empty()} if the URL is unknown
+     */
+    static Optional<JavadocSite> getSite(URI url) {
+        BundledSite bundledSite = SITES.get(normalize(url));
+        if (bundledSite == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new JavadocSite(
+                url, bundledSite.version, bundledSite.getPackageNamesAndModules(), bundledSite.requireModuleNameInPath));
+    }
+
+    static URI normalize(URI url) {
+        if (!url.isAbsolute() || url.getHost() == null || url.getQuery() != null || url.getFragment() != null) {
+            return url;
+        }
+        String scheme = url.getScheme().toLowerCase(Locale.ROOT);
+        if ("http".equals(scheme)) {
+            scheme = "https";
+        }
+        String path = url.getPath();
+        if (!path.endsWith("/")) {
+            path += "/";
+        }
+        return URI.create(scheme + "://" + url.getHost().toLowerCase(Locale.ROOT) + path);
+    }
+
+    private static final class BundledSite {
+        private final String resourceName;
+
+        private final JavadocToolVersionRange version;
+
+        private final boolean requireModuleNameInPath;
+
+        private Map<String, String> packageNamesAndModules; // lazily loaded
+
+        BundledSite(String resourceName, JavadocToolVersionRange version, boolean requireModuleNameInPath) {
+            this.resourceName = resourceName;
+            this.version = version;
+            this.requireModuleNameInPath = requireModuleNameInPath;
+        }
+
+        synchronized Map<String, String> getPackageNamesAndModules() {
+            if (packageNamesAndModules == null) {
+                try (InputStream input =
+                                BundledJdkJavadocSites.class.getResourceAsStream(RESOURCE_PREFIX + resourceName);
+                        BufferedReader reader =
+                                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+                    packageNamesAndModules =
+                            Collections.unmodifiableMap(JavadocSite.readPackageListWithModules(reader));
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Could not read bundled package list " + resourceName, e);
+                }
+            }
+            return packageNamesAndModules;
+        }
+    }
+}
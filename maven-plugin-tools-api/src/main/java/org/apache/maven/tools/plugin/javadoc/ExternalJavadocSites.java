@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.maven.settings.Settings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The external javadoc sites to link to. Their {@code package-list} or {@code element-list} files are retrieved
+ * either immediately ({@link #load(List, Settings)}) or in the background ({@link #loadAsync(List, Settings)}),
+ * so that the network latency overlaps with other work. Each site is retrieved only once, no matter how many
+ * {@link JavadocLinkGenerator}s are created from the same instance. Sites retrieved in the background must be
+ * {@link #close() closed} before the HTTP clients they use are closed.
+ *
+ * @since 4.0.0
+ */
+public final class ExternalJavadocSites implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JavadocLinkGenerator.class);
+
+    private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    private final Map<URI, CompletableFuture<JavadocSite>> sites;
+
+    /** Counted down by each background retrieval once it has finished or has been skipped. */
+    private final CountDownLatch pendingRetrievals;
+
+    private boolean failuresReported;
+
+    private ExternalJavadocSites(Map<URI, CompletableFuture<JavadocSite>> sites, CountDownLatch pendingRetrievals) {
+        this.sites = sites;
+        this.pendingRetrievals = pendingRetrievals;
+    }
+
+    /**
+     * Retrieves the given sites in the calling thread.
+     *
+     * @param baseUrls the base URLs of the external javadoc sites (may be {@code null})
+     * @param settings the settings containing the proxy configuration (may be {@code null})
+     * @return the sites
+     */
+    public static ExternalJavadocSites load(List<URI> baseUrls, Settings settings) {
+        Map<URI, CompletableFuture<JavadocSite>> sites = new LinkedHashMap<>();
+        if (baseUrls != null) {
+            for (URI baseUrl : baseUrls) {
+                CompletableFuture<JavadocSite> site = new CompletableFuture<>();
+                try {
+                    site.complete(fetch(baseUrl, settings));
+                } catch (UncheckedIOException e) {
+                    site.completeExceptionally(e.getCause());
+                }
+                sites.put(baseUrl, site);
+            }
+        }
+        return new ExternalJavadocSites(sites, new CountDownLatch(0));
+    }
+
+    /**
+     * Starts retrieving the given sites in background threads and returns immediately.
+     * Failures are reported once the sites are first needed.
+     *
+     * @param baseUrls the base URLs of the external javadoc sites (may be {@code null})
+     * @param settings the settings containing the proxy configuration (may be {@code null})
+     * @return the sites
+     */
+    public static ExternalJavadocSites loadAsync(List<URI> baseUrls, Settings settings) {
+        Map<URI, CompletableFuture<JavadocSite>> sites = new LinkedHashMap<>();
+        if (baseUrls != null) {
+            for (URI baseUrl : baseUrls) {
+                sites.put(baseUrl, new CompletableFuture<>());
+            }
+        }
+        CountDownLatch pendingRetrievals = new CountDownLatch(sites.size());
+        // the shared executor's threads outlive the scope, therefore attribute the retrievals to the caller's scope
+        sites.forEach((baseUrl, site) -> EXECUTOR.execute(JavadocHttpClient.withCurrentScope(() -> {
+            try {
+                // skipped if already closed
+                if (!site.isDone()) {
+                    site.complete(fetch(baseUrl, settings));
+                }
+            } catch (RuntimeException | Error e) {
+                site.completeExceptionally(e);
+            } finally {
+                pendingRetrievals.countDown();
+            }
+        })));
+        return new ExternalJavadocSites(sites, pendingRetrievals);
+    }
+
+    private static JavadocSite fetch(URI baseUrl, Settings settings) {
+        Optional<JavadocSite> bundledSite = BundledJdkJavadocSites.getSite(baseUrl);
+        if (bundledSite.isPresent()) {
+            LOG.debug("Using bundled package list for {}", baseUrl);
+            return bundledSite.get();
+        }
+        try {
+            return new JavadocSite(baseUrl, settings);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the base URLs of all sites, including the ones not accessible
+     */
+    public List<URI> getBaseUrls() {
+        return Collections.unmodifiableList(new ArrayList<>(sites.keySet()));
+    }
+
+    /**
+     * Waits until all sites have been retrieved. Sites which could not be retrieved are omitted, they are
+     * reported with a warning on first invocation.
+     *
+     * @return the accessible sites in the order of their base URLs
+     */
+    synchronized List<JavadocSite> getSites() {
+        List<JavadocSite> accessibleSites = new ArrayList<>(sites.size());
+        for (Map.Entry<URI, CompletableFuture<JavadocSite>> site : sites.entrySet()) {
+            try {
+                accessibleSites.add(site.getValue().join());
+            } catch (CancellationException e) {
+                // closed
+            } catch (CompletionException e) {
+                if (!failuresReported) {
+                    Throwable cause = e.getCause() instanceof UncheckedIOException
+                            ? e.getCause().getCause()
+                            : e.getCause();
+                    LOG.warn("Could not use {} as base URL: {}", site.getKey(), cause.getMessage(), cause);
+                }
+            }
+        }
+        failuresReported = true;
+        return accessibleSites;
+    }
+
+    /**
+     * Cancels the retrievals which have not started yet and waits for the running ones to finish, so that no
+     * retrieval uses an HTTP client afterwards. Sites which have not been retrieved until then are omitted.
+     */
+    @Override
+    public void close() {
+        sites.values().forEach(site -> site.cancel(false));
+        try {
+            pendingRetrievals.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+        private final AtomicInteger threadNumber = new AtomicInteger(1);
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "javadoc-site-loader-" + threadNumber.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,458 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.http.HttpException;
+import org.apache.http.HttpHeaders;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpRequest;
+import org.apache.http.auth.AuthScope;
+import org.apache.http.auth.UsernamePasswordCredentials;
+import org.apache.http.client.CredentialsProvider;
+import org.apache.http.client.config.CookieSpecs;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.DefaultProxyRoutePlanner;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.message.BasicHeader;
+import org.apache.http.protocol.HttpContext;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Settings;
+import org.codehaus.plexus.util.StringUtils;
+
+/**
+ * Pooled HTTP client shared by all network access to javadoc sites (package/element lists, anchor lookups and link
+ * validation). One client is kept per distinct proxy configuration as long as a {@link Scope} is open, so connections
+ * (including their TLS sessions) are reused across sites and concurrently executing goals. Once the last scope has been
+ * closed, all clients are closed, which releases their connections and threads.
+ * <p>
+ * Requests are attributed to the scope opened by the current thread (or inherited from the thread which created it),
+ * which collects their {@link Scope#getStatistics() statistics}. Requests issued outside of an open scope use a
+ * dedicated client which is closed together with the response.
+ *
+ * @since 4.0.0
+ */
+public final class JavadocHttpClient {
+
+    /** The default timeout used when fetching url, i.e. 2000. */
+    static final int DEFAULT_TIMEOUT = 2000;
+
+    /** The maximum number of pooled connections per host. */
+    static final int MAX_CONNECTIONS_PER_ROUTE = 4;
+
+    /** The maximum number of pooled connections in total. */
+    static final int MAX_CONNECTIONS_TOTAL = 20;
+
+    /** Idle connections are closed after this amount of seconds. */
+    static final int IDLE_CONNECTION_TIMEOUT_SECONDS = 30;
+
+    private static final Map<ProxyKey, JavadocHttpClient> CLIENTS = new HashMap<>();
+
+    /** The number of scopes which have not been closed yet, guarded by {@link #CLIENTS}. */
+    private static int openScopes;
+
+    /** The scope requests of the current thread are attributed to. */
+    private static final InheritableThreadLocal<Scope> CURRENT_SCOPE = new InheritableThreadLocal<>();
+
+    private final CloseableHttpClient httpClient;
+
+    private JavadocHttpClient(CloseableHttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Returns the shared client for the proxy configuration of the given settings.
+     *
+     * @param settings The settings to use for setting up the client or {@code null}.
+     * @return the shared client
+     * @throws IllegalStateException if no scope is open
+     */
+    static JavadocHttpClient get(Settings settings) {
+        ProxyKey key = getProxyKey(settings);
+        synchronized (CLIENTS) {
+            if (openScopes == 0) {
+                throw new IllegalStateException("The shared HTTP clients are only available within an open scope");
+            }
+            return CLIENTS.computeIfAbsent(key, k -> new JavadocHttpClient(createHttpClient(k)));
+        }
+    }
+
+    private static ProxyKey getProxyKey(Settings settings) {
+        Proxy activeProxy = settings != null ? settings.getActiveProxy() : null;
+        if (activeProxy != null && StringUtils.isEmpty(activeProxy.getHost())) {
+            activeProxy = null;
+        }
+        return new ProxyKey(activeProxy);
+    }
+
+    /**
+     * Opens a scope in which the clients are kept open, usually the execution of a goal. The scope becomes the
+     * current scope of the calling thread and of the threads it creates. It must be closed by the calling thread once
+     * no more requests are issued.
+     *
+     * @return the scope, never {@code null}
+     */
+    public static Scope openScope() {
+        synchronized (CLIENTS) {
+            openScopes++;
+        }
+        Scope scope = new Scope(CURRENT_SCOPE.get());
+        CURRENT_SCOPE.set(scope);
+        return scope;
+    }
+
+    /**
+     * Wraps the given task, so that it is attributed to the current scope of the calling thread, no matter which
+     * thread executes it. Required for tasks executed by threads which outlive the scope, e.g. pooled ones.
+     *
+     * @param task the task
+     * @return the wrapped task
+     */
+    static Runnable withCurrentScope(Runnable task) {
+        Scope scope = CURRENT_SCOPE.get();
+        return () -> {
+            Scope previousScope = CURRENT_SCOPE.get();
+            CURRENT_SCOPE.set(scope);
+            try {
+                task.run();
+            } finally {
+                CURRENT_SCOPE.set(previousScope);
+            }
+        };
+    }
+
+    /**
+     * Executes a GET request for the given URL. The caller is responsible for closing the returned response,
+     * which releases the underlying connection back to the pool. Outside of an open scope, a dedicated client is used
+     * which is closed together with the response.
+     *
+     * @param settings The settings to use for setting up the client or {@code null}.
+     * @param url the URL to retrieve
+     * @param httpContext the context which receives the redirect locations
+     * @return the response
+     * @throws IOException in case the request could not be executed
+     */
+    static CloseableHttpResponse execute(Settings settings, URL url, HttpClientContext httpContext)
+            throws IOException {
+        Scope scope = CURRENT_SCOPE.get();
+        JavadocHttpClient client = null;
+        synchronized (CLIENTS) {
+            if (scope != null && !scope.closed) {
+                client = CLIENTS.computeIfAbsent(
+                        getProxyKey(settings), k -> new JavadocHttpClient(createHttpClient(k)));
+            }
+        }
+        if (client != null) {
+            return client.execute(url, httpContext, scope);
+        }
+
+        CloseableHttpClient dedicatedClient = createHttpClient(getProxyKey(settings));
+        boolean success = false;
+        try {
+            CloseableHttpResponse response = new JavadocHttpClient(dedicatedClient).execute(url, httpContext, null);
+            success = true;
+            return closingClient(response, dedicatedClient);
+        } finally {
+            if (!success) {
+                dedicatedClient.close();
+            }
+        }
+    }
+
+    /**
+     * @param scope the scope collecting the statistics or {@code null}
+     */
+    private CloseableHttpResponse execute(URL url, HttpClientContext httpContext, Scope scope) throws IOException {
+        final HttpGet httpMethod = new HttpGet(url.toString());
+        long start = System.nanoTime();
+        boolean success = false;
+        int requests = 1;
+        try {
+            CloseableHttpResponse response;
+            try {
+                response = httpClient.execute(httpMethod, httpContext);
+            } catch (SocketTimeoutException e) {
+                // could be a sporadic failure, one more retry before we give up
+                requests++;
+                response = httpClient.execute(httpMethod, httpContext);
+            }
+            success = true;
+            return response;
+        } finally {
+            if (scope != null) {
+                scope.record(requests, success ? requests - 1 : requests, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Returns a response which also closes the given client when being closed.
+     */
+    private static CloseableHttpResponse closingClient(CloseableHttpResponse response, CloseableHttpClient client) {
+        return (CloseableHttpResponse) java.lang.reflect.Proxy.newProxyInstance(
+                CloseableHttpResponse.class.getClassLoader(),
+                new Class<?>[] {CloseableHttpResponse.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(response, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                            client.close();
+                        }
+                    }
+                });
+    }
+
+    private static CloseableHttpClient createHttpClient(ProxyKey proxyKey) {
+        HttpClientBuilder builder = HttpClients.custom();
+
+        Registry<ConnectionSocketFactory> csfRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", PlainConnectionSocketFactory.getSocketFactory())
+                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(csfRegistry);
+        connectionManager.setDefaultMaxPerRoute(MAX_CONNECTIONS_PER_ROUTE);
+        connectionManager.setMaxTotal(MAX_CONNECTIONS_TOTAL);
+        builder.setConnectionManager(connectionManager);
+        builder.evictIdleConnections(IDLE_CONNECTION_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        builder.setDefaultRequestConfig(RequestConfig.custom()
+                .setSocketTimeout(DEFAULT_TIMEOUT)
+                .setConnectTimeout(DEFAULT_TIMEOUT)
+                .setConnectionRequestTimeout(DEFAULT_TIMEOUT)
+                .setCircularRedirectsAllowed(true)
+                .setCookieSpec(CookieSpecs.IGNORE_COOKIES)
+                .build());
+
+        // Some web servers don't allow the default user-agent sent by httpClient
+        builder.setUserAgent("Mozilla/4.0 (compatible; MSIE 6.0; Windows NT 5.0)");
+
+        // Some server reject requests that do not have an Accept header
+        builder.setDefaultHeaders(Arrays.asList(new BasicHeader(HttpHeaders.ACCEPT, "*/*")));
+
+        Proxy activeProxy = proxyKey.proxy;
+        if (activeProxy != null) {
+            HttpHost proxy = new HttpHost(activeProxy.getHost(), activeProxy.getPort());
+            final String nonProxyHosts = activeProxy.getNonProxyHosts();
+            // the proxy is determined per target host, as the client is shared among all hosts
+            builder.setRoutePlanner(new DefaultProxyRoutePlanner(proxy) {
+                @Override
+                protected HttpHost determineProxy(HttpHost target, HttpRequest request, HttpContext context)
+                        throws HttpException {
+                    if (JavadocSite.isNonProxyHost(nonProxyHosts, target.getHostName())) {
+                        return null;
+                    }
+                    return super.determineProxy(target, request, context);
+                }
+            });
+
+            if (StringUtils.isNotEmpty(activeProxy.getUsername()) && activeProxy.getPassword() != null) {
+                CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+                credentialsProvider.setCredentials(
+                        new AuthScope(proxy),
+                        new UsernamePasswordCredentials(activeProxy.getUsername(), activeProxy.getPassword()));
+                builder.setDefaultCredentialsProvider(credentialsProvider);
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * Keeps the clients open until closed. Closing a scope more than once has no effect.
+     */
+    public static final class Scope implements Closeable {
+        /** The scope which was current when this one was opened. */
+        private final Scope previous;
+
+        /** Guarded by {@link #CLIENTS}. */
+        private boolean closed;
+
+        private final AtomicLong requestCount = new AtomicLong();
+
+        private final AtomicLong failedRequestCount = new AtomicLong();
+
+        private final AtomicLong requestNanos = new AtomicLong();
+
+        private Scope(Scope previous) {
+            this.previous = previous;
+        }
+
+        private void record(int requests, int failedRequests, long nanos) {
+            requestCount.addAndGet(requests);
+            failedRequestCount.addAndGet(failedRequests);
+            requestNanos.addAndGet(nanos);
+        }
+
+        /**
+         * @return a snapshot of the statistics of the requests issued within this scope so far
+         */
+        public Statistics getStatistics() {
+            return new Statistics(requestCount.get(), failedRequestCount.get(), requestNanos.get());
+        }
+
+        /**
+         * Closes all clients if this is the last open scope.
+         *
+         * @throws IOException in case one of the clients could not be closed
+         */
+        @Override
+        public void close() throws IOException {
+            if (CURRENT_SCOPE.get() == this) {
+                CURRENT_SCOPE.set(previous);
+            }
+            List<JavadocHttpClient> clients;
+            synchronized (CLIENTS) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                if (--openScopes > 0) {
+                    return;
+                }
+                clients = new ArrayList<>(CLIENTS.values());
+                CLIENTS.clear();
+            }
+            IOException failure = null;
+            for (JavadocHttpClient client : clients) {
+                try {
+                    client.httpClient.close();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    } else {
+                        failure.addSuppressed(e);
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Identifies a proxy configuration, two clients with equal keys would be configured identically.
+     */
+    private static final class ProxyKey {
+        private final Proxy proxy;
+
+        private final List<Object> values;
+
+        ProxyKey(Proxy proxy) {
+            this.proxy = proxy;
+            if (proxy == null) {
+                this.values = null;
+            } else {
+                this.values = Arrays.asList(
+                        proxy.getHost(),
+                        proxy.getPort(),
+                        proxy.getUsername(),
+                        proxy.getPassword(),
+                        proxy.getNonProxyHosts());
+            }
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof ProxyKey)) {
+                return false;
+            }
+            return Objects.equals(values, ((ProxyKey) obj).values);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(values);
+        }
+    }
+
+    /**
+     * Immutable snapshot of the request statistics.
+     */
+    public static final class Statistics {
+        private final long requestCount;
+
+        private final long failedRequestCount;
+
+        private final long requestNanos;
+
+        Statistics(long requestCount, long failedRequestCount, long requestNanos) {
+            this.requestCount = requestCount;
+            this.failedRequestCount = failedRequestCount;
+            this.requestNanos = requestNanos;
+        }
+
+        /**
+         * @return the number of HTTP requests (including retries)
+         */
+        public long getRequestCount() {
+            return requestCount;
+        }
+
+        /**
+         * @return the number of HTTP requests which failed with an I/O error
+         */
+        public long getFailedRequestCount() {
+            return failedRequestCount;
+        }
+
+        /**
+         * @return the accumulated time spent waiting for responses in milliseconds
+         */
+        public long getRequestTimeMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(requestNanos);
+        }
+
+        @Override
+        public String toString() {
+            return requestCount + " HTTP request(s) (" + failedRequestCount + " failed) in " + getRequestTimeMillis()
+                    + " ms";
+        }
+    }
+}
@@ -23,7 +23,6 @@ import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -108,6 +107,22 @@ public class JavadocLinkGenerator {
             String internalJavadocVersion,
             List<URI> externalJavadocSiteUrls,
             Settings settings) {
+        this(
+                internalJavadocSiteUrl,
+                internalJavadocVersion,
+                ExternalJavadocSites.load(externalJavadocSiteUrls, settings));
+    }
+
+    /**
+     * Constructor for both an internal (offline) and external (online) sites which may still be loading.
+     *
+     * @param internalJavadocSiteUrl
+     * @param internalJavadocVersion
+     * @param externalJavadocSites the external sites, waits until all of them have been retrieved
+     * @since 4.0.0
+     */
+    public JavadocLinkGenerator(
+            URI internalJavadocSiteUrl, String internalJavadocVersion, ExternalJavadocSites externalJavadocSites) {
         if (internalJavadocSiteUrl != null) {
             // resolve version
             JavaVersion javadocVersion = JavaVersion.parse(internalJavadocVersion);
@@ -116,19 +131,12 @@ public class JavadocLinkGenerator {
         } else {
             internalJavadocSite = null;
         }
-        if (externalJavadocSiteUrls != null) {
-            externalJavadocSites = new ArrayList<>(externalJavadocSiteUrls.size());
-            for (URI siteUrl : externalJavadocSiteUrls) {
-                try {
-                    externalJavadocSites.add(new JavadocSite(siteUrl, settings));
-                } catch (IOException e) {
-                    LOG.warn("Could not use {} as base URL: {}", siteUrl, e.getMessage(), e);
-                }
-            }
+        if (externalJavadocSites != null) {
+            this.externalJavadocSites = externalJavadocSites.getSites();
         } else {
-            externalJavadocSites = Collections.emptyList();
+            this.externalJavadocSites = Collections.emptyList();
         }
-        if (internalJavadocSite == null && externalJavadocSites.isEmpty()) {
+        if (internalJavadocSite == null && this.externalJavadocSites.isEmpty()) {
             throw new IllegalArgumentException(
                     "Either internal or at least one accessible external javadoc " + "URLs must be given!");
         }
@@ -24,12 +24,10 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.net.MalformedURLException;
-import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.AbstractMap;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.EnumMap;
@@ -42,30 +40,10 @@ import java.util.Optional;
 import java.util.function.BiFunction;
 import java.util.regex.Pattern;
 
-import org.apache.http.HttpHeaders;
-import org.apache.http.HttpHost;
-import org.apache.http.HttpResponse;
 import org.apache.http.HttpStatus;
-import org.apache.http.auth.AuthScope;
-import org.apache.http.auth.Credentials;
-import org.apache.http.auth.UsernamePasswordCredentials;
-import org.apache.http.client.CredentialsProvider;
-import org.apache.http.client.config.CookieSpecs;
-import org.apache.http.client.config.RequestConfig;
-import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.protocol.HttpClientContext;
-import org.apache.http.config.Registry;
-import org.apache.http.config.RegistryBuilder;
-import org.apache.http.conn.socket.ConnectionSocketFactory;
-import org.apache.http.conn.socket.PlainConnectionSocketFactory;
-import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
-import org.apache.http.impl.client.BasicCredentialsProvider;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClientBuilder;
-import org.apache.http.impl.client.HttpClients;
-import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
-import org.apache.http.message.BasicHeader;
-import org.apache.maven.settings.Proxy;
+import org.apache.http.util.EntityUtils;
 import org.apache.maven.settings.Settings;
 import org.apache.maven.tools.plugin.javadoc.FullyQualifiedJavadocReference.MemberType;
 import org.codehaus.plexus.util.StringUtils;
@@ -174,30 +152,50 @@ class JavadocSite {
             final URI url,
             JavadocLinkGenerator.JavadocToolVersionRange version,
             Map<String, String> containedPackageNamesAndModules) {
+        this(url, version, containedPackageNamesAndModules, true);
+    }
+
+    /** Constructor for offline sites with a known package list, e.g. from {@link BundledJdkJavadocSites}.
+     *  The module names are only part of the generated links if {@code requireModuleNameInPath} is {@code true}. */
+    JavadocSite(
+            final URI url,
+            JavadocLinkGenerator.JavadocToolVersionRange version,
+            Map<String, String> containedPackageNamesAndModules,
+            boolean requireModuleNameInPath) {
         Objects.requireNonNull(url);
         this.baseUri = url;
         Objects.requireNonNull(version);
         this.version = version;
         this.settings = null;
         this.containedPackageNamesAndModules = containedPackageNamesAndModules;
-        this.requireModuleNameInPath = true;
+        this.requireModuleNameInPath = requireModuleNameInPath;
     }
 
     static Map<String, String> getPackageListWithModules(final URI url, final Settings settings) throws IOException {
-        Map<String, String> containedPackageNamesAndModules = new HashMap<>();
         try (BufferedReader reader = getReader(url.toURL(), settings)) {
-            String line;
-            String module = null;
-            while ((line = reader.readLine()) != null) {
-                // each line starting with "module:" contains the module name afterwards
-                if (line.startsWith(PREFIX_MODULE)) {
-                    module = line.substring(PREFIX_MODULE.length());
-                } else {
-                    containedPackageNamesAndModules.put(line, module);
-                }
+            return readPackageListWithModules(reader);
+        }
+    }
+
+    /**
+     * Parses the content of a {@code package-list} or {@code element-list} file.
+     * @param reader the reader for the file content
+     * @return the contained package names as keys and the module names (may be {@code null}) as values
+     * @throws IOException in case of read errors
+     */
+    static Map<String, String> readPackageListWithModules(final BufferedReader reader) throws IOException {
+        Map<String, String> containedPackageNamesAndModules = new HashMap<>();
+        String line;
+        String module = null;
+        while ((line = reader.readLine()) != null) {
+            // each line starting with "module:" contains the module name afterwards
+            if (line.startsWith(PREFIX_MODULE)) {
+                module = line.substring(PREFIX_MODULE.length());
+            } else {
+                containedPackageNamesAndModules.put(line, module);
             }
-            return containedPackageNamesAndModules;
         }
+        return containedPackageNamesAndModules;
     }
 
     static boolean findLineContaining(final URI url, final Settings settings, Pattern pattern) throws IOException {
@@ -469,61 +467,6 @@ class JavadocSite {
     // https://github.com/apache/maven-javadoc-plugin/blob/231316be785782b61d96783fad111325868cfa1f/src/main/java/org/apache/maven/plugins/javadoc/JavadocUtil.java
     // CHECKSTYLE_ON: LineLength
     // ---------------
-    /** The default timeout used when fetching url, i.e. 2000. */
-    public static final int DEFAULT_TIMEOUT = 2000;
-
-    /**
-     * Creates a new {@code HttpClient} instance.
-     *
-     * @param settings The settings to use for setting up the client or {@code null}.
-     * @param url The {@code URL} to use for setting up the client or {@code null}.
-     * @return A new {@code HttpClient} instance.
-     * @see #DEFAULT_TIMEOUT
-     * @since 2.8
-     */
-    private static CloseableHttpClient createHttpClient(Settings settings, URL url) {
-        HttpClientBuilder builder = HttpClients.custom();
-
-        Registry<ConnectionSocketFactory> csfRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
-                .register("http", PlainConnectionSocketFactory.getSocketFactory())
-                .register("https", SSLConnectionSocketFactory.getSystemSocketFactory())
-                .build();
-
-        builder.setConnectionManager(new PoolingHttpClientConnectionManager(csfRegistry));
-        builder.setDefaultRequestConfig(RequestConfig.custom()
-                .setSocketTimeout(DEFAULT_TIMEOUT)
-                .setConnectTimeout(DEFAULT_TIMEOUT)
-                .setCircularRedirectsAllowed(true)
-                .setCookieSpec(CookieSpecs.IGNORE_COOKIES)
-                .build());
-
-        // Some web servers don't allow the default user-agent sent by httpClient
-        builder.setUserAgent("Mozilla/4.0 (compatible; MSIE 6.0; Windows NT 5.0)");
-
-        // Some server reject requests that do not have an Accept header
-        builder.setDefaultHeaders(Arrays.asList(new BasicHeader(HttpHeaders.ACCEPT, "*/*")));
-
-        if (settings != null && settings.getActiveProxy() != null) {
-            Proxy activeProxy = settings.getActiveProxy();
-
-            if (StringUtils.isNotEmpty(activeProxy.getHost())
-                    && (url == null || !isNonProxyHost(activeProxy.getNonProxyHosts(), url.getHost()))) {
-                HttpHost proxy = new HttpHost(activeProxy.getHost(), activeProxy.getPort());
-                builder.setProxy(proxy);
-
-                if (StringUtils.isNotEmpty(activeProxy.getUsername()) && activeProxy.getPassword() != null) {
-                    Credentials credentials =
-                            new UsernamePasswordCredentials(activeProxy.getUsername(), activeProxy.getPassword());
-
-                    CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
-                    credentialsProvider.setCredentials(AuthScope.ANY, credentials);
-                    builder.setDefaultCredentialsProvider(credentialsProvider);
-                }
-            }
-        }
-        return builder.build();
-    }
-
     static BufferedReader getReader(URL url, Settings settings) throws IOException {
         BufferedReader reader = null;
 
@@ -532,35 +475,31 @@ class JavadocSite {
             reader = new BufferedReader(new InputStreamReader(url.openStream()));
         } else {
             // http, https...
-            final CloseableHttpClient httpClient = createHttpClient(settings, url);
-
-            final HttpGet httpMethod = new HttpGet(url.toString());
-
-            HttpResponse response;
-            HttpClientContext httpContext = HttpClientContext.create();
+            final HttpClientContext httpContext = HttpClientContext.create();
+            final CloseableHttpResponse response = JavadocHttpClient.execute(settings, url, httpContext);
             try {
-                response = httpClient.execute(httpMethod, httpContext);
-            } catch (SocketTimeoutException e) {
-                // could be a sporadic failure, one more retry before we give up
-                response = httpClient.execute(httpMethod, httpContext);
-            }
-
-            int status = response.getStatusLine().getStatusCode();
-            if (status != HttpStatus.SC_OK) {
-                throw new FileNotFoundException(
-                        "Unexpected HTTP status code " + status + " getting resource " + url.toExternalForm() + ".");
-            } else {
-                int pos = url.getPath().lastIndexOf('/');
-                List<URI> redirects = httpContext.getRedirectLocations();
-                if (pos >= 0 && isNotEmpty(redirects)) {
-                    URI location = redirects.get(redirects.size() - 1);
-                    String suffix = url.getPath().substring(pos);
-                    // Redirections shall point to the same file, e.g. /package-list
-                    if (!location.getPath().endsWith(suffix)) {
-                        throw new FileNotFoundException(url.toExternalForm() + " redirects to "
-                                + location.toURL().toExternalForm() + ".");
+                int status = response.getStatusLine().getStatusCode();
+                if (status != HttpStatus.SC_OK) {
+                    throw new FileNotFoundException("Unexpected HTTP status code " + status + " getting resource "
+                            + url.toExternalForm() + ".");
+                } else {
+                    int pos = url.getPath().lastIndexOf('/');
+                    List<URI> redirects = httpContext.getRedirectLocations();
+                    if (pos >= 0 && isNotEmpty(redirects)) {
+                        URI location = redirects.get(redirects.size() - 1);
+                        String suffix = url.getPath().substring(pos);
+                        // Redirections shall point to the same file, e.g. /package-list
+                        if (!location.getPath().endsWith(suffix)) {
+                            throw new FileNotFoundException(url.toExternalForm() + " redirects to "
+                                    + location.toURL().toExternalForm() + ".");
+                        }
                     }
                 }
+            } catch (IOException e) {
+                // keeps the connection alive and releases it back to the pool
+                EntityUtils.consumeQuietly(response.getEntity());
+                response.close();
+                throw e;
             }
 
             // Intentionally using the platform default encoding here since this is what Javadoc uses internally.
@@ -568,13 +507,11 @@ class JavadocSite {
                     new InputStreamReader(response.getEntity().getContent())) {
                 @Override
                 public void close() throws IOException {
-                    super.close();
-
-                    if (httpMethod != null) {
-                        httpMethod.releaseConnection();
-                    }
-                    if (httpClient != null) {
-                        httpClient.close();
+                    try {
+                        super.close();
+                    } finally {
+                        // releases the connection back to the pool (the shared client is kept open)
+                        response.close();
                     }
                 }
             };
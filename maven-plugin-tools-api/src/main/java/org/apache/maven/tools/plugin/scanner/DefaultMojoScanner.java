@@ -25,15 +25,26 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.ListIterator;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.plugin.descriptor.InvalidPluginDescriptorException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.tools.plugin.PluginToolsRequest;
 import org.apache.maven.tools.plugin.extractor.ExtractionException;
 import org.apache.maven.tools.plugin.extractor.GroupKey;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtraction;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtractionResult;
 import org.apache.maven.tools.plugin.extractor.MojoDescriptorExtractor;
 import org.apache.maven.tools.plugin.extractor.MojoDescriptorExtractorComparator;
 import org.slf4j.Logger;
@@ -85,13 +96,14 @@ public class DefaultMojoScanner implements MojoScanner {
 
         HashMap<String, Integer> groupStats = new HashMap<>();
 
-        for (MojoDescriptorExtractor extractor : orderedExtractors) {
+        List<List<MojoDescriptor>> extractorsDescriptors = executeExtractors(orderedExtractors, request);
+
+        for (int i = 0; i < orderedExtractors.size(); i++) {
+            MojoDescriptorExtractor extractor = orderedExtractors.get(i);
             GroupKey groupKey = extractor.getGroupKey();
             String extractorId = extractor.getName();
 
-            LOGGER.debug("Applying " + extractorId + " mojo extractor");
-
-            List<MojoDescriptor> extractorDescriptors = extractor.execute(request);
+            List<MojoDescriptor> extractorDescriptors = extractorsDescriptors.get(i);
 
             int extractorDescriptorsCount = extractorDescriptors.size();
 
@@ -134,6 +146,218 @@ public class DefaultMojoScanner implements MojoScanner {
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Falls back to a full extraction in case any of the active extractors does not support incremental extraction.
+     */
+    @Override
+    public void populatePluginDescriptor(PluginToolsRequest request, IncrementalExtraction extraction)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        List<MojoDescriptorExtractor> orderedExtractors = getOrderedExtractors();
+        for (MojoDescriptorExtractor extractor : orderedExtractors) {
+            if (!extractor.supportsIncrementalExtraction()) {
+                LOGGER.debug("Mojo extractor " + extractor.getName()
+                        + " does not support incremental extraction, extracting all mojos.");
+                populatePluginDescriptor(request);
+                return;
+            }
+        }
+
+        List<MojoDescriptor> descriptors = new ArrayList<>(extraction.getPreviousDescriptors());
+        for (MojoDescriptorExtractor extractor : orderedExtractors) {
+            LOGGER.debug("Applying " + extractor.getName() + " mojo extractor incrementally");
+            IncrementalExtractionResult result = extractor.execute(request, extraction);
+
+            int extractorDescriptorsCount = result.getDescriptors().size();
+            LOGGER.info(extractor.getName() + " mojo extractor extracted " + extractorDescriptorsCount
+                    + " changed mojo descriptor" + (extractorDescriptorsCount != 1 ? "s" : "") + ".");
+            merge(descriptors, result);
+        }
+
+        for (MojoDescriptor descriptor : descriptors) {
+            // the previous descriptors still refer to the previous plugin descriptor
+            descriptor.setPluginDescriptor(request.getPluginDescriptor());
+
+            LOGGER.debug("Adding mojo: " + descriptor + " to plugin descriptor.");
+
+            request.getPluginDescriptor().addMojo(descriptor);
+        }
+
+        if (descriptors.isEmpty() && !request.isSkipErrorNoDescriptorsFound()) {
+            throw new InvalidPluginDescriptorException("No mojo definitions were found for plugin: "
+                    + request.getPluginDescriptor().getPluginLookupKey() + ".");
+        }
+    }
+
+    /**
+     * Replaces the descriptors of the affected mojos in place, removes the ones without a replacement and appends
+     * the descriptors of new mojos.
+     */
+    private static void merge(List<MojoDescriptor> descriptors, IncrementalExtractionResult result) {
+        Map<String, MojoDescriptor> extracted = new LinkedHashMap<>();
+        for (MojoDescriptor descriptor : result.getDescriptors()) {
+            extracted.put(descriptor.getImplementation(), descriptor);
+        }
+        for (ListIterator<MojoDescriptor> iterator = descriptors.listIterator(); iterator.hasNext(); ) {
+            String implementation = iterator.next().getImplementation();
+            if (result.getAffectedImplementations().contains(implementation)) {
+                MojoDescriptor replacement = extracted.remove(implementation);
+                if (replacement != null) {
+                    iterator.set(replacement);
+                } else {
+                    iterator.remove();
+                }
+            }
+        }
+        descriptors.addAll(extracted.values());
+    }
+
+    /**
+     * Executes the extractors either one after another or, if {@link PluginToolsRequest#isParallelExtraction()} is
+     * enabled, concurrently. In the latter case an extractor requiring sequential execution is only started once all
+     * extractors ordered before it have finished, and the extractors ordered after it are only started afterwards.
+     * Each concurrent extractor works on its own copy of the request, whose results are merged back into the given
+     * request on the calling thread, in the order of the extractors.
+     *
+     * @return the descriptors extracted by each extractor, in the order of the given extractors
+     */
+    private List<List<MojoDescriptor>> executeExtractors(
+            List<MojoDescriptorExtractor> orderedExtractors, PluginToolsRequest request)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        List<List<MojoDescriptor>> extractorsDescriptors = new ArrayList<>(orderedExtractors.size());
+        if (!request.isParallelExtraction() || orderedExtractors.size() < 2) {
+            for (MojoDescriptorExtractor extractor : orderedExtractors) {
+                extractorsDescriptors.add(executeExtractor(extractor, request));
+            }
+            return extractorsDescriptors;
+        }
+
+        // there are only a few extractors, which usually spend most of their time reading files
+        ExecutorService executor = Executors.newFixedThreadPool(orderedExtractors.size());
+        // extractors may rely on the context class loader, e.g. to look up resources of the plugin
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            List<ConcurrentExtraction> concurrentExtractions = new ArrayList<>();
+            for (MojoDescriptorExtractor extractor : orderedExtractors) {
+                if (extractor.requiresSequentialExecution()) {
+                    awaitExtractions(concurrentExtractions, request, extractorsDescriptors);
+                    extractorsDescriptors.add(executeExtractor(extractor, request));
+                } else {
+                    ConcurrentExtraction extraction = new ConcurrentExtraction(request);
+                    extraction.result = executor.submit(() -> {
+                        Thread.currentThread().setContextClassLoader(contextClassLoader);
+                        return executeExtractor(extractor, extraction.request);
+                    });
+                    concurrentExtractions.add(extraction);
+                }
+            }
+            awaitExtractions(concurrentExtractions, request, extractorsDescriptors);
+        } finally {
+            executor.shutdownNow();
+        }
+        return extractorsDescriptors;
+    }
+
+    private static List<MojoDescriptor> executeExtractor(MojoDescriptorExtractor extractor, PluginToolsRequest request)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        LOGGER.debug("Applying " + extractor.getName() + " mojo extractor");
+        return extractor.execute(request);
+    }
+
+    /**
+     * Waits for the given extractions and adds their results in order.
+     */
+    private static void awaitExtractions(
+            List<ConcurrentExtraction> extractions,
+            PluginToolsRequest request,
+            List<List<MojoDescriptor>> extractorsDescriptors)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        try {
+            for (ConcurrentExtraction extraction : extractions) {
+                extractorsDescriptors.add(extraction.result.get());
+                extraction.mergeInto(request);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExtractionException("Interrupted while waiting for the mojo extractors", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof ExtractionException) {
+                throw (ExtractionException) cause;
+            } else if (cause instanceof InvalidPluginDescriptorException) {
+                throw (InvalidPluginDescriptorException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new ExtractionException(cause.getMessage(), cause);
+        }
+        extractions.clear();
+    }
+
+    /**
+     * An extractor running concurrently to others, together with the copy of the request it works on.
+     * {@link PluginToolsRequest} implementations are not thread-safe, so the values set by the extractor are only
+     * merged into the shared request once it has finished.
+     */
+    private static final class ConcurrentExtraction {
+        private final PluginToolsRequest request;
+
+        private final String requiredJavaVersion;
+
+        private final String usedMavenApiVersion;
+
+        private final Set<String> diBeanClassNames;
+
+        private final Set<String> sisuComponentClassNames;
+
+        private Future<List<MojoDescriptor>> result;
+
+        ConcurrentExtraction(PluginToolsRequest request) {
+            this.request = request.copy();
+            this.requiredJavaVersion = request.getRequiredJavaVersion();
+            this.usedMavenApiVersion = request.getUsedMavenApiVersion();
+            this.diBeanClassNames = copyOf(request.getDiBeanClassNames());
+            this.sisuComponentClassNames = copyOf(request.getSisuComponentClassNames());
+        }
+
+        private static Set<String> copyOf(Set<String> classNames) {
+            return classNames != null ? new LinkedHashSet<>(classNames) : null;
+        }
+
+        /**
+         * Applies the values changed by the extractor to the given request. The highest required Java version wins,
+         * for all other values the extractor ordered last wins.
+         */
+        void mergeInto(PluginToolsRequest target) {
+            String extractedJavaVersion = request.getRequiredJavaVersion();
+            if (!Objects.equals(requiredJavaVersion, extractedJavaVersion)
+                    && isHigher(extractedJavaVersion, target.getRequiredJavaVersion())) {
+                target.setRequiredJavaVersion(extractedJavaVersion);
+            }
+            if (!Objects.equals(usedMavenApiVersion, request.getUsedMavenApiVersion())) {
+                target.setUsedMavenApiVersion(request.getUsedMavenApiVersion());
+            }
+            if (!Objects.equals(diBeanClassNames, request.getDiBeanClassNames())) {
+                target.setDiBeanClassNames(request.getDiBeanClassNames());
+            }
+            if (!Objects.equals(sisuComponentClassNames, request.getSisuComponentClassNames())) {
+                target.setSisuComponentClassNames(request.getSisuComponentClassNames());
+            }
+        }
+
+        private static boolean isHigher(String version, String otherVersion) {
+            if (version == null || version.trim().isEmpty()) {
+                return false;
+            }
+            return otherVersion == null
+                    || otherVersion.trim().isEmpty()
+                    || new ComparableVersion(version).compareTo(new ComparableVersion(otherVersion)) > 0;
+        }
+    }
+
     /**
      * Returns a list of extractors sorted by {@link MojoDescriptorExtractor#getGroupKey()}s, never {@code null}.
      */
@@ -23,6 +23,7 @@ import java.util.Set;
 import org.apache.maven.plugin.descriptor.InvalidPluginDescriptorException;
 import org.apache.maven.tools.plugin.PluginToolsRequest;
 import org.apache.maven.tools.plugin.extractor.ExtractionException;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtraction;
 
 /**
  * @author jdcasey
@@ -38,6 +39,21 @@ public interface MojoScanner {
     void populatePluginDescriptor(PluginToolsRequest request)
             throws ExtractionException, InvalidPluginDescriptorException;
 
+    /**
+     * Populates the plugin descriptor with the previous mojo descriptors, of which only the ones affected by the given
+     * changes are extracted again. The default implementation ignores the previous extraction and extracts all mojos.
+     *
+     * @param request not null
+     * @param extraction the previous descriptors and the changed files, not null
+     * @throws ExtractionException if any
+     * @throws InvalidPluginDescriptorException if any
+     * @since 4.0.0
+     */
+    default void populatePluginDescriptor(PluginToolsRequest request, IncrementalExtraction extraction)
+            throws ExtractionException, InvalidPluginDescriptorException {
+        populatePluginDescriptor(request);
+    }
+
     /**
      * <p>
      * Sets the active extractors.
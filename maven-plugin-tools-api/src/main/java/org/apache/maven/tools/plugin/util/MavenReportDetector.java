@@ -0,0 +1,235 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.util;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.project.MavenProject;
+import org.apache.maven.reporting.MavenReport;
+import org.objectweb.asm.ClassReader;
+
+/**
+ * Detects whether classes implement {@link MavenReport} without loading them. Only the headers of the class files
+ * are read to walk the superclasses and interfaces, and the result is memoized for every visited class, so classes
+ * sharing the same supertypes are only read once. Class files are looked up in the given class path first and
+ * then as resources of the context class loader.
+ * <p>
+ * Jar files are kept open until {@link #close()} is called. Instances are thread-safe.
+ *
+ * @since 4.0.0
+ */
+public class MavenReportDetector implements Closeable {
+
+    private static final String MAVEN_REPORT = MavenReport.class.getName();
+
+    private final List<File> classPath;
+
+    private final Map<File, JarFile> jarFiles = new HashMap<>();
+
+    /** Whether a class is a {@link MavenReport}, by class name. */
+    private final Map<String, Boolean> mavenReports = new HashMap<>();
+
+    private int classReadCount;
+
+    private long classReadNanos;
+
+    /**
+     * @param classPath the directories and jar files to read the class files from
+     */
+    public MavenReportDetector(List<File> classPath) {
+        this.classPath = new ArrayList<>(classPath);
+    }
+
+    /**
+     * Creates a detector for the compile class path of the given project (and its execution project, if any).
+     *
+     * @param project the project, may be {@code null} to only read class files from the context class loader
+     * @return the detector, never {@code null}
+     * @throws IllegalArgumentException if the dependencies of the project have not been resolved
+     */
+    public static MavenReportDetector forProject(MavenProject project) throws IllegalArgumentException {
+        Set<String> classPathElements = new LinkedHashSet<>();
+        if (project != null) {
+            try {
+                classPathElements.addAll(project.getCompileClasspathElements());
+                if (project.getExecutionProject() != null) {
+                    classPathElements.addAll(project.getExecutionProject().getCompileClasspathElements());
+                }
+            } catch (DependencyResolutionRequiredException e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+        List<File> classPath = new ArrayList<>(classPathElements.size());
+        for (String classPathElement : classPathElements) {
+            classPath.add(new File(classPathElement));
+        }
+        return new MavenReportDetector(classPath);
+    }
+
+    /**
+     * Records whether a class is a {@link MavenReport}, e.g. as determined while generating the plugin descriptor,
+     * so its class file doesn't need to be read.
+     *
+     * @param className the fully qualified name of the class
+     * @param mavenReport {@code true} if the class implements {@link MavenReport}
+     */
+    public synchronized void setMavenReport(String className, boolean mavenReport) {
+        mavenReports.put(className, mavenReport);
+    }
+
+    /**
+     * @param className the fully qualified name of the class, not null
+     * @return {@code true} if the class implements {@link MavenReport}, {@code false} otherwise or if the class
+     * (or one of its supertypes) could not be found
+     */
+    public synchronized boolean isMavenReport(String className) {
+        Boolean result = mavenReports.get(className);
+        if (result == null) {
+            // cycles are impossible in valid class files, but must not lead to an endless recursion
+            mavenReports.put(className, Boolean.FALSE);
+            result = MAVEN_REPORT.equals(className) || isMavenReportSupertype(className);
+            mavenReports.put(className, result);
+        }
+        return result;
+    }
+
+    /**
+     * @return the number of class files looked up so far, i.e. the number of classes whose result was neither
+     * recorded nor memoized
+     */
+    public synchronized int getClassReadCount() {
+        return classReadCount;
+    }
+
+    /**
+     * @return the accumulated time spent looking up and reading class files in milliseconds
+     */
+    public synchronized long getClassReadTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(classReadNanos);
+    }
+
+    private boolean isMavenReportSupertype(String className) {
+        ClassReader classReader = readClass(className);
+        if (classReader == null) {
+            return false;
+        }
+        if (classReader.getSuperName() != null && isMavenReport(toClassName(classReader.getSuperName()))) {
+            return true;
+        }
+        for (String interfaceName : classReader.getInterfaces()) {
+            if (isMavenReport(toClassName(interfaceName))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toClassName(String internalName) {
+        return internalName.replace('/', '.');
+    }
+
+    private ClassReader readClass(String className) {
+        long start = System.nanoTime();
+        try {
+            return readClassFile(className);
+        } finally {
+            classReadCount++;
+            classReadNanos += System.nanoTime() - start;
+        }
+    }
+
+    private ClassReader readClassFile(String className) {
+        String resourceName = className.replace('.', '/') + ".class";
+        try {
+            for (File element : classPath) {
+                if (element.isDirectory()) {
+                    File classFile = new File(element, resourceName);
+                    if (classFile.isFile()) {
+                        try (InputStream input = Files.newInputStream(classFile.toPath())) {
+                            return new ClassReader(input);
+                        }
+                    }
+                } else if (element.isFile()) {
+                    JarFile jarFile = getJarFile(element);
+                    ZipEntry entry = jarFile.getEntry(resourceName);
+                    if (entry != null) {
+                        try (InputStream input = jarFile.getInputStream(entry)) {
+                            return new ClassReader(input);
+                        }
+                    }
+                }
+            }
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            if (contextClassLoader != null) {
+                try (InputStream input = contextClassLoader.getResourceAsStream(resourceName)) {
+                    if (input != null) {
+                        return new ClassReader(input);
+                    }
+                }
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read class " + className, e);
+        }
+    }
+
+    private JarFile getJarFile(File file) throws IOException {
+        JarFile jarFile = jarFiles.get(file);
+        if (jarFile == null) {
+            jarFile = new JarFile(file);
+            jarFiles.put(file, jarFile);
+        }
+        return jarFile;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        IOException failure = null;
+        for (JarFile jarFile : jarFiles.values()) {
+            try {
+                jarFile.close();
+            } catch (IOException e) {
+                if (failure == null) {
+                    failure = e;
+                } else {
+                    failure.addSuppressed(e);
+                }
+            }
+        }
+        jarFiles.clear();
+        if (failure != null) {
+            throw failure;
+        }
+    }
+}
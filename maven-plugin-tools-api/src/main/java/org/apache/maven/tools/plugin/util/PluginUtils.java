@@ -18,19 +18,14 @@
  */
 package org.apache.maven.tools.plugin.util;
 
-import java.io.File;
-import java.net.MalformedURLException;
-import java.net.URL;
-import java.net.URLClassLoader;
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Comparator;
 import java.util.List;
 
-import org.apache.maven.artifact.DependencyResolutionRequiredException;
 import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.project.MavenProject;
-import org.apache.maven.reporting.MavenReport;
 import org.codehaus.plexus.util.DirectoryScanner;
 import org.codehaus.plexus.util.FileUtils;
 import org.codehaus.plexus.util.StringUtils;
@@ -107,6 +102,7 @@ public final class PluginUtils {
      * @return <code>true</code> if the Mojo class implements <code>MavenReport</code>,
      * <code>false</code> otherwise.
      * @throws IllegalArgumentException if any
+     * @see MavenReportDetector to check multiple classes
      * @since 3.10.0
      */
     public static boolean isMavenReport(String mojoClassName, MavenProject project) throws IllegalArgumentException {
@@ -114,36 +110,10 @@ public final class PluginUtils {
             throw new IllegalArgumentException("mojo implementation should be declared");
         }
 
-        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
-        if (project != null) {
-            List<String> classPathStrings;
-            try {
-                classPathStrings = project.getCompileClasspathElements();
-                if (project.getExecutionProject() != null) {
-                    classPathStrings.addAll(project.getExecutionProject().getCompileClasspathElements());
-                }
-            } catch (DependencyResolutionRequiredException e) {
-                throw new IllegalArgumentException(e);
-            }
-
-            List<URL> urls = new ArrayList<>(classPathStrings.size());
-            for (String classPathString : classPathStrings) {
-                try {
-                    urls.add(new File(classPathString).toURL());
-                } catch (MalformedURLException e) {
-                    throw new IllegalArgumentException(e);
-                }
-            }
-
-            classLoader = new URLClassLoader(urls.toArray(new URL[urls.size()]), classLoader);
-        }
-
-        try {
-            Class<?> clazz = Class.forName(mojoClassName, false, classLoader);
-
-            return MavenReport.class.isAssignableFrom(clazz);
-        } catch (ClassNotFoundException e) {
-            return false;
+        try (MavenReportDetector detector = MavenReportDetector.forProject(project)) {
+            return detector.isMavenReport(mojoClassName);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 }
@@ -22,6 +22,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DefaultPluginToolsRequestTest {
@@ -147,4 +149,26 @@ class DefaultPluginToolsRequestTest {
 
         assertTrue(request.isExcludedScanDirectory(GENERATED_SOURCES.toFile()));
     }
+
+    @Test
+    void copyIsIndependentButSharesTheJavadocSites() {
+        PluginToolsRequest request = newRequest()
+                .setEncoding("ISO-8859-1")
+                .setRequiredJavaVersion("11")
+                .setExternalJavadocBaseUrls(Collections.singletonList(
+                        Paths.get("target", "missing-apidocs").toUri()))
+                .setDiBeanClassNames(new LinkedHashSet<>(Arrays.asList("a.Bean")));
+
+        PluginToolsRequest copy = request.copy();
+        assertEquals("ISO-8859-1", copy.getEncoding());
+        assertEquals("11", copy.getRequiredJavaVersion());
+        assertSame(request.getPluginDescriptor(), copy.getPluginDescriptor());
+        assertSame(request.getExternalJavadocSites(), copy.getExternalJavadocSites());
+
+        copy.setRequiredJavaVersion("17");
+        copy.getDiBeanClassNames().add("b.Bean");
+        assertEquals("11", request.getRequiredJavaVersion());
+        assertEquals(Collections.singleton("a.Bean"), request.getDiBeanClassNames());
+        request.getExternalJavadocSites().close();
+    }
 }
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.function.Consumer;
+
+import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
+import org.codehaus.plexus.util.xml.XMLWriter;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.junit.jupiter.api.Test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactPluginDescriptorTest {
+
+    @Test
+    void readsSameTreeAsXml() throws Exception {
+        Consumer<XMLWriter> content = w -> {
+            w.writeMarkup("\n<!-- Generated -->\n\n");
+            w.startElement("plugin");
+            w.addAttribute("xmlns", "http://maven.apache.org/PLUGIN/2.0.0");
+            element(w, "name", "Test Plugin");
+            element(w, "description", "  <p>Description with &amp; special characters ä€</p>  ");
+            w.startElement("empty");
+            w.endElement();
+            element(w, "blank", " ");
+            w.startElement("mojos");
+            writeMojo(w, "first");
+            writeMojo(w, "second");
+            w.endElement();
+            w.endElement();
+        };
+
+        StringWriter xml = new StringWriter();
+        content.accept(new PrettyPrintXMLWriter(xml));
+        Xpp3Dom expected = Xpp3DomBuilder.build(new StringReader(xml.toString()));
+
+        assertEquals(expected, readCompact(content));
+    }
+
+    @Test
+    void sizeWithManyMojos() throws Exception {
+        Consumer<XMLWriter> content = w -> {
+            w.startElement("plugin");
+            w.startElement("mojos");
+            for (int i = 0; i < 300; i++) {
+                writeMojo(w, "goal" + i);
+            }
+            w.endElement();
+            w.endElement();
+        };
+        StringWriter xml = new StringWriter();
+        content.accept(new PrettyPrintXMLWriter(xml));
+        ByteArrayOutputStream compact = new ByteArrayOutputStream();
+        try (CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(compact)) {
+            content.accept(w);
+        }
+
+        // the repeated element names, types and expressions are only stored once
+        assertTrue(
+                compact.size() * 4 < xml.toString().length(),
+                "compact size " + compact.size() + " vs. XML size " + xml.toString().length());
+        assertEquals(
+                Xpp3DomBuilder.build(new StringReader(xml.toString())),
+                CompactPluginDescriptorReader.read(new ByteArrayInputStream(compact.toByteArray())));
+    }
+
+    @Test
+    void invalidInput() {
+        assertThrows(
+                IOException.class,
+                () -> CompactPluginDescriptorReader.read(new ByteArrayInputStream("<plugin/>".getBytes(UTF_8))));
+
+        ByteArrayOutputStream truncated = new ByteArrayOutputStream();
+        CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(truncated);
+        w.startElement("plugin");
+        w.endElement();
+        // not closed, therefore no end of document
+        assertThrows(
+                IOException.class,
+                () -> CompactPluginDescriptorReader.read(new ByteArrayInputStream(truncated.toByteArray())));
+    }
+
+    @Test
+    void nullValuesAreRejected() throws IOException {
+        try (CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(new ByteArrayOutputStream())) {
+            w.startElement("plugin");
+            assertThrows(IllegalArgumentException.class, () -> w.addAttribute("implementation", null));
+            assertThrows(IllegalArgumentException.class, () -> w.writeText(null));
+            assertThrows(IllegalArgumentException.class, () -> w.startElement(null));
+            w.endElement();
+        }
+    }
+
+    private static Xpp3Dom readCompact(Consumer<XMLWriter> content) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(output)) {
+            content.accept(w);
+        }
+        return CompactPluginDescriptorReader.read(new ByteArrayInputStream(output.toByteArray()));
+    }
+
+    private static void writeMojo(XMLWriter w, String goal) {
+        w.startElement("mojo");
+        element(w, "goal", goal);
+        element(w, "implementation", "org.example.plugin." + goal + "Mojo");
+        element(w, "phase", "process-classes");
+        w.startElement("parameters");
+        for (int i = 0; i < 10; i++) {
+            w.startElement("parameter");
+            element(w, "name", "parameter" + i);
+            element(w, "type", "java.util.List<java.lang.String>");
+            element(w, "required", "false");
+            element(w, "editable", "true");
+            element(w, "description", "The parameter with a description which is the same for all goals.");
+            w.endElement();
+        }
+        w.endElement();
+        w.startElement("configuration");
+        w.startElement("project");
+        w.addAttribute("implementation", "org.apache.maven.project.MavenProject");
+        w.addAttribute("default-value", "${project}");
+        w.endElement();
+        w.endElement();
+        w.endElement();
+    }
+
+    private static void element(XMLWriter w, String name, String text) {
+        w.startElement(name);
+        w.writeText(text);
+        w.endElement();
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.descriptor;
+
+import org.apache.maven.project.MavenProject;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class PublishedEnhancedPluginDescriptorTest {
+
+    @Test
+    void publishAndGet() {
+        MavenProject project = new MavenProject();
+        assertNull(PublishedEnhancedPluginDescriptor.get(project));
+
+        byte[] descriptor = new byte[] {1, 2, 3};
+        PublishedEnhancedPluginDescriptor.publish(project, descriptor);
+        assertSame(descriptor, PublishedEnhancedPluginDescriptor.get(project));
+    }
+
+    @Test
+    void getFromExecutionProject() {
+        MavenProject project = new MavenProject();
+        MavenProject executionProject = new MavenProject();
+        project.setExecutionProject(executionProject);
+
+        byte[] descriptor = new byte[] {1, 2, 3};
+        PublishedEnhancedPluginDescriptor.publish(executionProject, descriptor);
+        assertSame(descriptor, PublishedEnhancedPluginDescriptor.get(project));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.apache.maven.tools.plugin.javadoc.FullyQualifiedJavadocReference.MemberType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the bundled JDK package lists. Doesn't require internet connectivity.
+ */
+class BundledJdkJavadocSitesTest {
+
+    @Test
+    void jdk8SiteWithoutModules() {
+        URI baseUri = URI.create("https://docs.oracle.com/javase/8/docs/api/");
+        JavadocSite site = BundledJdkJavadocSites.getSite(baseUri).get();
+        assertTrue(site.hasEntryFor(Optional.empty(), Optional.of("java.util.function")));
+        assertFalse(site.hasEntryFor(Optional.empty(), Optional.of("java.net.http")));
+        assertEquals(baseUri.resolve("java/lang/String.html"), site.createLink("java.lang", "String"));
+        assertEquals(
+                baseUri.resolve("java/lang/String.html#valueOf-char:A-"),
+                site.createLink(new FullyQualifiedJavadocReference(
+                        "java.lang", "String", "valueOf(char[])", MemberType.METHOD, true)));
+    }
+
+    @Test
+    void jdk17SiteWithModules() {
+        URI baseUri = URI.create("https://docs.oracle.com/en/java/javase/17/docs/api/");
+        JavadocSite site = BundledJdkJavadocSites.getSite(baseUri).get();
+        assertTrue(site.hasEntryFor(Optional.of("java.net.http"), Optional.of("java.net.http")));
+        assertFalse(site.hasEntryFor(Optional.empty(), Optional.of("sun.misc")));
+        assertEquals(baseUri.resolve("java.base/java/lang/String.html"), site.createLink("java.lang", "String"));
+    }
+
+    @Test
+    void urlsAreNormalized() {
+        assertTrue(BundledJdkJavadocSites.getSite(URI.create("http://docs.oracle.com/en/java/javase/11/docs/api"))
+                .isPresent());
+        assertFalse(BundledJdkJavadocSites.getSite(URI.create("https://docs.oracle.com/en/java/javase/11/docs/"))
+                .isPresent());
+        assertFalse(BundledJdkJavadocSites.getSite(URI.create("https://example.com/javase/8/docs/api/"))
+                .isPresent());
+    }
+
+    @Test
+    void linkGeneratorUsesBundledSite() {
+        URI baseUri = URI.create("https://docs.oracle.com/en/java/javase/21/docs/api/");
+        // settings are not necessary as no network access happens
+        JavadocLinkGenerator linkGenerator = new JavadocLinkGenerator(Collections.singletonList(baseUri), null);
+        assertEquals(
+                baseUri.resolve("java.base/java/util/Map.Entry.html"),
+                linkGenerator.createLink("java.util.Map$Entry"));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ExternalJavadocSitesTest {
+
+    @Test
+    void loadAsyncOmitsInaccessibleSites() throws Exception {
+        URI accessibleSite = getClass().getResource("/javadoc/jdk11/").toURI();
+        URI inaccessibleSite = getClass().getResource("/javadoc/").toURI().resolve("nonexisting/");
+        List<URI> baseUrls = Arrays.asList(inaccessibleSite, accessibleSite);
+        ExternalJavadocSites sites = ExternalJavadocSites.loadAsync(baseUrls, null);
+        assertEquals(baseUrls, sites.getBaseUrls());
+        List<JavadocSite> accessibleSites = sites.getSites();
+        assertEquals(1, accessibleSites.size());
+        assertEquals(accessibleSite, accessibleSites.get(0).getBaseUri());
+        // subsequent calls return the same sites
+        assertEquals(accessibleSites, sites.getSites());
+    }
+
+    @Test
+    void closeStopsRetrievals() throws Exception {
+        URI accessibleSite = getClass().getResource("/javadoc/jdk11/").toURI();
+        ExternalJavadocSites sites = ExternalJavadocSites.loadAsync(Arrays.asList(accessibleSite), null);
+        sites.close();
+        // the retrieval has either finished or has been skipped, so this does not block
+        List<JavadocSite> accessibleSites = sites.getSites();
+        assertTrue(accessibleSites.size() <= 1);
+        assertEquals(Arrays.asList(accessibleSite), sites.getBaseUrls());
+    }
+
+    @Test
+    void loadIsEquivalentToLoadAsync() throws Exception {
+        URI accessibleSite = getClass().getResource("/javadoc/jdk11/").toURI();
+        JavadocLinkGenerator linkGenerator = new JavadocLinkGenerator(
+                null, null, ExternalJavadocSites.load(Arrays.asList(accessibleSite), null));
+        assertTrue(linkGenerator
+                .createLink("org.apache.maven.tools.plugin.extractor.annotations.converter.test.CurrentClass")
+                .toString()
+                .startsWith(accessibleSite.toString()));
+    }
+}
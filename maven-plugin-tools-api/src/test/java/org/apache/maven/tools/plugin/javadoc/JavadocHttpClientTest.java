@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.javadoc;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+
+import com.sun.net.httpserver.HttpServer;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.maven.settings.Proxy;
+import org.apache.maven.settings.Settings;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JavadocHttpClientTest {
+
+    @Test
+    void clientIsSharedPerProxyConfiguration() throws IOException {
+        try (JavadocHttpClient.Scope scope = JavadocHttpClient.openScope()) {
+            assertSame(JavadocHttpClient.get(null), JavadocHttpClient.get(new Settings()));
+
+            Settings settings1 = createSettingsWithProxy("proxy.example.com", 8080);
+            Settings settings2 = createSettingsWithProxy("proxy.example.com", 8080);
+            assertSame(JavadocHttpClient.get(settings1), JavadocHttpClient.get(settings2));
+            assertNotSame(JavadocHttpClient.get(null), JavadocHttpClient.get(settings1));
+            assertNotSame(
+                    JavadocHttpClient.get(settings1),
+                    JavadocHttpClient.get(createSettingsWithProxy("proxy.example.com", 3128)));
+        }
+    }
+
+    @Test
+    void sharedClientRequiresOpenScope() {
+        assertThrows(IllegalStateException.class, () -> JavadocHttpClient.get(null));
+    }
+
+    @Test
+    void clientsAreClosedWithLastScope() throws IOException {
+        JavadocHttpClient.Scope outerScope = JavadocHttpClient.openScope();
+        JavadocHttpClient client = JavadocHttpClient.get(null);
+        JavadocHttpClient.Scope innerScope = JavadocHttpClient.openScope();
+        assertSame(client, JavadocHttpClient.get(null));
+        innerScope.close();
+        // closing the same scope again must not close the clients of the outer scope
+        innerScope.close();
+        assertSame(client, JavadocHttpClient.get(null));
+        outerScope.close();
+        assertThrows(IllegalStateException.class, () -> JavadocHttpClient.get(null));
+    }
+
+    @Test
+    void statisticsAreCollectedPerScope() throws Exception {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            URL url = new URL("http://localhost:" + server.getAddress().getPort() + "/package-list");
+            try (JavadocHttpClient.Scope outerScope = JavadocHttpClient.openScope()) {
+                request(url);
+                try (JavadocHttpClient.Scope innerScope = JavadocHttpClient.openScope()) {
+                    request(url);
+                    request(url);
+                    assertEquals(2, innerScope.getStatistics().getRequestCount());
+                }
+                // a task submitted to a thread which outlives the scope is attributed to the submitting scope
+                Thread thread = new Thread(JavadocHttpClient.withCurrentScope(() -> {
+                    try {
+                        request(url);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }));
+                thread.start();
+                thread.join();
+                assertEquals(2, outerScope.getStatistics().getRequestCount());
+                assertEquals(0, outerScope.getStatistics().getFailedRequestCount());
+            }
+            // outside of a scope a dedicated client is used and closed together with the response
+            request(url);
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void statisticsToString() {
+        JavadocHttpClient.Statistics statistics = new JavadocHttpClient.Statistics(7, 1, 10_000_000L);
+        assertEquals(10, statistics.getRequestTimeMillis());
+        assertEquals("7 HTTP request(s) (1 failed) in 10 ms", statistics.toString());
+    }
+
+    private static void request(URL url) throws IOException {
+        try (CloseableHttpResponse response = JavadocHttpClient.execute(null, url, HttpClientContext.create())) {
+            assertEquals(200, response.getStatusLine().getStatusCode());
+        }
+    }
+
+    private static Settings createSettingsWithProxy(String host, int port) {
+        Proxy proxy = new Proxy();
+        proxy.setActive(true);
+        proxy.setHost(host);
+        proxy.setPort(port);
+        Settings settings = new Settings();
+        settings.addProxy(proxy);
+        return settings;
+    }
+}
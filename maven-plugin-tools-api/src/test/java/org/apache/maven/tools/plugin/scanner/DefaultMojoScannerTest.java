@@ -27,7 +27,11 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
+import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.model.Build;
 import org.apache.maven.model.Model;
 import org.apache.maven.plugin.descriptor.InvalidPluginDescriptorException;
@@ -35,7 +39,11 @@ import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.tools.plugin.DefaultPluginToolsRequest;
+import org.apache.maven.tools.plugin.PluginToolsRequest;
 import org.apache.maven.tools.plugin.extractor.ExtractionException;
+import org.apache.maven.tools.plugin.extractor.GroupKey;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtraction;
+import org.apache.maven.tools.plugin.extractor.IncrementalExtractionResult;
 import org.apache.maven.tools.plugin.extractor.MojoDescriptorExtractor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -146,6 +154,158 @@ class DefaultMojoScannerTest {
         checkResult(pluginDescriptor, Collections.emptySet());
     }
 
+    @Test
+    void parallelExtractors() throws Exception {
+        // both concurrent extractors wait for each other, which only succeeds if they are executed concurrently
+        CountDownLatch concurrent = new CountDownLatch(2);
+        Map<String, MojoDescriptorExtractor> extractors = new HashMap<>();
+        extractors.put("sequential", new ConcurrencyTestExtractor("sequential", 3, null));
+        extractors.put("second", new ConcurrencyTestExtractor("second", 2, concurrent));
+        extractors.put("first", new ConcurrencyTestExtractor("first", 1, concurrent));
+        extractors.put("last", new ConcurrencyTestExtractor("last", 4, null));
+
+        PluginDescriptor pluginDescriptor = createPluginDescriptor();
+        new DefaultMojoScanner(extractors)
+                .populatePluginDescriptor(
+                        new DefaultPluginToolsRequest(project, pluginDescriptor).setParallelExtraction(true));
+
+        // added in the order of the extractors
+        assertEquals(
+                Arrays.asList("first", "second", "sequential", "last"),
+                pluginDescriptor.getMojos().stream().map(MojoDescriptor::getGoal).collect(Collectors.toList()));
+    }
+
+    @Test
+    void parallelExtractorsSettingRequiredJavaVersion() throws Exception {
+        CountDownLatch concurrent = new CountDownLatch(2);
+        Map<String, MojoDescriptorExtractor> extractors = new HashMap<>();
+        extractors.put("first", new RequiredJavaVersionTestExtractor("first", 1, concurrent, "11"));
+        extractors.put("second", new RequiredJavaVersionTestExtractor("second", 2, concurrent, "1.8"));
+        String[] visibleToSequential = new String[2];
+        extractors.put("sequential", new ConcurrencyTestExtractor("sequential", 3, null) {
+            @Override
+            public List<MojoDescriptor> execute(PluginToolsRequest request) throws ExtractionException {
+                visibleToSequential[0] = request.getRequiredJavaVersion();
+                visibleToSequential[1] = request.getUsedMavenApiVersion();
+                return super.execute(request);
+            }
+        });
+
+        DefaultPluginToolsRequest request = new DefaultPluginToolsRequest(project, createPluginDescriptor());
+        request.setParallelExtraction(true);
+        new DefaultMojoScanner(extractors).populatePluginDescriptor(request);
+
+        // the highest required Java version wins, other values are applied in the order of the extractors
+        assertEquals("11", request.getRequiredJavaVersion());
+        assertEquals("second", request.getUsedMavenApiVersion());
+        // the results of the concurrent extractors are merged before a sequential extractor starts
+        assertEquals("11", visibleToSequential[0]);
+        assertEquals("second", visibleToSequential[1]);
+    }
+
+    @Test
+    void parallelExtractorFailure() {
+        Map<String, MojoDescriptorExtractor> extractors = new HashMap<>();
+        extractors.put("one", new ScannerTestExtractor("one"));
+        extractors.put("failing", new ConcurrencyTestExtractor("failing", 1, new CountDownLatch(2)) {
+            @Override
+            public List<MojoDescriptor> execute(PluginToolsRequest request) throws ExtractionException {
+                throw new ExtractionException("failure");
+            }
+        });
+
+        DefaultPluginToolsRequest request = new DefaultPluginToolsRequest(project, createPluginDescriptor());
+        request.setParallelExtraction(true);
+        try {
+            new DefaultMojoScanner(extractors).populatePluginDescriptor(request);
+            fail("Expected exception");
+        } catch (ExtractionException | InvalidPluginDescriptorException e) {
+            assertEquals("failure", e.getMessage());
+        }
+    }
+
+    @Test
+    void incrementalExtraction() throws Exception {
+        Map<String, MojoDescriptorExtractor> extractors = new HashMap<>();
+        extractors.put("incremental", new ScannerTestExtractor("incremental") {
+            @Override
+            public boolean supportsIncrementalExtraction() {
+                return true;
+            }
+
+            @Override
+            public IncrementalExtractionResult execute(PluginToolsRequest request, IncrementalExtraction extraction) {
+                assertEquals(Collections.singleton(new File("A.class")), extraction.getChangedFiles());
+                // a changed, c removed and d added
+                return new IncrementalExtractionResult(
+                        new HashSet<>(Arrays.asList("A", "C", "D")),
+                        Arrays.asList(createMojoDescriptor("d", "D"), createMojoDescriptor("a2", "A")));
+            }
+        });
+
+        PluginDescriptor pluginDescriptor = createPluginDescriptor();
+        IncrementalExtraction extraction = new IncrementalExtraction(
+                Arrays.asList(
+                        createMojoDescriptor("a", "A"), createMojoDescriptor("b", "B"), createMojoDescriptor("c", "C")),
+                Collections.singleton(new File("A.class")),
+                Collections.emptySet(),
+                Collections.emptySet());
+        new DefaultMojoScanner(extractors)
+                .populatePluginDescriptor(new DefaultPluginToolsRequest(project, pluginDescriptor), extraction);
+
+        // replaced in place, new ones appended
+        assertEquals(
+                Arrays.asList("a2", "b", "d"),
+                pluginDescriptor.getMojos().stream().map(MojoDescriptor::getGoal).collect(Collectors.toList()));
+        checkResult(pluginDescriptor, Arrays.asList("a2", "b", "d"));
+    }
+
+    @Test
+    void incrementalExtractionUnsupported() throws Exception {
+        PluginDescriptor pluginDescriptor = createPluginDescriptor();
+        IncrementalExtraction extraction = new IncrementalExtraction(
+                Collections.singletonList(createMojoDescriptor("previous", "Previous")),
+                Collections.emptySet(),
+                Collections.emptySet(),
+                Collections.emptySet());
+
+        scanner.populatePluginDescriptor(new DefaultPluginToolsRequest(project, pluginDescriptor), extraction);
+
+        // all mojos extracted from scratch
+        checkResult(pluginDescriptor, extractors.keySet());
+    }
+
+    @Test
+    void incrementalExtractionFallsBackToFullExtraction() throws Exception {
+        MojoDescriptorExtractor extractor = new ScannerTestExtractor("full") {
+            @Override
+            public List<MojoDescriptor> execute(PluginToolsRequest request) {
+                return Collections.singletonList(createMojoDescriptor("full", "Full"));
+            }
+        };
+        IncrementalExtraction extraction = new IncrementalExtraction(
+                Collections.singletonList(createMojoDescriptor("previous", "Previous")),
+                Collections.emptySet(),
+                Collections.emptySet(),
+                Collections.emptySet());
+
+        IncrementalExtractionResult result =
+                extractor.execute(new DefaultPluginToolsRequest(project, createPluginDescriptor()), extraction);
+
+        // all previous mojos are replaced by the extracted ones
+        assertEquals(new HashSet<>(Arrays.asList("Previous", "Full")), result.getAffectedImplementations());
+        assertEquals(
+                Collections.singletonList("full"),
+                result.getDescriptors().stream().map(MojoDescriptor::getGoal).collect(Collectors.toList()));
+    }
+
+    private static MojoDescriptor createMojoDescriptor(String goal, String implementation) {
+        MojoDescriptor descriptor = new MojoDescriptor();
+        descriptor.setGoal(goal);
+        descriptor.setImplementation(implementation);
+        return descriptor;
+    }
+
     private PluginDescriptor createPluginDescriptor() {
         PluginDescriptor pluginDescriptor = new PluginDescriptor();
         pluginDescriptor.setGroupId("groupId");
@@ -178,4 +338,99 @@ class DefaultMojoScannerTest {
 
         assertEquals(0, remainingGoals.size(), "Expected goals missing from PluginDescriptor: " + remainingGoals);
     }
+
+    /**
+     * Extractor which waits for the given latch to verify concurrent execution or, if there is no latch, requires
+     * sequential execution and verifies that no extractor is running concurrently.
+     */
+    private static class ConcurrencyTestExtractor implements MojoDescriptorExtractor {
+        private static int running;
+
+        private final String goal;
+
+        private final GroupKey groupKey;
+
+        private final CountDownLatch concurrent;
+
+        ConcurrencyTestExtractor(String goal, int order, CountDownLatch concurrent) {
+            this.goal = goal;
+            this.groupKey = new GroupKey("test", order);
+            this.concurrent = concurrent;
+        }
+
+        @Override
+        public String getName() {
+            return goal;
+        }
+
+        @Override
+        public boolean isDeprecated() {
+            return false;
+        }
+
+        @Override
+        public GroupKey getGroupKey() {
+            return groupKey;
+        }
+
+        @Override
+        public boolean requiresSequentialExecution() {
+            return concurrent == null;
+        }
+
+        @Override
+        public List<MojoDescriptor> execute(PluginToolsRequest request) throws ExtractionException {
+            synchronized (ConcurrencyTestExtractor.class) {
+                running++;
+                if (concurrent == null && running > 1) {
+                    throw new ExtractionException("Sequential extractor " + goal + " executed concurrently");
+                }
+            }
+            try {
+                if (concurrent != null) {
+                    concurrent.countDown();
+                    if (!concurrent.await(10, TimeUnit.SECONDS)) {
+                        throw new ExtractionException("Extractor " + goal + " not executed concurrently");
+                    }
+                }
+            } catch (InterruptedException e) {
+                throw new ExtractionException("Interrupted", e);
+            } finally {
+                synchronized (ConcurrencyTestExtractor.class) {
+                    running--;
+                }
+            }
+            MojoDescriptor desc = new MojoDescriptor();
+            desc.setPluginDescriptor(request.getPluginDescriptor());
+            desc.setGoal(goal);
+            return Collections.singletonList(desc);
+        }
+    }
+
+    /**
+     * Extractor raising the required Java version of the request like the Java annotations extractor, only once all
+     * concurrent extractors have read it.
+     */
+    private static class RequiredJavaVersionTestExtractor extends ConcurrencyTestExtractor {
+        private final String requiredJavaVersion;
+
+        RequiredJavaVersionTestExtractor(
+                String goal, int order, CountDownLatch concurrent, String requiredJavaVersion) {
+            super(goal, order, concurrent);
+            this.requiredJavaVersion = requiredJavaVersion;
+        }
+
+        @Override
+        public List<MojoDescriptor> execute(PluginToolsRequest request) throws ExtractionException {
+            String previousJavaVersion = request.getRequiredJavaVersion();
+            List<MojoDescriptor> descriptors = super.execute(request);
+            if (previousJavaVersion == null
+                    || new ComparableVersion(requiredJavaVersion).compareTo(new ComparableVersion(previousJavaVersion))
+                            > 0) {
+                request.setRequiredJavaVersion(requiredJavaVersion);
+            }
+            request.setUsedMavenApiVersion(getName());
+            return descriptors;
+        }
+    }
 }
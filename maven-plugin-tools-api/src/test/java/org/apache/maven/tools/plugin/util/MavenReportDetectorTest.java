@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.util;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.apache.maven.reporting.AbstractMavenReport;
+import org.apache.maven.reporting.MavenReport;
+import org.apache.maven.tools.plugin.util.stubs.MavenReportStub;
+import org.apache.maven.tools.plugin.util.stubs.MojoStub;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MavenReportDetectorTest {
+    @Test
+    void classPath() throws Exception {
+        File testClasses = new File(MavenReportStub.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation()
+                .toURI());
+        File reportingImplJar = new File(AbstractMavenReport.class
+                .getProtectionDomain()
+                .getCodeSource()
+                .getLocation()
+                .toURI());
+
+        try (MavenReportDetector detector = new MavenReportDetector(Arrays.asList(testClasses, reportingImplJar))) {
+            assertTrue(detector.isMavenReport(MavenReportStub.class.getName()));
+            assertTrue(detector.isMavenReport(AbstractMavenReport.class.getName()));
+            assertTrue(detector.isMavenReport(MavenReport.class.getName()));
+            assertFalse(detector.isMavenReport(MojoStub.class.getName()));
+            assertFalse(detector.isMavenReport("org.example.Unknown"));
+        }
+    }
+
+    @Test
+    void contextClassLoader() throws Exception {
+        try (MavenReportDetector detector = new MavenReportDetector(Collections.emptyList())) {
+            assertTrue(detector.isMavenReport(MavenReportStub.class.getName()));
+            assertFalse(detector.isMavenReport(MojoStub.class.getName()));
+            int classReadCount = detector.getClassReadCount();
+            assertTrue(classReadCount > 0);
+            // memoized
+            assertTrue(detector.isMavenReport(MavenReportStub.class.getName()));
+            assertEquals(classReadCount, detector.getClassReadCount());
+        }
+    }
+
+    @Test
+    void recordedResult() throws Exception {
+        try (MavenReportDetector detector = new MavenReportDetector(Collections.emptyList())) {
+            detector.setMavenReport(MojoStub.class.getName(), true);
+            assertTrue(detector.isMavenReport(MojoStub.class.getName()));
+            assertEquals(0, detector.getClassReadCount());
+        }
+    }
+}
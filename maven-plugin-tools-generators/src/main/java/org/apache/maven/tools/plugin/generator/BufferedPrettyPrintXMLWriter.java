@@ -0,0 +1,294 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
+import org.codehaus.plexus.util.xml.XMLWriter;
+
+/**
+ * {@link XMLWriter} producing exactly the same output as {@link PrettyPrintXMLWriter} with its default indentation
+ * and line separator. In contrast to the latter it escapes each value in a single pass (instead of one regular
+ * expression per escaped character) and collects the output in a character buffer, which is only handed over to
+ * the underlying writer once full.
+ * <p>
+ * I/O errors are propagated as {@link UncheckedIOException} as {@link XMLWriter} does not allow checked exceptions.
+ *
+ * @since 4.0.0
+ */
+final class BufferedPrettyPrintXMLWriter implements XMLWriter {
+
+    private static final String LINE_INDENTER = "  ";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private final Writer writer;
+
+    private final char[] buffer = new char[8192];
+
+    private int position;
+
+    private final Deque<String> elementStack = new ArrayDeque<>();
+
+    private boolean tagInProgress;
+
+    private int depth;
+
+    private boolean readyForNewLine;
+
+    private boolean tagIsEmpty;
+
+    /**
+     * @param writer the writer to write to, only flushed by {@link #flush()}
+     * @param encoding the encoding to declare in the XML header, may be {@code null} to omit the header
+     */
+    BufferedPrettyPrintXMLWriter(Writer writer, String encoding) {
+        this.writer = writer;
+        if (encoding != null) {
+            write("<?xml version=\"1.0\" encoding=\"");
+            write(encoding);
+            write("\"?>");
+            endOfLine();
+        }
+    }
+
+    @Override
+    public void startElement(String name) {
+        tagIsEmpty = false;
+        finishTag();
+        write('<');
+        write(name);
+        elementStack.push(name);
+        tagInProgress = true;
+        depth++;
+        readyForNewLine = true;
+        tagIsEmpty = true;
+    }
+
+    @Override
+    public void addAttribute(String key, String value) {
+        write(' ');
+        write(key);
+        write("=\"");
+        writeEscapedAttribute(value);
+        write('"');
+    }
+
+    @Override
+    public void writeText(String text) {
+        readyForNewLine = false;
+        tagIsEmpty = false;
+        finishTag();
+        writeEscapedText(text, true);
+    }
+
+    @Override
+    public void writeMarkup(String text) {
+        readyForNewLine = false;
+        tagIsEmpty = false;
+        finishTag();
+        writeEscapedText(text, false);
+    }
+
+    @Override
+    public void endElement() {
+        depth--;
+        if (tagIsEmpty) {
+            write('/');
+            readyForNewLine = false;
+            finishTag();
+            elementStack.pop();
+        } else {
+            finishTag();
+            write("</");
+            write(elementStack.pop());
+            write('>');
+        }
+        readyForNewLine = true;
+    }
+
+    /**
+     * Writes the buffered output to the underlying writer and flushes it.
+     *
+     * @throws IOException in case the underlying writer could not be written
+     */
+    void flush() throws IOException {
+        writer.write(buffer, 0, position);
+        position = 0;
+        writer.flush();
+    }
+
+    private void finishTag() {
+        if (tagInProgress) {
+            write('>');
+        }
+        tagInProgress = false;
+        if (readyForNewLine) {
+            endOfLine();
+        }
+        readyForNewLine = false;
+        tagIsEmpty = false;
+    }
+
+    private void endOfLine() {
+        write(LINE_SEPARATOR);
+        for (int i = 0; i < depth; i++) {
+            write(LINE_INDENTER);
+        }
+    }
+
+    /**
+     * Escapes like {@code PrettyPrintXMLWriter}: the XML special characters are replaced by entities (only if
+     * {@code escape} is set), illegal control characters are dropped (only if {@code escape} is set) and all line
+     * breaks are replaced by the line separator.
+     */
+    private void writeEscapedText(String text, boolean escape) {
+        boolean pendingCarriageReturn = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (escape && isIllegalControlCharacter(c)) {
+                continue;
+            }
+            if (c == '\r') {
+                if (pendingCarriageReturn) {
+                    write(LINE_SEPARATOR);
+                }
+                pendingCarriageReturn = true;
+                continue;
+            }
+            if (c == '\n') {
+                // both a single line feed and a carriage return followed by a line feed
+                write(LINE_SEPARATOR);
+                pendingCarriageReturn = false;
+                continue;
+            }
+            if (pendingCarriageReturn) {
+                write(LINE_SEPARATOR);
+                pendingCarriageReturn = false;
+            }
+            if (escape) {
+                writeEscaped(c);
+            } else {
+                write(c);
+            }
+        }
+        if (pendingCarriageReturn) {
+            write(LINE_SEPARATOR);
+        }
+    }
+
+    /**
+     * Escapes like {@code PrettyPrintXMLWriter}: the XML special characters are replaced by entities, illegal control
+     * characters are dropped, a carriage return followed by a line feed is replaced by {@code &#10;} and all other
+     * control characters are replaced by their numeric character reference.
+     */
+    private void writeEscapedAttribute(String value) {
+        boolean pendingCarriageReturn = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (isIllegalControlCharacter(c)) {
+                continue;
+            }
+            if (c == '\r') {
+                if (pendingCarriageReturn) {
+                    write("&#13;");
+                }
+                pendingCarriageReturn = true;
+                continue;
+            }
+            // a pending carriage return followed by a line feed is replaced together with it
+            if (pendingCarriageReturn && c != '\n') {
+                write("&#13;");
+            }
+            pendingCarriageReturn = false;
+            if (c < 0x20) {
+                write("&#");
+                write(Integer.toString(c));
+                write(';');
+            } else {
+                writeEscaped(c);
+            }
+        }
+        if (pendingCarriageReturn) {
+            write("&#13;");
+        }
+    }
+
+    private void writeEscaped(char c) {
+        switch (c) {
+            case '&':
+                write("&amp;");
+                break;
+            case '<':
+                write("&lt;");
+                break;
+            case '>':
+                write("&gt;");
+                break;
+            case '"':
+                write("&quot;");
+                break;
+            case '\'':
+                write("&apos;");
+                break;
+            default:
+                write(c);
+                break;
+        }
+    }
+
+    private static boolean isIllegalControlCharacter(char c) {
+        return c < 0x20 && c != '\t' && c != '\n' && c != '\r';
+    }
+
+    private void write(char c) {
+        if (position == buffer.length) {
+            flushBuffer();
+        }
+        buffer[position++] = c;
+    }
+
+    private void write(String s) {
+        int length = s.length();
+        int offset = 0;
+        while (offset < length) {
+            if (position == buffer.length) {
+                flushBuffer();
+            }
+            int count = Math.min(length - offset, buffer.length - position);
+            s.getChars(offset, offset + count, buffer, position);
+            position += count;
+            offset += count;
+        }
+    }
+
+    private void flushBuffer() {
+        try {
+            writer.write(buffer, 0, position);
+            position = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -18,11 +18,16 @@
  */
 package org.apache.maven.tools.plugin.generator;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.net.URI;
+import java.nio.file.Files;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -37,11 +42,13 @@ import org.apache.maven.project.MavenProject;
 import org.apache.maven.tools.plugin.ExtendedMojoDescriptor;
 import org.apache.maven.tools.plugin.PluginDescriptorHelper;
 import org.apache.maven.tools.plugin.PluginToolsRequest;
+import org.apache.maven.tools.plugin.descriptor.CompactPluginDescriptorWriter;
+import org.apache.maven.tools.plugin.descriptor.PublishedEnhancedPluginDescriptor;
 import org.apache.maven.tools.plugin.javadoc.JavadocLinkGenerator;
+import org.apache.maven.tools.plugin.util.MavenReportDetector;
 import org.apache.maven.tools.plugin.util.PluginUtils;
 import org.codehaus.plexus.util.StringUtils;
 import org.codehaus.plexus.util.io.CachingOutputStream;
-import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
 import org.codehaus.plexus.util.xml.XMLWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -62,6 +69,13 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 public class PluginDescriptorFilesGenerator implements Generator {
     private static final Logger LOG = LoggerFactory.getLogger(PluginDescriptorFilesGenerator.class);
 
+    /**
+     * The file name of the compact binary plugin descriptor written next to {@code plugin.xml}.
+     *
+     * @since 4.0.0
+     */
+    public static final String COMPACT_DESCRIPTOR_FILE_NAME = "plugin.bin";
+
     /**
      * The type of the plugin descriptor file
      */
@@ -71,9 +85,33 @@ public class PluginDescriptorFilesGenerator implements Generator {
         XHTML
     }
 
+    /** Whether to write the descriptors in the compact binary format in addition to XML. */
+    private boolean compactDescriptors;
+
+    /** Whether to publish the enhanced descriptor for the report within the same build. */
+    private boolean publishEnhancedDescriptor;
+
+    /** The request for which {@link #javadocLinkGenerator} has been created. */
+    private PluginToolsRequest javadocLinkGeneratorRequest;
+
+    private JavadocLinkGenerator javadocLinkGenerator;
+
+    /** The javadoc link generator which has been used to resolve the {@link #typeJavadocUrls}. */
+    private JavadocLinkGenerator typeJavadocUrlsLinkGenerator;
+
+    /** The resolved javadoc URLs per parameter type, as many parameters share the same type. */
+    private final Map<String, TypeJavadocUrl> typeJavadocUrls = new HashMap<>();
+
+    /**
+     * Detects the mojos implementing {@code MavenReport} while executing, to record them in the enhanced descriptor,
+     * {@code null} if unknown.
+     */
+    private MavenReportDetector mavenReportDetector;
+
     @Override
     public void execute(File destinationDirectory, PluginToolsRequest request) throws GeneratorException {
-        try {
+        try (MavenReportDetector detector = createMavenReportDetector(request.getProject())) {
+            mavenReportDetector = detector;
             // write standard plugin.xml descriptor
             File f = new File(destinationDirectory, "plugin.xml");
             writeDescriptor(f, request, DescriptorType.STANDARD);
@@ -82,12 +120,45 @@ public class PluginDescriptorFilesGenerator implements Generator {
             MavenProject mavenProject = request.getProject();
             f = new File(destinationDirectory, PluginHelpGenerator.getPluginHelpPath(mavenProject));
             writeDescriptor(f, request, DescriptorType.LIMITED_FOR_HELP_MOJO);
+            // and pre-render it, so that the HelpMojo neither parses XML nor wraps lines
+            PluginHelpTextGenerator.execute(
+                    f, new File(destinationDirectory, PluginHelpGenerator.getPluginHelpTextPath(mavenProject)));
 
             // write enhanced plugin-enhanced.xml descriptor (containing some XHTML values)
             f = getEnhancedDescriptorFilePath(mavenProject);
             writeDescriptor(f, request, DescriptorType.XHTML);
+
+            // serialized once more only if written or published in the compact format
+            byte[] compactEnhancedDescriptor = compactDescriptors || publishEnhancedDescriptor
+                    ? toCompactDescriptor(request, DescriptorType.XHTML)
+                    : null;
+            if (publishEnhancedDescriptor) {
+                PublishedEnhancedPluginDescriptor.publish(mavenProject, compactEnhancedDescriptor);
+            }
+
+            File compactFile = new File(destinationDirectory, COMPACT_DESCRIPTOR_FILE_NAME);
+            File compactEnhancedFile = getCompactEnhancedDescriptorFilePath(mavenProject);
+            if (compactDescriptors) {
+                writeFile(compactFile, toCompactDescriptor(request, DescriptorType.STANDARD));
+                writeFile(compactEnhancedFile, compactEnhancedDescriptor);
+            } else {
+                // don't leave outdated compact descriptors behind
+                Files.deleteIfExists(compactFile.toPath());
+                Files.deleteIfExists(compactEnhancedFile.toPath());
+            }
         } catch (IOException e) {
             throw new GeneratorException(e.getMessage(), e);
+        } finally {
+            mavenReportDetector = null;
+        }
+    }
+
+    private static MavenReportDetector createMavenReportDetector(MavenProject project) {
+        try {
+            return MavenReportDetector.forProject(project);
+        } catch (IllegalArgumentException e) {
+            LOG.debug("Unable to detect report mojos, dependencies have not been resolved", e);
+            return null;
         }
     }
 
@@ -95,6 +166,44 @@ public class PluginDescriptorFilesGenerator implements Generator {
         return new File(project.getBuild().getDirectory(), "plugin-enhanced.xml");
     }
 
+    /**
+     * @param project the project
+     * @return the compact binary version of the {@link #getEnhancedDescriptorFilePath(MavenProject) enhanced
+     * descriptor}
+     * @since 4.0.0
+     */
+    public static File getCompactEnhancedDescriptorFilePath(MavenProject project) {
+        return new File(project.getBuild().getDirectory(), "plugin-enhanced.bin");
+    }
+
+    /**
+     * Enables writing the descriptors in the compact binary format (read by {@link CompactPluginDescriptorReader})
+     * in addition to XML, i.e. {@value #COMPACT_DESCRIPTOR_FILE_NAME} next to {@code plugin.xml} and
+     * {@link #getCompactEnhancedDescriptorFilePath(MavenProject)} next to the enhanced descriptor.
+     *
+     * @param compactDescriptors {@code true} to write the compact descriptors
+     * @return this generator
+     * @since 4.0.0
+     */
+    public PluginDescriptorFilesGenerator setCompactDescriptors(boolean compactDescriptors) {
+        this.compactDescriptors = compactDescriptors;
+        return this;
+    }
+
+    /**
+     * Enables publishing the enhanced descriptor in the compact binary format via
+     * {@link PublishedEnhancedPluginDescriptor}, so that a report executed later within the same build does not need
+     * to read it from disk. The descriptor then remains in memory until the end of the build.
+     *
+     * @param publishEnhancedDescriptor {@code true} to publish the enhanced descriptor
+     * @return this generator
+     * @since 4.0.0
+     */
+    public PluginDescriptorFilesGenerator setPublishEnhancedDescriptor(boolean publishEnhancedDescriptor) {
+        this.publishEnhancedDescriptor = publishEnhancedDescriptor;
+        return this;
+    }
+
     private String getVersion() {
         Package p = this.getClass().getPackage();
         String version = (p == null) ? null : p.getSpecificationVersion();
@@ -103,102 +212,136 @@ public class PluginDescriptorFilesGenerator implements Generator {
 
     public void writeDescriptor(File destinationFile, PluginToolsRequest request, DescriptorType type)
             throws IOException {
-        PluginDescriptor pluginDescriptor = request.getPluginDescriptor();
+        if (!destinationFile.getParentFile().exists()) {
+            destinationFile.getParentFile().mkdirs();
+        }
 
+        try (Writer writer = new OutputStreamWriter(new CachingOutputStream(destinationFile), UTF_8)) {
+            BufferedPrettyPrintXMLWriter w = new BufferedPrettyPrintXMLWriter(writer, UTF_8.name());
+            writeDescriptor(w, request, type);
+            w.flush();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private byte[] toCompactDescriptor(PluginToolsRequest request, DescriptorType type) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (CompactPluginDescriptorWriter w = new CompactPluginDescriptorWriter(output)) {
+            writeDescriptor(w, request, type);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return output.toByteArray();
+    }
+
+    private static void writeFile(File destinationFile, byte[] content) throws IOException {
         if (!destinationFile.getParentFile().exists()) {
             destinationFile.getParentFile().mkdirs();
         }
 
-        String apiVersion = request.getPluginDescriptor().getRequiredMavenVersion();
+        try (OutputStream output = new CachingOutputStream(destinationFile)) {
+            output.write(content);
+        }
+    }
+
+    private void writeDescriptor(XMLWriter w, PluginToolsRequest request, DescriptorType type) {
+        PluginDescriptor pluginDescriptor = request.getPluginDescriptor();
+
+        String apiVersion = pluginDescriptor.getRequiredMavenVersion();
         boolean isV4 = apiVersion != null && apiVersion.startsWith("4.");
 
-        try (Writer writer = new OutputStreamWriter(new CachingOutputStream(destinationFile), UTF_8)) {
-            XMLWriter w = new PrettyPrintXMLWriter(writer, UTF_8.name(), null);
+        final String additionalInfo;
+        switch (type) {
+            case LIMITED_FOR_HELP_MOJO:
+                additionalInfo = " (for help mojo with limited elements)";
+                break;
+            case XHTML:
+                additionalInfo = " (enhanced XHTML version (used for plugin:report))";
+                break;
+            default:
+                additionalInfo = "";
+                break;
+        }
+        w.writeMarkup("\n<!-- Generated by maven-plugin-tools " + getVersion() + additionalInfo + "-->\n\n");
+
+        w.startElement("plugin");
+        if (isV4) {
+            w.addAttribute("xmlns", "http://maven.apache.org/PLUGIN/2.0.0");
+            w.addAttribute("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance");
+            w.addAttribute(
+                    "xsi:location",
+                    "http://maven.apache.org/PLUGIN/2.0.0 https://maven.apache.org/xsd/plugin-2.0.0.xsd");
+        }
 
-            final String additionalInfo;
-            switch (type) {
-                case LIMITED_FOR_HELP_MOJO:
-                    additionalInfo = " (for help mojo with limited elements)";
-                    break;
-                case XHTML:
-                    additionalInfo = " (enhanced XHTML version (used for plugin:report))";
-                    break;
-                default:
-                    additionalInfo = "";
-                    break;
-            }
-            w.writeMarkup("\n<!-- Generated by maven-plugin-tools " + getVersion() + additionalInfo + "-->\n\n");
-
-            w.startElement("plugin");
-            if (isV4) {
-                w.addAttribute("xmlns", "http://maven.apache.org/PLUGIN/2.0.0");
-                w.addAttribute("xmlns:xsi", "http://www.w3.org/2001/XMLSchema-instance");
-                w.addAttribute(
-                        "xsi:location",
-                        "http://maven.apache.org/PLUGIN/2.0.0 https://maven.apache.org/xsd/plugin-2.0.0.xsd");
-            }
+        GeneratorUtils.element(w, "name", pluginDescriptor.getName());
 
-            GeneratorUtils.element(w, "name", pluginDescriptor.getName());
+        GeneratorUtils.element(w, "description", pluginDescriptor.getDescription());
 
-            GeneratorUtils.element(w, "description", pluginDescriptor.getDescription());
+        GeneratorUtils.element(w, "groupId", pluginDescriptor.getGroupId());
 
-            GeneratorUtils.element(w, "groupId", pluginDescriptor.getGroupId());
+        GeneratorUtils.element(w, "artifactId", pluginDescriptor.getArtifactId());
 
-            GeneratorUtils.element(w, "artifactId", pluginDescriptor.getArtifactId());
+        GeneratorUtils.element(w, "version", pluginDescriptor.getVersion());
 
-            GeneratorUtils.element(w, "version", pluginDescriptor.getVersion());
+        GeneratorUtils.element(w, "goalPrefix", pluginDescriptor.getGoalPrefix());
 
-            GeneratorUtils.element(w, "goalPrefix", pluginDescriptor.getGoalPrefix());
+        if (type != DescriptorType.LIMITED_FOR_HELP_MOJO) {
+            GeneratorUtils.element(w, "isolatedRealm", String.valueOf(pluginDescriptor.isIsolatedRealm()));
 
-            if (type != DescriptorType.LIMITED_FOR_HELP_MOJO) {
-                GeneratorUtils.element(w, "isolatedRealm", String.valueOf(pluginDescriptor.isIsolatedRealm()));
+            GeneratorUtils.element(w, "inheritedByDefault", String.valueOf(pluginDescriptor.isInheritedByDefault()));
 
+            if (StringUtils.isNotBlank(PluginDescriptorHelper.getRequiredJavaVersion(pluginDescriptor))) {
                 GeneratorUtils.element(
-                        w, "inheritedByDefault", String.valueOf(pluginDescriptor.isInheritedByDefault()));
+                        w, "requiredJavaVersion", PluginDescriptorHelper.getRequiredJavaVersion(pluginDescriptor));
+            }
+            if (StringUtils.isNotBlank(pluginDescriptor.getRequiredMavenVersion())) {
+                GeneratorUtils.element(w, "requiredMavenVersion", pluginDescriptor.getRequiredMavenVersion());
+            }
+        }
 
-                if (StringUtils.isNotBlank(PluginDescriptorHelper.getRequiredJavaVersion(pluginDescriptor))) {
-                    GeneratorUtils.element(
-                            w, "requiredJavaVersion", PluginDescriptorHelper.getRequiredJavaVersion(pluginDescriptor));
-                }
-                if (StringUtils.isNotBlank(pluginDescriptor.getRequiredMavenVersion())) {
-                    GeneratorUtils.element(w, "requiredMavenVersion", pluginDescriptor.getRequiredMavenVersion());
-                }
+        w.startElement("mojos");
+
+        JavadocLinkGenerator javadocLinkGenerator = getJavadocLinkGenerator(request);
+        if (pluginDescriptor.getMojos() != null) {
+            List<MojoDescriptor> descriptors = pluginDescriptor.getMojos();
+
+            PluginUtils.sortMojos(descriptors);
+
+            for (MojoDescriptor descriptor : descriptors) {
+                processMojoDescriptor(descriptor, w, type, javadocLinkGenerator, isV4);
             }
+        }
 
-            w.startElement("mojos");
+        w.endElement();
 
-            final JavadocLinkGenerator javadocLinkGenerator;
+        if (!isV4 && type != DescriptorType.LIMITED_FOR_HELP_MOJO) {
+            GeneratorUtils.writeDependencies(w, pluginDescriptor);
+        }
+
+        w.endElement();
+    }
+
+    /**
+     * @param request the request
+     * @return the javadoc link generator for the given request (shared by all descriptors written for the same request)
+     * or {@code null} if no javadoc URLs are configured
+     */
+    private JavadocLinkGenerator getJavadocLinkGenerator(PluginToolsRequest request) {
+        if (request != javadocLinkGeneratorRequest) {
             if (request.getInternalJavadocBaseUrl() != null
                     || (request.getExternalJavadocBaseUrls() != null
                             && !request.getExternalJavadocBaseUrls().isEmpty())) {
                 javadocLinkGenerator = new JavadocLinkGenerator(
                         request.getInternalJavadocBaseUrl(),
                         request.getInternalJavadocVersion(),
-                        request.getExternalJavadocBaseUrls(),
-                        request.getSettings());
+                        request.getExternalJavadocSites());
             } else {
                 javadocLinkGenerator = null;
             }
-            if (pluginDescriptor.getMojos() != null) {
-                List<MojoDescriptor> descriptors = pluginDescriptor.getMojos();
-
-                PluginUtils.sortMojos(descriptors);
-
-                for (MojoDescriptor descriptor : descriptors) {
-                    processMojoDescriptor(descriptor, w, type, javadocLinkGenerator, isV4);
-                }
-            }
-
-            w.endElement();
-
-            if (!isV4 && type != DescriptorType.LIMITED_FOR_HELP_MOJO) {
-                GeneratorUtils.writeDependencies(w, pluginDescriptor);
-            }
-
-            w.endElement();
-
-            writer.flush();
+            javadocLinkGeneratorRequest = request;
         }
+        return javadocLinkGenerator;
     }
 
     /**
@@ -438,6 +581,14 @@ public class PluginDescriptorFilesGenerator implements Generator {
             }
         }
 
+        // the report doesn't need to inspect the mojo classes itself
+        if (type == DescriptorType.XHTML && mavenReportDetector != null && mojoDescriptor.getImplementation() != null) {
+            GeneratorUtils.element(
+                    w,
+                    "mavenReport",
+                    String.valueOf(mavenReportDetector.isMavenReport(mojoDescriptor.getImplementation())));
+        }
+
         // ----------------------------------------------------------------------
         // Parameters
         // ----------------------------------------------------------------------
@@ -640,16 +791,16 @@ public class PluginDescriptorFilesGenerator implements Generator {
             if (parameter.getType().indexOf('.') == -1) {
                 LOG.debug("Javadoc URLs are not available for primitive types like {}", parameter.getType());
             } else {
-                try {
-                    URI javadocUrl = getJavadocUrlForType(javadocLinkGenerator, parameterType);
-                    GeneratorUtils.element(w, "typeJavadocUrl", javadocUrl.toString());
-                } catch (IllegalArgumentException e) {
+                TypeJavadocUrl javadocUrl = getCachedJavadocUrlForType(javadocLinkGenerator, parameterType);
+                if (javadocUrl.url != null) {
+                    GeneratorUtils.element(w, "typeJavadocUrl", javadocUrl.url.toString());
+                } else {
                     LOG.warn(
                             "Could not get javadoc URL for type {} of parameter {} from goal {}: {}",
                             parameter.getType(),
                             parameter.getName(),
                             goal,
-                            e.getMessage());
+                            javadocUrl.errorMessage);
                 }
             }
         }
@@ -686,6 +837,34 @@ public class PluginDescriptorFilesGenerator implements Generator {
         return javadocLinkGenerator.createLink(extractBinaryNameForJavadoc(type));
     }
 
+    private TypeJavadocUrl getCachedJavadocUrlForType(JavadocLinkGenerator javadocLinkGenerator, String type) {
+        if (javadocLinkGenerator != typeJavadocUrlsLinkGenerator) {
+            typeJavadocUrls.clear();
+            typeJavadocUrlsLinkGenerator = javadocLinkGenerator;
+        }
+        return typeJavadocUrls.computeIfAbsent(type, t -> {
+            try {
+                return new TypeJavadocUrl(getJavadocUrlForType(javadocLinkGenerator, t), null);
+            } catch (IllegalArgumentException e) {
+                return new TypeJavadocUrl(null, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * The javadoc URL of a type or the reason why it could not be determined.
+     */
+    private static final class TypeJavadocUrl {
+        private final URI url;
+
+        private final String errorMessage;
+
+        TypeJavadocUrl(URI url, String errorMessage) {
+            this.url = url;
+            this.errorMessage = errorMessage;
+        }
+    }
+
     /**
      * Get the expression value, eventually surrounding it with <code>${ }</code>.
      *
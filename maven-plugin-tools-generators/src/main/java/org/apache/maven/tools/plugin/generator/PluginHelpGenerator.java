@@ -35,8 +35,9 @@ import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Generates an <code>HelpMojo</code> class from <code>help-class-source.vm</code> template.
- * The generated mojo reads help content from <code>META-INF/maven/${groupId}/${artifactId}/plugin-help.xml</code>
- * resource, which is generated by this {@link PluginDescriptorFilesGenerator}.
+ * The generated mojo reads the pre-rendered help content from
+ * <code>META-INF/maven/${groupId}/${artifactId}/plugin-help.bin</code> resource, which is generated by
+ * {@link PluginDescriptorFilesGenerator} from <code>plugin-help.xml</code>.
  *
  * @author <a href="mailto:vincent.siveton@gmail.com">Vincent Siveton</a>
  * @since 2.4
@@ -77,7 +78,7 @@ public class PluginHelpGenerator {
             File helpClass = new File(destinationDirectory, sourcePath);
             helpClass.getParentFile().mkdirs();
 
-            String helpClassSources = getHelpClassSources(getPluginHelpPath(mavenProject));
+            String helpClassSources = getHelpClassSources(getPluginHelpTextPath(mavenProject));
 
             try (Writer w = new OutputStreamWriter(new CachingOutputStream(helpClass), UTF_8)) {
                 w.write(helpClassSources);
@@ -147,4 +148,8 @@ public class PluginHelpGenerator {
     static String getPluginHelpPath(MavenProject mavenProject) {
         return mavenProject.getGroupId() + "/" + mavenProject.getArtifactId() + "/plugin-help.xml";
     }
+
+    static String getPluginHelpTextPath(MavenProject mavenProject) {
+        return mavenProject.getGroupId() + "/" + mavenProject.getArtifactId() + "/plugin-help.bin";
+    }
 }
@@ -0,0 +1,388 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.codehaus.plexus.util.io.CachingOutputStream;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
+import org.codehaus.plexus.util.xml.pull.XmlPullParserException;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Pre-renders the output of the generated {@code HelpMojo} from {@code plugin-help.xml}, so that the
+ * {@code HelpMojo} neither needs to parse XML nor to wrap lines at runtime. The text is assembled exactly like the
+ * {@code HelpMojo} of {@code help-class-source.vm} does.
+ * <p>
+ * The resource starts with {@link #MAGIC}, {@link #VERSION}, the line length and indent size the text has been
+ * rendered for and an index, followed by the blocks of text. The index consists of the offsets of the header block
+ * and of the goal summary block and, for each goal, its name and the offsets of its short and its detailed block.
+ * Offsets are relative to the end of the index, so the blocks are in ascending order as the {@code HelpMojo} reads
+ * them. Each block consists of the rendered text and the paragraphs it has been rendered from (each with its
+ * indentation level), the latter are wrapped at runtime in case of a non-default line length or indent size.
+ * All strings are stored as {@code int} byte count followed by their UTF-8 bytes.
+ *
+ * @since 4.0.0
+ */
+final class PluginHelpTextGenerator {
+
+    /** The magic number identifying the format, i.e. {@code MPLH} in ASCII. */
+    static final int MAGIC = 0x4D504C48;
+
+    static final byte VERSION = 1;
+
+    static final int DEFAULT_LINE_LENGTH = 80;
+
+    static final int DEFAULT_INDENT_SIZE = 2;
+
+    private PluginHelpTextGenerator() {
+        // no instances
+    }
+
+    /**
+     * @param pluginHelpFile the {@code plugin-help.xml} to render
+     * @param destinationFile the resource to write, only written if its content changes
+     * @throws IOException in case the help descriptor could not be read or the resource could not be written
+     */
+    static void execute(File pluginHelpFile, File destinationFile) throws IOException {
+        Xpp3Dom plugin;
+        try (Reader reader = Files.newBufferedReader(pluginHelpFile.toPath(), UTF_8)) {
+            // untrimmed to get the same text content as the DOM used by the HelpMojo
+            plugin = Xpp3DomBuilder.build(reader, false);
+        } catch (XmlPullParserException e) {
+            throw new IOException("Unable to read " + pluginHelpFile, e);
+        }
+
+        Block header = new Block();
+        String name = getValue(plugin, "name");
+        String version = getValue(plugin, "version");
+        String id = getValue(plugin, "groupId") + ":" + getValue(plugin, "artifactId") + ":" + version;
+        if (isNotEmpty(name) && !name.contains(id)) {
+            header.append(name + " " + version, 0);
+        } else {
+            if (isNotEmpty(name)) {
+                header.append(name, 0);
+            } else {
+                header.append(id, 0);
+            }
+        }
+        header.append(getValue(plugin, "description"), 1);
+        header.append("", 0);
+
+        String goalPrefix = getValue(plugin, "goalPrefix");
+        Xpp3Dom[] mojos = getSingleChild(plugin, "mojos").getChildren("mojo");
+
+        Block summary = new Block();
+        summary.append("This plugin has " + mojos.length + (mojos.length > 1 ? " goals:" : " goal:"), 0);
+        summary.append("", 0);
+
+        List<String> goals = new ArrayList<>();
+        List<Block> blocks = new ArrayList<>();
+        blocks.add(header);
+        blocks.add(summary);
+        for (Xpp3Dom mojo : mojos) {
+            goals.add(getValue(mojo, "goal"));
+            blocks.add(renderGoal(goalPrefix, mojo, false));
+            blocks.add(renderGoal(goalPrefix, mojo, true));
+        }
+
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        List<Integer> offsets = new ArrayList<>();
+        for (Block block : blocks) {
+            offsets.add(data.size());
+            block.write(new DataOutputStream(data));
+        }
+
+        destinationFile.getParentFile().mkdirs();
+        try (OutputStream os = new CachingOutputStream(destinationFile);
+                DataOutputStream out = new DataOutputStream(os)) {
+            out.writeInt(MAGIC);
+            out.writeByte(VERSION);
+            out.writeInt(DEFAULT_LINE_LENGTH);
+            out.writeInt(DEFAULT_INDENT_SIZE);
+            out.writeInt(offsets.get(0));
+            out.writeInt(offsets.get(1));
+            out.writeInt(goals.size());
+            for (int i = 0; i < goals.size(); i++) {
+                writeString(out, goals.get(i));
+                out.writeInt(offsets.get(2 + 2 * i));
+                out.writeInt(offsets.get(3 + 2 * i));
+            }
+            data.writeTo(out);
+        }
+    }
+
+    private static Block renderGoal(String goalPrefix, Xpp3Dom mojo, boolean detail) throws IOException {
+        Block block = new Block();
+        String mojoGoal = getValue(mojo, "goal");
+        Xpp3Dom configurationElement = findSingleChild(mojo, "configuration");
+        Xpp3Dom description = findSingleChild(mojo, "description");
+        block.append(goalPrefix + ":" + mojoGoal, 0);
+        Xpp3Dom deprecated = findSingleChild(mojo, "deprecated");
+        if (deprecated != null && isNotEmpty(getTextContent(deprecated))) {
+            block.append("Deprecated. " + getTextContent(deprecated), 1);
+            if (detail && description != null) {
+                block.append("", 0);
+                block.append(getTextContent(description), 1);
+            }
+        } else if (description != null) {
+            block.append(getTextContent(description), 1);
+        }
+        block.append("", 0);
+
+        if (detail) {
+            Xpp3Dom parametersNode = getSingleChild(mojo, "parameters");
+            block.append("Available parameters:", 1);
+            block.append("", 0);
+
+            for (Xpp3Dom parameter : parametersNode.getChildren("parameter")) {
+                renderParameter(block, parameter, configurationElement);
+            }
+        }
+        return block;
+    }
+
+    /**
+     * Renders a parameter, whose default value and expression are either given by the {@code configuration} element
+     * of the mojo (Maven 3 plugins) or by child elements of the parameter (Maven 4 plugins).
+     */
+    private static void renderParameter(Block block, Xpp3Dom parameter, Xpp3Dom configurationElement)
+            throws IOException {
+        String parameterName = getValue(parameter, "name");
+        String parameterDescription = getValue(parameter, "description");
+
+        Xpp3Dom fieldConfigurationElement = null;
+        if (configurationElement != null) {
+            fieldConfigurationElement = findSingleChild(configurationElement, parameterName);
+        }
+
+        String parameterDefaultValue = "";
+        String parameterExpression;
+        if (fieldConfigurationElement != null) {
+            String defaultValue = fieldConfigurationElement.getAttribute("default-value");
+            if (defaultValue != null) {
+                parameterDefaultValue = " (Default: " + defaultValue + ")";
+            }
+            parameterExpression = getTextContent(fieldConfigurationElement);
+        } else {
+            String defaultValue = getValueOr(parameter, "defaultValue", "");
+            if (isNotEmpty(defaultValue)) {
+                parameterDefaultValue = " (Default: " + defaultValue + ")";
+            }
+            parameterExpression = getValueOr(parameter, "expression", "");
+        }
+        block.append(parameterName + parameterDefaultValue, 2);
+        Xpp3Dom deprecated = findSingleChild(parameter, "deprecated");
+        if (deprecated != null && isNotEmpty(getTextContent(deprecated))) {
+            block.append("Deprecated. " + getTextContent(deprecated), 3);
+            block.append("", 0);
+        }
+        if (isNotEmpty(parameterDescription)) {
+            block.append(parameterDescription, 3);
+        }
+        if ("true".equals(getValue(parameter, "required"))) {
+            block.append("Required: Yes", 3);
+        }
+        if (isNotEmpty(parameterExpression)) {
+            String property = getPropertyFromExpression(parameterExpression);
+            block.append("User property: " + property, 3);
+        }
+
+        block.append("", 0);
+    }
+
+    private static boolean isNotEmpty(String string) {
+        return string != null && !string.isEmpty();
+    }
+
+    /**
+     * @return the text content like {@code org.w3c.dom.Node#getTextContent()}, i.e. an empty string for elements
+     * without text
+     */
+    private static String getTextContent(Xpp3Dom element) {
+        return element.getValue() != null ? element.getValue() : "";
+    }
+
+    private static String getValue(Xpp3Dom node, String elementName) throws IOException {
+        return getTextContent(getSingleChild(node, elementName));
+    }
+
+    private static String getValueOr(Xpp3Dom node, String elementName, String def) throws IOException {
+        Xpp3Dom child = findSingleChild(node, elementName);
+        return child != null ? getTextContent(child) : def;
+    }
+
+    private static Xpp3Dom getSingleChild(Xpp3Dom node, String elementName) throws IOException {
+        Xpp3Dom child = findSingleChild(node, elementName);
+        if (child == null) {
+            throw new IOException("Could not find " + elementName + " in plugin-help.xml");
+        }
+        return child;
+    }
+
+    private static Xpp3Dom findSingleChild(Xpp3Dom node, String elementName) throws IOException {
+        Xpp3Dom[] children = node.getChildren(elementName);
+        if (children.length > 1) {
+            throw new IOException("Multiple " + elementName + " in plugin-help.xml");
+        }
+        return children.length == 0 ? null : children[0];
+    }
+
+    private static String getPropertyFromExpression(String expression) {
+        if (expression != null
+                && expression.startsWith("${")
+                && expression.endsWith("}")
+                && !expression.substring(2).contains("${")) {
+            // expression="${xxx}" -> property="xxx"
+            return expression.substring(2, expression.length() - 1);
+        }
+        // no property can be extracted
+        return null;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * A sequence of paragraphs together with their text rendered at the default line length and indent size.
+     */
+    static final class Block {
+        private final StringBuilder text = new StringBuilder();
+
+        private final List<String> paragraphs = new ArrayList<>();
+
+        private final List<Integer> indents = new ArrayList<>();
+
+        void append(String paragraph, int indent) {
+            paragraphs.add(paragraph);
+            indents.add(indent);
+            PluginHelpTextGenerator.append(text, paragraph, indent, DEFAULT_INDENT_SIZE, DEFAULT_LINE_LENGTH);
+        }
+
+        String getText() {
+            return text.toString();
+        }
+
+        private void write(DataOutputStream out) throws IOException {
+            writeString(out, text.toString());
+            ByteArrayOutputStream paragraphBytes = new ByteArrayOutputStream();
+            DataOutputStream paragraphOut = new DataOutputStream(paragraphBytes);
+            paragraphOut.writeInt(paragraphs.size());
+            for (int i = 0; i < paragraphs.size(); i++) {
+                paragraphOut.writeByte(indents.get(i));
+                writeString(paragraphOut, paragraphs.get(i));
+            }
+            out.writeInt(paragraphBytes.size());
+            paragraphBytes.writeTo(out);
+        }
+    }
+
+    // ----------------------------------------------------------------------
+    // Line wrapping, must be kept in sync with help-class-source.vm
+    // ----------------------------------------------------------------------
+
+    /**
+     * Appends the text wrapped into lines, each terminated by a new line.
+     */
+    static void append(StringBuilder sb, String description, int indent, int indentSize, int lineLength) {
+        for (String line : toLines(description, indent, indentSize, lineLength)) {
+            sb.append(line).append('\n');
+        }
+    }
+
+    private static List<String> toLines(String text, int indent, int indentSize, int lineLength) {
+        List<String> lines = new ArrayList<>();
+
+        String ind = repeat("\t", indent);
+
+        String[] plainLines = text.split("(\r\n)|(\r)|(\n)");
+
+        for (String plainLine : plainLines) {
+            toLines(lines, ind + plainLine, indentSize, lineLength);
+        }
+
+        return lines;
+    }
+
+    private static void toLines(List<String> lines, String line, int indentSize, int lineLength) {
+        int lineIndent = getIndentLevel(line);
+        StringBuilder buf = new StringBuilder(256);
+
+        String[] tokens = line.split(" +");
+
+        for (String token : tokens) {
+            if (buf.length() > 0) {
+                if (buf.length() + token.length() >= lineLength) {
+                    lines.add(buf.toString());
+                    buf.setLength(0);
+                    buf.append(repeat(" ", lineIndent * indentSize));
+                } else {
+                    buf.append(' ');
+                }
+            }
+
+            for (int j = 0; j < token.length(); j++) {
+                char c = token.charAt(j);
+                if (c == '\t') {
+                    buf.append(repeat(" ", indentSize - buf.length() % indentSize));
+                } else if (c == '\u00A0') {
+                    buf.append(' ');
+                } else {
+                    buf.append(c);
+                }
+            }
+        }
+        lines.add(buf.toString());
+    }
+
+    private static int getIndentLevel(String line) {
+        int level = 0;
+        for (int i = 0; i < line.length() && line.charAt(i) == '\t'; i++) {
+            level++;
+        }
+        for (int i = level + 1; i <= level + 4 && i < line.length(); i++) {
+            if (line.charAt(i) == '\t') {
+                level++;
+                break;
+            }
+        }
+        return level;
+    }
+
+    private static String repeat(String str, int repeat) {
+        StringBuilder buffer = new StringBuilder(repeat * str.length());
+        for (int i = 0; i < repeat; i++) {
+            buffer.append(str);
+        }
+        return buffer.toString();
+    }
+}
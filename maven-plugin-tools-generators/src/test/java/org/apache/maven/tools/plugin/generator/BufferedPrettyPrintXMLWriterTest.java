@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.generator;
+
+import java.io.StringWriter;
+import java.util.function.Consumer;
+
+import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
+import org.codehaus.plexus.util.xml.XMLWriter;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class BufferedPrettyPrintXMLWriterTest {
+
+    private static final String SPECIAL_CHARACTERS =
+            "&<>\"' tab\t lf\n crlf\r\n cr\r cr-illegal-lf\r\u0001\n illegal\u0000\u001F end\r";
+
+    @Test
+    void escaping() throws Exception {
+        assertSameOutput(w -> {
+            w.writeMarkup("\n<!-- Generated by test\r\nwith\rline breaks -->\n\n");
+            w.startElement("plugin");
+            w.addAttribute("xmlns", "http://maven.apache.org/PLUGIN/2.0.0");
+            w.addAttribute("special", SPECIAL_CHARACTERS);
+            element(w, "text", SPECIAL_CHARACTERS);
+            element(w, "unicode", "ä€😀");
+            element(w, "empty", "");
+            w.startElement("noText");
+            w.endElement();
+            w.startElement("nested");
+            w.startElement("withAttribute");
+            w.addAttribute("implementation", "java.lang.String");
+            w.addAttribute("default-value", "${project}");
+            w.endElement();
+            w.writeText("mixed");
+            element(w, "child", "value");
+            w.endElement();
+            w.endElement();
+        });
+    }
+
+    @Test
+    void largeDescriptor() throws Exception {
+        // exceeds the buffer size many times
+        assertSameOutput(w -> {
+            w.writeMarkup("\n<!-- Generated by test -->\n\n");
+            w.startElement("plugin");
+            w.startElement("mojos");
+            for (int i = 0; i < 1000; i++) {
+                w.startElement("mojo");
+                element(w, "goal", "goal" + i);
+                element(w, "description", "Description of <code>goal" + i + "</code> & more.\nSecond line.");
+                w.startElement("parameters");
+                for (int j = 0; j < 10; j++) {
+                    w.startElement("parameter");
+                    element(w, "name", "parameter" + j);
+                    element(w, "type", "java.util.Map<java.lang.String,java.lang.String>");
+                    element(w, "required", "false");
+                    w.endElement();
+                }
+                w.endElement();
+                w.endElement();
+            }
+            w.endElement();
+            w.endElement();
+        });
+    }
+
+    private static void assertSameOutput(Consumer<XMLWriter> content) throws Exception {
+        StringWriter expected = new StringWriter();
+        content.accept(new PrettyPrintXMLWriter(expected, "UTF-8", null));
+
+        StringWriter actual = new StringWriter();
+        BufferedPrettyPrintXMLWriter w = new BufferedPrettyPrintXMLWriter(actual, "UTF-8");
+        content.accept(w);
+        w.flush();
+
+        assertEquals(expected.toString(), actual.toString());
+    }
+
+    private static void element(XMLWriter w, String name, String text) {
+        w.startElement(name);
+        w.writeText(text);
+        w.endElement();
+    }
+}
@@ -21,10 +21,14 @@ package org.apache.maven.tools.plugin.generator;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.PrintWriter;
+import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.net.URI;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.maven.plugin.descriptor.DuplicateParameterException;
@@ -32,10 +36,14 @@ import org.apache.maven.plugin.descriptor.MojoDescriptor;
 import org.apache.maven.plugin.descriptor.Parameter;
 import org.apache.maven.plugin.descriptor.PluginDescriptor;
 import org.apache.maven.plugin.descriptor.PluginDescriptorBuilder;
+import org.apache.maven.tools.plugin.descriptor.CompactPluginDescriptorReader;
 import org.apache.maven.tools.plugin.javadoc.JavadocLinkGenerator;
 import org.codehaus.plexus.component.repository.ComponentDependency;
 import org.codehaus.plexus.configuration.PlexusConfiguration;
 import org.codehaus.plexus.util.ReaderFactory;
+import org.codehaus.plexus.util.xml.PrettyPrintXMLWriter;
+import org.codehaus.plexus.util.xml.Xpp3Dom;
+import org.codehaus.plexus.util.xml.Xpp3DomBuilder;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -84,6 +92,29 @@ class PluginDescriptorFilesGeneratorTest extends AbstractGeneratorTestCase {
             assertEquals(1, dependencies.size());
             checkDependency("testGroup", "testArtifact", "0.0.0", dependencies.get(0));
         }
+
+        // the compact descriptors must contain the same tree as the XML ones
+        assertCompactDescriptor(
+                pluginDescriptorFile,
+                new File(destinationDirectory, PluginDescriptorFilesGenerator.COMPACT_DESCRIPTOR_FILE_NAME));
+        assertCompactDescriptor(
+                new File(basedir, "target/plugin-enhanced.xml"), new File(basedir, "target/plugin-enhanced.bin"));
+    }
+
+    @Override
+    protected void setupGenerator() throws Exception {
+        super.setupGenerator();
+        ((PluginDescriptorFilesGenerator) generator).setCompactDescriptors(true);
+    }
+
+    private static void assertCompactDescriptor(File xmlFile, File compactFile) throws Exception {
+        Xpp3Dom expected;
+        try (Reader reader = ReaderFactory.newXmlReader(xmlFile)) {
+            expected = Xpp3DomBuilder.build(reader);
+        }
+        try (InputStream input = Files.newInputStream(compactFile.toPath())) {
+            assertEquals(expected, CompactPluginDescriptorReader.read(input));
+        }
     }
 
     private String readFile(File pluginDescriptorFile) throws IOException {
@@ -178,4 +209,67 @@ class PluginDescriptorFilesGeneratorTest extends AbstractGeneratorTestCase {
                         linkGenerator,
                         "java.util.function.BiFunction<java.lang.String,java.lang.String,java.lang.String>"));
     }
+
+    @Test
+    void writeParameterTypeResolvesEachTypeOnlyOnce() throws Exception {
+        URI javadocBaseUri = new URI("http://localhost/apidocs/");
+        List<String> resolvedBinaryNames = new ArrayList<>();
+        JavadocLinkGenerator linkGenerator = new JavadocLinkGenerator(javadocBaseUri, "1.8") {
+            @Override
+            public URI createLink(String binaryName) {
+                resolvedBinaryNames.add(binaryName);
+                if (binaryName.startsWith("com.example.")) {
+                    throw new IllegalArgumentException("Found no javadoc site for " + binaryName);
+                }
+                return super.createLink(binaryName);
+            }
+        };
+        String[] types = {
+            "java.lang.String", "java.io.File", "java.util.List<java.lang.Integer>", "com.example.Unknown"
+        };
+
+        PluginDescriptorFilesGenerator generator = new PluginDescriptorFilesGenerator();
+        StringWriter output = new StringWriter();
+        PrettyPrintXMLWriter w = new PrettyPrintXMLWriter(output);
+        w.startElement("parameters");
+        int parameterCount = 1000;
+        for (int i = 0; i < parameterCount; i++) {
+            Parameter parameter = new Parameter();
+            parameter.setName("parameter" + i);
+            parameter.setType(types[i % types.length]);
+            w.startElement("parameter");
+            generator.writeParameterType(
+                    w, PluginDescriptorFilesGenerator.DescriptorType.XHTML, linkGenerator, parameter, "goal");
+            w.endElement();
+        }
+        w.endElement();
+
+        // the number of resolutions only depends on the number of distinct types, not on the number of parameters
+        assertEquals(types.length, resolvedBinaryNames.size());
+        String xml = output.toString();
+        assertEquals(parameterCount / types.length, countOccurrences(xml, "java/io/File.html"));
+        assertEquals(parameterCount / types.length, countOccurrences(xml, "java/lang/Integer.html"));
+        assertEquals(
+                parameterCount - parameterCount / types.length, countOccurrences(xml, "<typeJavadocUrl>"));
+
+        // a different link generator must not reuse the previously resolved URLs
+        JavadocLinkGenerator otherLinkGenerator =
+                new JavadocLinkGenerator(new URI("http://localhost/other-apidocs/"), "1.8");
+        Parameter parameter = new Parameter();
+        parameter.setName("other");
+        parameter.setType("java.io.File");
+        output.getBuffer().setLength(0);
+        w = new PrettyPrintXMLWriter(output);
+        generator.writeParameterType(
+                w, PluginDescriptorFilesGenerator.DescriptorType.XHTML, otherLinkGenerator, parameter, "goal");
+        assertTrue(output.toString().contains("http://localhost/other-apidocs/java/io/File.html"));
+    }
+
+    private static int countOccurrences(String text, String substring) {
+        int count = 0;
+        for (int index = text.indexOf(substring); index >= 0; index = text.indexOf(substring, index + 1)) {
+            count++;
+        }
+        return count;
+    }
 }
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.maven.tools.plugin.generator;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PluginHelpTextGeneratorTest {
+
+    private static final String PLUGIN_HELP = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<plugin>\n"
+            + "  <name>Test Plugin</name>\n"
+            + "  <description>The description of the test plugin</description>\n"
+            + "  <groupId>org.example</groupId>\n"
+            + "  <artifactId>test-maven-plugin</artifactId>\n"
+            + "  <version>1.0</version>\n"
+            + "  <goalPrefix>test</goalPrefix>\n"
+            + "  <mojos>\n"
+            + "    <mojo>\n"
+            + "      <goal>first</goal>\n"
+            + "      <description>The first goal with a description which is long enough to be wrapped into"
+            + " multiple lines.</description>\n"
+            + "      <parameters>\n"
+            + "        <parameter>\n"
+            + "          <name>v3</name>\n"
+            + "          <required>true</required>\n"
+            + "          <description>A Maven 3 parameter</description>\n"
+            + "        </parameter>\n"
+            + "      </parameters>\n"
+            + "      <configuration>\n"
+            + "        <v3 default-value=\"value &amp; more\">${test.v3}</v3>\n"
+            + "      </configuration>\n"
+            + "    </mojo>\n"
+            + "    <mojo>\n"
+            + "      <goal>second</goal>\n"
+            + "      <description></description>\n"
+            + "      <deprecated>Use first</deprecated>\n"
+            + "      <parameters>\n"
+            + "        <parameter>\n"
+            + "          <name>v4</name>\n"
+            + "          <required>false</required>\n"
+            + "          <description>A Maven 4 parameter</description>\n"
+            + "          <expression>${test.v4}</expression>\n"
+            + "          <defaultValue>4</defaultValue>\n"
+            + "        </parameter>\n"
+            + "      </parameters>\n"
+            + "    </mojo>\n"
+            + "  </mojos>\n"
+            + "</plugin>\n";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void preRenderedText() throws Exception {
+        Path pluginHelp = tempDir.resolve("plugin-help.xml");
+        Files.write(pluginHelp, PLUGIN_HELP.getBytes(UTF_8));
+        Path helpText = tempDir.resolve("help/plugin-help.bin");
+
+        PluginHelpTextGenerator.execute(pluginHelp.toFile(), helpText.toFile());
+
+        Map<String, String> blocks = read(helpText, true);
+        assertEquals("Test Plugin 1.0\n  The description of the test plugin\n\n", blocks.get("header"));
+        assertEquals("This plugin has 2 goals:\n\n", blocks.get("summary"));
+        assertEquals(
+                "test:first\n"
+                        + "  The first goal with a description which is long enough to be wrapped into\n"
+                        + "  multiple lines.\n\n",
+                blocks.get("first"));
+        assertEquals(
+                "test:first\n"
+                        + "  The first goal with a description which is long enough to be wrapped into\n"
+                        + "  multiple lines.\n\n"
+                        + "  Available parameters:\n\n"
+                        + "    v3 (Default: value & more)\n"
+                        + "      A Maven 3 parameter\n"
+                        + "      Required: Yes\n"
+                        + "      User property: test.v3\n\n",
+                blocks.get("first-detail"));
+        assertEquals("test:second\n  Deprecated. Use first\n\n", blocks.get("second"));
+        assertEquals(
+                "test:second\n"
+                        + "  Deprecated. Use first\n\n"
+                        // the empty description of the deprecated goal only consists of the indentation
+                        + "  \n\n"
+                        + "  Available parameters:\n\n"
+                        + "    v4 (Default: 4)\n"
+                        + "      A Maven 4 parameter\n"
+                        + "      User property: test.v4\n\n",
+                blocks.get("second-detail"));
+
+        // the paragraphs wrapped with the defaults give the pre-rendered text
+        assertEquals(blocks, read(helpText, false));
+    }
+
+    /**
+     * Reads all blocks of the help resource, either their pre-rendered text or their wrapped paragraphs.
+     */
+    private static Map<String, String> read(Path helpText, boolean rendered) throws IOException {
+        Map<String, String> blocks = new LinkedHashMap<>();
+        try (InputStream is = Files.newInputStream(helpText);
+                DataInputStream in = new DataInputStream(is)) {
+            assertEquals(PluginHelpTextGenerator.MAGIC, in.readInt());
+            assertEquals(PluginHelpTextGenerator.VERSION, in.readByte());
+            assertEquals(PluginHelpTextGenerator.DEFAULT_LINE_LENGTH, in.readInt());
+            assertEquals(PluginHelpTextGenerator.DEFAULT_INDENT_SIZE, in.readInt());
+            Map<Integer, String> offsets = new LinkedHashMap<>();
+            offsets.put(in.readInt(), "header");
+            offsets.put(in.readInt(), "summary");
+            int goalCount = in.readInt();
+            for (int i = 0; i < goalCount; i++) {
+                String goal = readString(in, in.readInt());
+                offsets.put(in.readInt(), goal);
+                offsets.put(in.readInt(), goal + "-detail");
+            }
+            int position = 0;
+            for (Map.Entry<Integer, String> offset : offsets.entrySet()) {
+                assertEquals(offset.getKey().intValue(), position);
+                int textLength = in.readInt();
+                String text = readString(in, textLength);
+                int paragraphsLength = in.readInt();
+                StringBuilder sb = new StringBuilder();
+                int paragraphCount = in.readInt();
+                for (int i = 0; i < paragraphCount; i++) {
+                    int indent = in.readByte();
+                    PluginHelpTextGenerator.append(
+                            sb,
+                            readString(in, in.readInt()),
+                            indent,
+                            PluginHelpTextGenerator.DEFAULT_INDENT_SIZE,
+                            PluginHelpTextGenerator.DEFAULT_LINE_LENGTH);
+                }
+                blocks.put(offset.getValue(), rendered ? text : sb.toString());
+                position += 4 + textLength + 4 + paragraphsLength;
+            }
+        }
+        return blocks;
+    }
+
+    private static String readString(DataInputStream in, int length) throws IOException {
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, UTF_8);
+    }
+}